@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.FrozenApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Resolves the annotations of {@link #PACKAGES} packages of {@link #TYPES}
+ * types with a field and two methods each. One of the methods has no
+ * annotations of its own, so its lookup falls back to the type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiDescriptionBenchmark {
+
+	static final String MUTABLE = "mutable"; //$NON-NLS-1$
+
+	static final String FROZEN = "frozen"; //$NON-NLS-1$
+
+	static final int PACKAGES = 20;
+
+	static final int TYPES = 40;
+
+	@Param({ MUTABLE, FROZEN })
+	public String description;
+
+	private IApiDescription fDescription;
+
+	private IElementDescriptor[] fElements;
+
+	@Setup
+	public void setUp() {
+		ApiDescription apiDescription = new ApiDescription(SyntheticBundles.getSymbolicName(0));
+		List<IElementDescriptor> elements = new ArrayList<>();
+		for (int pkg = 0; pkg < PACKAGES; pkg++) {
+			elements.add(Factory.packageDescriptor(SyntheticBundles.getPackageName(0, pkg)));
+			for (int type = 0; type < TYPES; type++) {
+				IReferenceTypeDescriptor descriptor = Factory.typeDescriptor(SyntheticBundles.getTypeName(0, pkg, type));
+				apiDescription.setVisibility(descriptor, VisibilityModifiers.API);
+				apiDescription.setRestrictions(descriptor, RestrictionModifiers.NO_EXTEND);
+				apiDescription.setRestrictions(descriptor.getField("value"), RestrictionModifiers.NO_REFERENCE); //$NON-NLS-1$
+				apiDescription.setRestrictions(descriptor.getMethod("use", "()Ljava/lang/Object;"), RestrictionModifiers.NO_OVERRIDE); //$NON-NLS-1$ //$NON-NLS-2$
+				elements.add(descriptor);
+				elements.add(descriptor.getField("value")); //$NON-NLS-1$
+				elements.add(descriptor.getMethod("use", "()Ljava/lang/Object;")); //$NON-NLS-1$ //$NON-NLS-2$
+				elements.add(descriptor.getMethod("added", "()V")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		fDescription = FROZEN.equals(description) ? new FrozenApiDescription(apiDescription) : apiDescription;
+		fElements = elements.toArray(new IElementDescriptor[elements.size()]);
+	}
+
+	@Benchmark
+	public void resolveAnnotations(Blackhole blackhole) {
+		for (IElementDescriptor element : fElements) {
+			blackhole.consume(fDescription.resolveAnnotations(element));
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+
+import org.junit.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of this bundle inside the OSGi framework of the test
+ * run. The benchmarks to run and the file the results are written to are set
+ * with the <code>benchmark.*</code> system properties of the
+ * <code>api-tools-benchmarks</code> profile, see the README of this bundle.
+ */
+public class ApiToolsBenchmarks {
+
+	@Test
+	public void runBenchmarks() throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(System.getProperty("benchmark.include", "org\\.eclipse\\.pde\\.api\\.tools\\.benchmarks\\..*")) //$NON-NLS-1$ //$NON-NLS-2$
+				// the benchmarks need the bundles of the running framework,
+				// they cannot run in a forked VM
+				.forks(0) //
+				.warmupIterations(Integer.getInteger("benchmark.warmupIterations", 3).intValue()) //$NON-NLS-1$
+				.measurementIterations(Integer.getInteger("benchmark.iterations", 5).intValue()) //$NON-NLS-1$
+				.resultFormat(ResultFormatType.JSON) //
+				.result(System.getProperty("benchmark.result", "jmh-result.json")) //$NON-NLS-1$ //$NON-NLS-2$
+				.build();
+		Collection<RunResult> results = new Runner(options).run();
+		assertFalse("No benchmark was run", results.isEmpty()); //$NON-NLS-1$
+	}
+}
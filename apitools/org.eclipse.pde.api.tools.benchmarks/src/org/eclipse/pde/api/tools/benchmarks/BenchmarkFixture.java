@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+
+/**
+ * A baseline the benchmarks run against, created in a temporary folder.
+ * <ul>
+ * <li>{@link #BUILDER}: the <code>bundle.a</code> sources of the API builder
+ * tests, compiled into a single bundle</li>
+ * <li>{@link #SYNTHETIC}: {@link SyntheticBundles#BUNDLES} generated bundles
+ * depending on each other</li>
+ * </ul>
+ */
+final class BenchmarkFixture {
+
+	static final String BUILDER = "test-builder"; //$NON-NLS-1$
+
+	static final String SYNTHETIC = "synthetic"; //$NON-NLS-1$
+
+	private static final String BUILDER_BUNDLE = "bundle.a"; //$NON-NLS-1$
+
+	private final Path fRoot;
+
+	private final IApiBaseline fBaseline;
+
+	private BenchmarkFixture(Path root, IApiBaseline baseline) {
+		fRoot = root;
+		fBaseline = baseline;
+	}
+
+	/**
+	 * Creates the fixture of the given name, using the first version of the
+	 * synthetic bundles
+	 *
+	 * @param name {@link #BUILDER} or {@link #SYNTHETIC}
+	 */
+	static BenchmarkFixture create(String name) throws CoreException, IOException {
+		return switch (name) {
+			case BUILDER -> createBuilderFixture();
+			case SYNTHETIC -> createSyntheticFixture(1);
+			default -> throw new IllegalArgumentException("Unknown fixture " + name); //$NON-NLS-1$
+		};
+	}
+
+	/**
+	 * Creates a baseline of the given version of the synthetic bundles
+	 *
+	 * @param version 1 or 2
+	 */
+	static BenchmarkFixture createSyntheticFixture(int version) throws CoreException, IOException {
+		Path root = Files.createTempDirectory(SYNTHETIC);
+		SyntheticBundles.generate(root.toFile(), version);
+		return new BenchmarkFixture(root, TestSuiteHelper.createBaseline(SYNTHETIC + '-' + version, root.toFile()));
+	}
+
+	private static BenchmarkFixture createBuilderFixture() throws CoreException, IOException {
+		Path root = Files.createTempDirectory(BUILDER);
+		Path source = Path.of(TestSuiteHelper.getPluginDirectoryPath().toOSString(), BUILDER, "baseline", BUILDER_BUNDLE, "src"); //$NON-NLS-1$ //$NON-NLS-2$
+		Path bundle = root.resolve(BUILDER_BUNDLE);
+		List<String> sources = new ArrayList<>();
+		TreeSet<String> packages = new TreeSet<>();
+		try (Stream<Path> files = Files.walk(source)) {
+			files.filter(file -> file.toString().endsWith(".java")).forEach(file -> { //$NON-NLS-1$
+				sources.add(file.toString());
+				String pkg = source.relativize(file.getParent()).toString().replace(File.separatorChar, '.');
+				if (!pkg.isEmpty()) {
+					packages.add(pkg);
+				}
+			});
+		}
+		List<String> options = new ArrayList<>(List.of(TestSuiteHelper.getCompilerOptions()));
+		options.add("-proceedOnError"); //$NON-NLS-1$
+		TestSuiteHelper.compile(sources.toArray(new String[sources.size()]), bundle.toString(), options.toArray(new String[options.size()]));
+		Path manifest = bundle.resolve("META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		Files.createDirectories(manifest.getParent());
+		Files.writeString(manifest, "Manifest-Version: 1.0\n" //$NON-NLS-1$
+				+ "Bundle-ManifestVersion: 2\n" //$NON-NLS-1$
+				+ "Bundle-SymbolicName: " + BUILDER_BUNDLE + '\n' //$NON-NLS-1$
+				+ "Bundle-Version: 1.0.0\n" //$NON-NLS-1$
+				+ "Bundle-RequiredExecutionEnvironment: JavaSE-17\n" //$NON-NLS-1$
+				+ "Export-Package: " + String.join(",\n ", packages) + '\n'); //$NON-NLS-1$ //$NON-NLS-2$
+		return new BenchmarkFixture(root, TestSuiteHelper.createBaseline(BUILDER, root.toFile()));
+	}
+
+	IApiBaseline getBaseline() {
+		return fBaseline;
+	}
+
+	/**
+	 * @return the components of the fixture without the system library
+	 */
+	List<IApiComponent> getComponents() {
+		List<IApiComponent> components = new ArrayList<>();
+		for (IApiComponent component : fBaseline.getApiComponents()) {
+			if (!component.isSystemComponent()) {
+				components.add(component);
+			}
+		}
+		return components;
+	}
+
+	/**
+	 * @return the class files of the components of the fixture
+	 */
+	List<IApiTypeRoot> getTypeRoots() throws CoreException {
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		for (IApiComponent component : getComponents()) {
+			component.accept(new ApiTypeContainerVisitor() {
+				@Override
+				public void visit(String packageName, IApiTypeRoot typeroot) {
+					roots.add(typeroot);
+				}
+			});
+		}
+		return roots;
+	}
+
+	/**
+	 * Disposes the baseline and deletes the temporary folder
+	 */
+	void dispose() {
+		fBaseline.dispose();
+		TestSuiteHelper.delete(fRoot.toFile());
+	}
+}
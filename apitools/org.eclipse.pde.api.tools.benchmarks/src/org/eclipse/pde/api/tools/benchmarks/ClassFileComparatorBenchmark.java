@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares every type of the first version of the synthetic bundles with the
+ * second version, which removes a field and adds a method to each type
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClassFileComparatorBenchmark {
+
+	private BenchmarkFixture fReference;
+
+	private BenchmarkFixture fCurrent;
+
+	private IApiType[] fTypes;
+
+	private IApiTypeRoot[] fChangedRoots;
+
+	@Setup
+	public void setUp() throws CoreException, IOException {
+		fReference = BenchmarkFixture.createSyntheticFixture(1);
+		fCurrent = BenchmarkFixture.createSyntheticFixture(2);
+		List<IApiTypeRoot> roots = fReference.getTypeRoots();
+		fTypes = new IApiType[roots.size()];
+		fChangedRoots = new IApiTypeRoot[roots.size()];
+		for (int i = 0; i < fTypes.length; i++) {
+			IApiTypeRoot root = roots.get(i);
+			fTypes[i] = root.getStructure();
+			IApiComponent component = fCurrent.getBaseline().getApiComponent(root.getApiComponent().getSymbolicName());
+			fChangedRoots[i] = component.findTypeRoot(root.getTypeName());
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		fReference.dispose();
+		fCurrent.dispose();
+	}
+
+	@Benchmark
+	public void compare(Blackhole blackhole) throws CoreException {
+		for (int i = 0; i < fTypes.length; i++) {
+			ClassFileComparator comparator = new ClassFileComparator(fTypes[i], fChangedRoots[i], fTypes[i].getApiComponent(), fChangedRoots[i].getApiComponent(), fReference.getBaseline(), fCurrent.getBaseline(), VisibilityModifiers.ALL_VISIBILITIES);
+			blackhole.consume(comparator.getDelta());
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceExtractor;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.objectweb.asm.ClassReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Extracts all kinds of references from all class files of a fixture
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReferenceExtractorBenchmark {
+
+	@Param({ BenchmarkFixture.BUILDER, BenchmarkFixture.SYNTHETIC })
+	public String fixture;
+
+	private BenchmarkFixture fFixture;
+
+	private IApiType[] fTypes;
+
+	private byte[][] fContents;
+
+	@Setup
+	public void setUp() throws CoreException, IOException {
+		fFixture = BenchmarkFixture.create(fixture);
+		List<IApiTypeRoot> roots = fFixture.getTypeRoots();
+		fTypes = new IApiType[roots.size()];
+		fContents = new byte[roots.size()][];
+		for (int i = 0; i < fTypes.length; i++) {
+			fTypes[i] = roots.get(i).getStructure();
+			fContents[i] = ((AbstractApiTypeRoot) roots.get(i)).getContents();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		fFixture.dispose();
+	}
+
+	@Benchmark
+	public void extractReferences(Blackhole blackhole) {
+		int options = ReferenceExtractor.getParsingOptions(IReference.MASK_REF_ALL);
+		for (int i = 0; i < fTypes.length; i++) {
+			Set<Reference> references = new HashSet<>();
+			new ClassReader(fContents[i]).accept(new ReferenceExtractor(fTypes[i], references, IReference.MASK_REF_ALL), options);
+			blackhole.consume(references);
+		}
+	}
+}
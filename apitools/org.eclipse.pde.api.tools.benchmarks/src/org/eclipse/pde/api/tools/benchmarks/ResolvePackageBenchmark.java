@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.IRequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Looks up the providers of the packages of each component and of the
+ * components it requires directly, from one and from several threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class ResolvePackageBenchmark {
+
+	/**
+	 * Position of a thread in the lookups
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+	}
+
+	@Param({ BenchmarkFixture.BUILDER, BenchmarkFixture.SYNTHETIC })
+	public String fixture;
+
+	private BenchmarkFixture fFixture;
+
+	private IApiBaseline fBaseline;
+
+	private IApiComponent[] fSources;
+
+	private String[] fPackages;
+
+	@Setup
+	public void setUp() throws CoreException, IOException {
+		fFixture = BenchmarkFixture.create(fixture);
+		fBaseline = fFixture.getBaseline();
+		List<IApiComponent> sources = new ArrayList<>();
+		List<String> packages = new ArrayList<>();
+		for (IApiComponent component : fFixture.getComponents()) {
+			List<IApiComponent> visible = new ArrayList<>();
+			visible.add(component);
+			for (IRequiredComponentDescription description : component.getRequiredComponents()) {
+				IApiComponent required = fBaseline.getApiComponent(description.getId());
+				if (required != null) {
+					visible.add(required);
+				}
+			}
+			for (IApiComponent provider : visible) {
+				for (String pkg : provider.getPackageNames()) {
+					sources.add(component);
+					packages.add(pkg);
+				}
+			}
+		}
+		fSources = sources.toArray(new IApiComponent[sources.size()]);
+		fPackages = packages.toArray(new String[packages.size()]);
+	}
+
+	@TearDown
+	public void tearDown() {
+		fFixture.dispose();
+	}
+
+	@Benchmark
+	public IApiComponent[] resolvePackage(Cursor cursor) throws CoreException {
+		int i = cursor.next++ % fSources.length;
+		return fBaseline.resolvePackage(fSources[i], fPackages[i]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public IApiComponent[] resolvePackageConcurrently(Cursor cursor) throws CoreException {
+		int i = cursor.next++ % fSources.length;
+		return fBaseline.resolvePackage(fSources[i], fPackages[i]);
+	}
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Generates bundles of class files for the synthetic baseline.
+ * <p>
+ * Bundle <code>n</code> requires bundles <code>n - 1</code> and
+ * <code>n / 2</code> and exports all of its packages. Each type extends the
+ * previous type of its package and calls into the same type of the first
+ * required bundle, so there are references to extract and super types to
+ * resolve. The second version of the bundles removes a field and adds a method
+ * to every type.
+ * </p>
+ */
+final class SyntheticBundles {
+
+	/**
+	 * Number of bundles in the synthetic baseline, can be set with the
+	 * <code>benchmark.bundles</code> system property
+	 */
+	static final int BUNDLES = Integer.getInteger("benchmark.bundles", 200).intValue(); //$NON-NLS-1$
+
+	static final int PACKAGES = 5;
+
+	static final int TYPES = 10;
+
+	private SyntheticBundles() {
+	}
+
+	static String getSymbolicName(int bundle) {
+		return "synthetic.b" + bundle; //$NON-NLS-1$
+	}
+
+	static String getPackageName(int bundle, int pkg) {
+		return getSymbolicName(bundle) + ".p" + pkg; //$NON-NLS-1$
+	}
+
+	static String getTypeName(int bundle, int pkg, int type) {
+		return getPackageName(bundle, pkg) + ".T" + type; //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes the given version of all synthetic bundles as directories into the
+	 * given folder
+	 *
+	 * @param root the folder to write the bundles to
+	 * @param version 1 or 2
+	 */
+	static void generate(File root, int version) throws IOException {
+		for (int bundle = 0; bundle < BUNDLES; bundle++) {
+			Path dir = root.toPath().resolve(getSymbolicName(bundle) + '_' + version + ".0.0"); //$NON-NLS-1$
+			Path manifest = dir.resolve("META-INF/MANIFEST.MF"); //$NON-NLS-1$
+			Files.createDirectories(manifest.getParent());
+			Files.writeString(manifest, getManifest(bundle, version));
+			for (int pkg = 0; pkg < PACKAGES; pkg++) {
+				for (int type = 0; type < TYPES; type++) {
+					String name = getTypeName(bundle, pkg, type);
+					Path file = dir.resolve(name.replace('.', '/') + ".class"); //$NON-NLS-1$
+					Files.createDirectories(file.getParent());
+					Files.write(file, getClassFile(bundle, pkg, type, version));
+				}
+			}
+		}
+	}
+
+	private static String getManifest(int bundle, int version) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Manifest-Version: 1.0\n"); //$NON-NLS-1$
+		buffer.append("Bundle-ManifestVersion: 2\n"); //$NON-NLS-1$
+		buffer.append("Bundle-SymbolicName: ").append(getSymbolicName(bundle)).append('\n'); //$NON-NLS-1$
+		buffer.append("Bundle-Version: ").append(version).append(".0.0\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("Bundle-RequiredExecutionEnvironment: JavaSE-17\n"); //$NON-NLS-1$
+		List<String> required = new ArrayList<>();
+		for (int dependency : getDependencies(bundle)) {
+			required.add(getSymbolicName(dependency));
+		}
+		if (!required.isEmpty()) {
+			buffer.append("Require-Bundle: ").append(String.join(",\n ", required)).append('\n'); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		List<String> exported = new ArrayList<>();
+		for (int pkg = 0; pkg < PACKAGES; pkg++) {
+			exported.add(getPackageName(bundle, pkg));
+		}
+		buffer.append("Export-Package: ").append(String.join(",\n ", exported)).append('\n'); //$NON-NLS-1$ //$NON-NLS-2$
+		return buffer.toString();
+	}
+
+	/**
+	 * @return the bundles required by the given bundle
+	 */
+	static int[] getDependencies(int bundle) {
+		if (bundle == 0) {
+			return new int[0];
+		}
+		if (bundle / 2 == bundle - 1) {
+			return new int[] { bundle - 1 };
+		}
+		return new int[] { bundle - 1, bundle / 2 };
+	}
+
+	private static byte[] getClassFile(int bundle, int pkg, int type, int version) {
+		String name = getTypeName(bundle, pkg, type).replace('.', '/');
+		String superName = type == 0 ? "java/lang/Object" : getTypeName(bundle, pkg, type - 1).replace('.', '/'); //$NON-NLS-1$
+		String descriptor = 'L' + name + ';';
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, superName, null);
+		writer.visitField(Opcodes.ACC_PUBLIC, "value", "I", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.visitField(Opcodes.ACC_PUBLIC, "name", "Ljava/lang/String;", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		if (version == 1) {
+			writer.visitField(Opcodes.ACC_PUBLIC, "removed", "J", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitCode();
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		method = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "create", "()" + descriptor, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitCode();
+		method.visitTypeInsn(Opcodes.NEW, name);
+		method.visitInsn(Opcodes.DUP);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, name, "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitInsn(Opcodes.ARETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		method = writer.visitMethod(Opcodes.ACC_PUBLIC, "use", "()Ljava/lang/Object;", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitCode();
+		int[] dependencies = getDependencies(bundle);
+		if (dependencies.length > 0) {
+			String target = getTypeName(dependencies[0], pkg, type).replace('.', '/');
+			method.visitMethodInsn(Opcodes.INVOKESTATIC, target, "create", "()L" + target + ';', false); //$NON-NLS-1$ //$NON-NLS-2$
+			method.visitFieldInsn(Opcodes.GETFIELD, target, "name", "Ljava/lang/String;"); //$NON-NLS-1$ //$NON-NLS-2$
+		} else {
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitFieldInsn(Opcodes.GETFIELD, name, "name", "Ljava/lang/String;"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		method.visitInsn(Opcodes.ARETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		if (version == 2) {
+			method = writer.visitMethod(Opcodes.ACC_PUBLIC, "added", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+			method.visitCode();
+			method.visitInsn(Opcodes.RETURN);
+			method.visitMaxs(0, 0);
+			method.visitEnd();
+		}
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+}
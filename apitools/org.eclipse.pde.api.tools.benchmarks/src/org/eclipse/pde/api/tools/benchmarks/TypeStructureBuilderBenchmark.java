@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds the type structures of all class files of a fixture
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypeStructureBuilderBenchmark {
+
+	@Param({ BenchmarkFixture.BUILDER, BenchmarkFixture.SYNTHETIC })
+	public String fixture;
+
+	private BenchmarkFixture fFixture;
+
+	private IApiTypeRoot[] fRoots;
+
+	private byte[][] fContents;
+
+	@Setup
+	public void setUp() throws CoreException, IOException {
+		fFixture = BenchmarkFixture.create(fixture);
+		List<IApiTypeRoot> roots = fFixture.getTypeRoots();
+		fRoots = roots.toArray(new IApiTypeRoot[roots.size()]);
+		fContents = new byte[fRoots.length][];
+		for (int i = 0; i < fRoots.length; i++) {
+			fContents[i] = ((AbstractApiTypeRoot) fRoots[i]).getContents();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		fFixture.dispose();
+	}
+
+	@Benchmark
+	public void buildTypeStructures(Blackhole blackhole) {
+		for (int i = 0; i < fRoots.length; i++) {
+			blackhole.consume(TypeStructureBuilder.buildTypeStructure(fContents[i], fRoots[i].getApiComponent(), fRoots[i]));
+		}
+	}
+}
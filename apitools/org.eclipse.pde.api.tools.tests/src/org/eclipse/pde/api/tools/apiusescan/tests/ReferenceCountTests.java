@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,19 @@ package org.eclipse.pde.api.tools.apiusescan.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.osgi.util.NLS;
@@ -27,6 +37,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.search.IReferenceCollection;
 import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
 import org.eclipse.pde.api.tools.internal.search.UseScanManager;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Before;
@@ -66,6 +77,81 @@ public class ReferenceCountTests {
 		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
 	}
 
+	@Test
+	public void testReferenceCountIndexedReportAll() throws Exception {
+		String location = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : reportAll.zip"); //$NON-NLS-1$
+		}
+		String scanLocation = UseScanManager.getExactScanLocation(location);
+		UseScanIndex.write(scanLocation, null);
+		assertNotNull("The index of the report must be readable", UseScanIndex.read(scanLocation)); //$NON-NLS-1$
+		IApiComponent apiComponent = fBaseline.getApiComponent(ExternalDependencyTestUtils.PROJECT_NAME);
+		String[][] apiUseTpes = new String[][] {
+				{"tests.apiusescan.coretestproject.ClassWithInnerType"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ClassWithInnerType",  //$NON-NLS-1$
+					"tests.apiusescan.coretestproject.IConstants"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ITestInterface"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.TestInterfaceImpl"} //$NON-NLS-1$
+		};
+		int[] expectedResult = new int[] {7, 9, 5, 6};
+		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
+	}
+
+	/**
+	 * Tests that an index is no longer used once an XML report of the scan was
+	 * changed or added
+	 */
+	@Test
+	public void testIndexOutdatedByChangedReport() throws Exception {
+		String location = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : reportAll.zip"); //$NON-NLS-1$
+		}
+		String scanLocation = UseScanManager.getExactScanLocation(location);
+		Path report;
+		try (Stream<Path> files = Files.walk(Path.of(scanLocation))) {
+			Optional<Path> xml = files.filter(file -> file.getFileName().toString().endsWith(".xml")).findFirst(); //$NON-NLS-1$
+			assertTrue("The report must contain an XML file", xml.isPresent()); //$NON-NLS-1$
+			report = xml.get();
+		}
+
+		UseScanIndex.write(scanLocation, null);
+		UseScanIndex index = UseScanIndex.read(scanLocation);
+		assertNotNull("The index of the report must be readable", index); //$NON-NLS-1$
+		assertTrue("The index must be current", index.isCurrent()); //$NON-NLS-1$
+		assertTrue("The reports of the index must be current", index.hasCurrentReports()); //$NON-NLS-1$
+
+		// same length, different modification time
+		Files.setLastModifiedTime(report, FileTime.fromMillis(Files.getLastModifiedTime(report).toMillis() + 10000));
+		assertFalse("The index must be outdated by a touched report", index.hasCurrentReports()); //$NON-NLS-1$
+		assertNull("An outdated index must not be read", UseScanIndex.read(scanLocation)); //$NON-NLS-1$
+
+		UseScanIndex.write(scanLocation, null);
+		index = UseScanIndex.read(scanLocation);
+		assertNotNull("The rewritten index must be readable", index); //$NON-NLS-1$
+		long lastModified = Files.getLastModifiedTime(report).toMillis();
+		Files.writeString(report, " ", StandardCharsets.UTF_8, StandardOpenOption.APPEND); //$NON-NLS-1$
+		Files.setLastModifiedTime(report, FileTime.fromMillis(lastModified));
+		assertFalse("The index must be outdated by a report of a different length", index.hasCurrentReports()); //$NON-NLS-1$
+
+		UseScanIndex.write(scanLocation, null);
+		index = UseScanIndex.read(scanLocation);
+		assertNotNull("The rewritten index must be readable", index); //$NON-NLS-1$
+		Files.copy(report, report.resolveSibling("added_" + report.getFileName())); //$NON-NLS-1$
+		assertFalse("The index must be outdated by an added report", index.hasCurrentReports()); //$NON-NLS-1$
+		assertNull("An outdated index must not be read", UseScanIndex.read(scanLocation)); //$NON-NLS-1$
+
+		// the reports are not checked again by every lookup, a rewritten
+		// index file is noticed at once
+		UseScanIndex.write(scanLocation, null);
+		index = UseScanIndex.read(scanLocation);
+		assertNotNull("The rewritten index must be readable", index); //$NON-NLS-1$
+		Path indexFile = UseScanIndex.getIndexFile(scanLocation);
+		Files.setLastModifiedTime(indexFile, FileTime.fromMillis(Files.getLastModifiedTime(indexFile).toMillis() + 10000));
+		assertFalse("The index must be outdated by a changed index file", index.isCurrent()); //$NON-NLS-1$
+	}
+
 	public void verifyReferenceCount(IApiComponent apiComponent, String[][] apiUseTpes, int[] expectedResult) {
 		String errorMessage = "Incorrect number of references for the set {0}"; //$NON-NLS-1$
 		for (int i = 0; i < apiUseTpes.length; i++) {
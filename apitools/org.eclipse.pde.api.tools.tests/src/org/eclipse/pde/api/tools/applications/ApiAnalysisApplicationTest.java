@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Runs the {@link ApiAnalysisApplication} on several projects
+ *
+ * @since 1.3.400
+ */
+public class ApiAnalysisApplicationTest {
+
+	/**
+	 * The exit status of a project that could not be analyzed
+	 */
+	private static final int BLOCKING_ERRORS = 10;
+
+	private static final String PROJECT_NAME = "summary"; //$NON-NLS-1$
+
+	private static final String BASELINE_NAME = "batch"; //$NON-NLS-1$
+
+	private static final String DOT_PROJECT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<projectDescription>\n\t<name>" //$NON-NLS-1$
+			+ PROJECT_NAME + "</name>\n\t<comment></comment>\n\t<projects>\n\t</projects>\n\t<buildSpec>\n\t</buildSpec>\n\t<natures>\n\t</natures>\n</projectDescription>\n"; //$NON-NLS-1$
+
+	private Path root;
+	private boolean autoBuilding;
+	private boolean disableBuilder;
+	private boolean runAsJob;
+	private String defaultBaseline;
+
+	@Before
+	public void setUp() throws Exception {
+		root = Files.createTempDirectory("analysis"); //$NON-NLS-1$
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		autoBuilding = workspace.isAutoBuilding();
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		disableBuilder = preferences.getBoolean(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER);
+		runAsJob = preferences.getBoolean(ICoreConstants.RUN_API_ANALYSIS_AS_JOB);
+		IApiBaseline baseline = ApiBaselineManager.getManager().getDefaultApiBaseline();
+		defaultBaseline = baseline != null ? baseline.getName() : null;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ApiBaselineManager.getManager().setDefaultApiBaseline(defaultBaseline);
+		ApiBaselineManager.getManager().removeApiBaseline(BASELINE_NAME);
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		preferences.setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, disableBuilder);
+		preferences.setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, runAsJob);
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription description = workspace.getDescription();
+		description.setAutoBuilding(autoBuilding);
+		workspace.setDescription(description);
+		TestSuiteHelper.delete(root.toFile());
+	}
+
+	private Path createProject(String directory) throws IOException {
+		Path project = Files.createDirectories(root.resolve(directory));
+		Files.writeString(project.resolve(".project"), DOT_PROJECT); //$NON-NLS-1$
+		return project;
+	}
+
+	/**
+	 * Runs the application with the given arguments and returns its exit
+	 * status
+	 */
+	private static Object run(String... args) throws Exception {
+		IApplicationContext context = (IApplicationContext) Proxy.newProxyInstance(ApiAnalysisApplicationTest.class.getClassLoader(),
+				new Class<?>[] { IApplicationContext.class },
+				(proxy, method, methodArgs) -> "getArguments".equals(method.getName()) ? Map.of(IApplicationContext.APPLICATION_ARGS, args) : null); //$NON-NLS-1$
+		return new ApiAnalysisApplication().start(context);
+	}
+
+	private static Element readReport(Path file) throws Exception {
+		assertTrue("Missing report " + file, Files.isRegularFile(file)); //$NON-NLS-1$
+		return Util.parseDocument(Files.readString(file));
+	}
+
+	/**
+	 * Tests that analyzing projects with the same name, one of them named
+	 * after the summary, writes a report per project besides the summary, and
+	 * that the projects which are not loaded fail the analysis
+	 */
+	@Test
+	public void testBatchWithSameProjectNames() throws Exception {
+		Path analyzed = createProject("analyzed"); //$NON-NLS-1$
+		Path duplicate = createProject("duplicate/" + PROJECT_NAME); //$NON-NLS-1$
+		Path missing = Files.createDirectories(root.resolve("missing").resolve(PROJECT_NAME)); //$NON-NLS-1$
+		Path baseline = Files.createFile(root.resolve(BASELINE_NAME + ".txt")); //$NON-NLS-1$
+		Path output = root.resolve("output"); //$NON-NLS-1$
+
+		Object status = run("-project", analyzed.toString(), "-project", duplicate.toString(), "-project", missing.toString(), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"-baseline", baseline.toString(), "-output", output.toString()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("The projects that are not loaded must fail the analysis", BLOCKING_ERRORS, status); //$NON-NLS-1$
+		assertFalse("The analyzed project must be removed from the workspace", //$NON-NLS-1$
+				ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME).exists());
+		assertEquals("The description of the analyzed project must be restored", DOT_PROJECT, Files.readString(analyzed.resolve(".project"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		Element summary = readReport(output.resolve("summary.xml")); //$NON-NLS-1$
+		assertEquals("Wrong summary status", Integer.toString(BLOCKING_ERRORS), summary.getAttribute("status")); //$NON-NLS-1$ //$NON-NLS-2$
+		NodeList projects = summary.getElementsByTagName("project"); //$NON-NLS-1$
+		assertEquals("Every project must be in the summary", 3, projects.getLength()); //$NON-NLS-1$
+		Set<String> reports = new HashSet<>();
+		Set<String> locations = new HashSet<>();
+		int failed = 0;
+		for (int i = 0; i < projects.getLength(); i++) {
+			Element project = (Element) projects.item(i);
+			assertEquals("Wrong project name", PROJECT_NAME, project.getAttribute("name")); //$NON-NLS-1$ //$NON-NLS-2$
+			String reportName = project.getAttribute("report"); //$NON-NLS-1$
+			assertNotEquals("A report must not overwrite the summary", "summary.xml", reportName); //$NON-NLS-1$ //$NON-NLS-2$
+			assertTrue("Every project must have its own report: " + reportName, reports.add(reportName)); //$NON-NLS-1$
+			locations.add(project.getAttribute("location")); //$NON-NLS-1$
+			if (project.getAttribute("status").equals(Integer.toString(BLOCKING_ERRORS))) { //$NON-NLS-1$
+				failed++;
+			}
+
+			Element report = readReport(output.resolve(reportName));
+			assertEquals("Wrong report", "apiAnalysis", report.getNodeName()); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("The report must be the one of the project", project.getAttribute("location"), report.getAttribute("location")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals("Wrong report status", project.getAttribute("status"), report.getAttribute("status")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		assertEquals("Every project must be reported", //$NON-NLS-1$
+				Set.of(analyzed.toFile().getAbsolutePath(), duplicate.toFile().getAbsolutePath(), missing.toFile().getAbsolutePath()), locations);
+		assertEquals("The projects that are not loaded must have blocking errors", 2, failed); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.ProjectDirectories;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProjectDirectoriesTest {
+
+	private Path root;
+
+	@Before
+	public void setUp() throws IOException {
+		root = Files.createTempDirectory("projects"); //$NON-NLS-1$
+		createProject("b"); //$NON-NLS-1$
+		createProject("a"); //$NON-NLS-1$
+		Files.createDirectories(root.resolve("not-a-project")); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		TestSuiteHelper.delete(root.toFile());
+	}
+
+	private void createProject(String name) throws IOException {
+		Path project = Files.createDirectories(root.resolve(name));
+		Files.writeString(project.resolve(".project"), "<projectDescription/>"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testDirectoryOfProjects() throws Exception {
+		List<File> list = new ProjectDirectories(root.toFile()).list();
+		assertEquals(2, list.size());
+		assertEquals("a", list.get(0).getName()); //$NON-NLS-1$
+		assertEquals("b", list.get(1).getName()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testProjectDirectory() throws Exception {
+		List<File> list = new ProjectDirectories(root.resolve("a").toFile()).list(); //$NON-NLS-1$
+		assertEquals(1, list.size());
+		assertEquals("a", list.get(0).getName()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testProjectListFile() throws Exception {
+		Path file = root.resolve("projects.txt"); //$NON-NLS-1$
+		String absolute = root.resolve("b").toAbsolutePath().toString(); //$NON-NLS-1$
+		Files.writeString(file, "# projects\na\n\n" + absolute + System.lineSeparator()); //$NON-NLS-1$
+		List<File> list = new ProjectDirectories(file.toFile()).list();
+		assertEquals(2, list.size());
+		assertEquals(root.resolve("a").toFile().getAbsoluteFile(), list.get(0)); //$NON-NLS-1$
+		assertEquals(new File(absolute), list.get(1));
+	}
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisScheduler;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the order, the coalescing and the parallelism of the analyses queued
+ * in the {@link ApiAnalysisScheduler}
+ *
+ * @since 1.3.400
+ */
+public class ApiAnalysisSchedulerTests {
+
+	private static final long TIMEOUT = 30;
+
+	/**
+	 * The projects in the order their analyses ran
+	 */
+	final List<String> fRuns = new ArrayList<>();
+
+	/**
+	 * The number of analyses running at the same time and its maximum
+	 */
+	int fRunning;
+	int fMaxRunning;
+
+	/**
+	 * Released to let the blocking analysis finish
+	 */
+	final CountDownLatch fRelease = new CountDownLatch(1);
+
+	/**
+	 * An analysis that records its run instead of analyzing the project
+	 */
+	class TestJob extends ApiAnalysisJob {
+		private final CountDownLatch fDone;
+		private final boolean fBlocking;
+		private final long fDuration;
+
+		TestJob(String project, boolean fullBuild, CountDownLatch done, boolean blocking, long duration, String... required) {
+			new ApiAnalysisBuilder().super("API analysis of " + project, getProject(project), fullBuild, null, getProjects(project, required)); //$NON-NLS-1$
+			fDone = done;
+			fBlocking = blocking;
+			fDuration = duration;
+		}
+
+		@Override
+		public IStatus run(IProgressMonitor monitor) {
+			synchronized (ApiAnalysisSchedulerTests.this) {
+				fRuns.add(getName());
+				fRunning++;
+				fMaxRunning = Math.max(fMaxRunning, fRunning);
+			}
+			try {
+				if (fBlocking) {
+					fRelease.await(TIMEOUT, TimeUnit.SECONDS);
+				} else if (fDuration > 0) {
+					Thread.sleep(fDuration);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				synchronized (ApiAnalysisSchedulerTests.this) {
+					fRunning--;
+				}
+				fDone.countDown();
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	static IProject getProject(String name) {
+		return ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+	}
+
+	/**
+	 * Returns the project with the given name followed by the projects it
+	 * requires, as the builder passes them to the analysis
+	 */
+	static IProject[] getProjects(String name, String... required) {
+		IProject[] projects = new IProject[required.length + 1];
+		projects[0] = getProject(name);
+		for (int i = 0; i < required.length; i++) {
+			projects[i + 1] = getProject(required[i]);
+		}
+		return projects;
+	}
+
+	/**
+	 * Submits an analysis that runs until {@link #fRelease} is released, so
+	 * the following analyses are queued
+	 */
+	private void block(ApiAnalysisScheduler scheduler, CountDownLatch done) {
+		scheduler.submit(new TestJob("blocker", false, done, true, 0)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Waits for the analyses to finish and for the scheduler to be idle
+	 */
+	private void await(ApiAnalysisScheduler scheduler, CountDownLatch done) throws InterruptedException {
+		assertTrue("The analyses did not finish", done.await(TIMEOUT, TimeUnit.SECONDS)); //$NON-NLS-1$
+		long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+		while (scheduler.getRunningCount() > 0 && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals("The scheduler must be idle", 0, scheduler.getRunningCount()); //$NON-NLS-1$
+		assertEquals("No analysis must be waiting", 0, scheduler.getQueueDepth()); //$NON-NLS-1$
+	}
+
+	private synchronized List<String> getRuns() {
+		return new ArrayList<>(fRuns);
+	}
+
+	@After
+	public void tearDown() {
+		fRelease.countDown();
+	}
+
+	/**
+	 * Tests that the analysis of a project runs after the analyses of the
+	 * queued projects it requires, whatever the order of the requests
+	 */
+	@Test
+	public void testDependentsRunAfterPrerequisites() throws Exception {
+		ApiAnalysisScheduler scheduler = new ApiAnalysisScheduler(1);
+		CountDownLatch done = new CountDownLatch(4);
+		block(scheduler, done);
+		scheduler.submit(new TestJob("c", false, done, false, 0, "b", "a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		scheduler.submit(new TestJob("b", false, done, false, 0, "a")); //$NON-NLS-1$ //$NON-NLS-2$
+		scheduler.submit(new TestJob("a", false, done, false, 0)); //$NON-NLS-1$
+		assertEquals("The analyses must wait for the running one", 3, scheduler.getQueueDepth()); //$NON-NLS-1$
+		fRelease.countDown();
+		await(scheduler, done);
+		assertEquals("The prerequisites must be analyzed first", //$NON-NLS-1$
+				Arrays.asList("API analysis of blocker", "API analysis of a", "API analysis of b", "API analysis of c"), getRuns()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Tests that projects requiring each other are analyzed anyway
+	 */
+	@Test
+	public void testCyclicPrerequisites() throws Exception {
+		ApiAnalysisScheduler scheduler = new ApiAnalysisScheduler(1);
+		CountDownLatch done = new CountDownLatch(3);
+		block(scheduler, done);
+		scheduler.submit(new TestJob("d", false, done, false, 0, "e")); //$NON-NLS-1$ //$NON-NLS-2$
+		scheduler.submit(new TestJob("e", false, done, false, 0, "d")); //$NON-NLS-1$ //$NON-NLS-2$
+		fRelease.countDown();
+		await(scheduler, done);
+		assertEquals("Projects requiring each other must be analyzed in the order of the requests", //$NON-NLS-1$
+				Arrays.asList("API analysis of blocker", "API analysis of d", "API analysis of e"), getRuns()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that repeated requests for a waiting project are merged into one
+	 * analysis, which is a full build if any of the requests was
+	 */
+	@Test
+	public void testRepeatedRequestsAreMerged() throws Exception {
+		ApiAnalysisScheduler scheduler = new ApiAnalysisScheduler(1);
+		CountDownLatch done = new CountDownLatch(2);
+		block(scheduler, done);
+		TestJob full = new TestJob("f", true, done, false, 0); //$NON-NLS-1$
+		TestJob incremental = new TestJob("f", false, done, false, 0); //$NON-NLS-1$
+		scheduler.submit(full);
+		scheduler.submit(incremental);
+		assertEquals("The requests for the same project must be merged", 1, scheduler.getQueueDepth()); //$NON-NLS-1$
+		assertTrue("The merged analysis must be a full build", incremental.isFullBuild()); //$NON-NLS-1$
+		fRelease.countDown();
+		await(scheduler, done);
+		assertEquals("The project must be analyzed once", //$NON-NLS-1$
+				Arrays.asList("API analysis of blocker", "API analysis of f"), getRuns()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("The replaced analysis must not be scheduled", Job.NONE, full.getState()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that no more analyses run at the same time than the scheduler
+	 * allows
+	 */
+	@Test
+	public void testParallelismLimit() throws Exception {
+		int parallelism = 2;
+		ApiAnalysisScheduler scheduler = new ApiAnalysisScheduler(parallelism);
+		int count = 6;
+		CountDownLatch done = new CountDownLatch(count);
+		for (int i = 0; i < count; i++) {
+			scheduler.submit(new TestJob("p" + i, false, done, false, 200)); //$NON-NLS-1$
+			assertTrue("Too many analyses scheduled: " + scheduler.getRunningCount(), scheduler.getRunningCount() <= parallelism); //$NON-NLS-1$
+		}
+		assertEquals("The analyses beyond the limit must wait", count - parallelism, scheduler.getQueueDepth()); //$NON-NLS-1$
+		await(scheduler, done);
+		assertEquals("All projects must be analyzed", count, getRuns().size()); //$NON-NLS-1$
+		synchronized (this) {
+			assertTrue("Too many analyses ran at the same time: " + fMaxRunning, fMaxRunning <= parallelism); //$NON-NLS-1$
+		}
+	}
+}
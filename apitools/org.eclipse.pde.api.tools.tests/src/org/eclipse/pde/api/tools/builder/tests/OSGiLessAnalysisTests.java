@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,10 @@
 package org.eclipse.pde.api.tools.builder.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -26,12 +29,16 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.pde.api.tools.internal.builder.BaseApiAnalyzer;
 import org.eclipse.pde.api.tools.internal.builder.BuildContext;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.builder.TypeFingerprint;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Test;
 
@@ -75,4 +82,74 @@ public class OSGiLessAnalysisTests {
 		ApiTestingEnvironment.dispose(baseline);
 		ApiTestingEnvironment.dispose(current);
 	}
+
+	private static final String UNCHANGED_TYPE = "test.bundle.internal.a.AnotherInternalClass"; //$NON-NLS-1$
+	private static final String CHANGED_TYPE = "test.bundle.a.APublicInterface"; //$NON-NLS-1$
+	private static final int METHOD_ADDED_TO_INTERFACE = ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_COMPATIBILITY,
+			IDelta.INTERFACE_ELEMENT_TYPE, IDelta.ADDED, IDelta.METHOD);
+
+	/**
+	 * Analyzes the given changed types and returns the ids of the reported
+	 * problems
+	 */
+	private static Set<Integer> analyzeTypes(BuildState state, IApiBaseline baseline, IApiComponent component, String... typeNames) {
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		BuildContext context = new BuildContext();
+		for (String typeName : typeNames) {
+			context.recordStructuralChange(typeName);
+		}
+		analyzer.analyzeComponent(state, null, null, baseline, component, context, new NullProgressMonitor());
+		return Arrays.stream(analyzer.getProblems()).map(IApiProblem::getId).collect(Collectors.toSet());
+	}
+
+	/**
+	 * Tests that the comparison of a type is only skipped while neither the
+	 * type nor its reference type changed
+	 */
+	@Test
+	public void testSkipUnchangedTypes() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", IPath.fromOSString("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiBaseline current = TestSuiteHelper.createTestingBaseline("current", IPath.fromOSString("test-analyzer-2")); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			IApiComponent component = current.getApiComponent("test.bundle.a"); //$NON-NLS-1$
+			assertNotNull("Missing API component test.bundle.a", component); //$NON-NLS-1$
+			IApiComponent reference = baseline.getApiComponent("test.bundle.a"); //$NON-NLS-1$
+			assertNotNull("Missing reference component test.bundle.a", reference); //$NON-NLS-1$
+			BuildState state = new BuildState();
+
+			Set<Integer> problems = analyzeTypes(state, baseline, component, UNCHANGED_TYPE, CHANGED_TYPE);
+			assertTrue("The added interface method must be reported: " + problems, problems.contains(METHOD_ADDED_TO_INTERFACE)); //$NON-NLS-1$
+			assertNotEquals("The fingerprint of the type compared without delta must be recorded", TypeFingerprint.NONE, //$NON-NLS-1$
+					state.getTypeFingerprint(UNCHANGED_TYPE));
+			assertNotEquals("The fingerprint of the reference type must be recorded", TypeFingerprint.NONE, //$NON-NLS-1$
+					state.getReferenceFingerprint(UNCHANGED_TYPE));
+			assertEquals("No fingerprint must be recorded for a type with a delta", TypeFingerprint.NONE, //$NON-NLS-1$
+					state.getTypeFingerprint(CHANGED_TYPE));
+
+			// pretend the changed type was compared without delta before
+			IApiType type = component.findTypeRoot(CHANGED_TYPE).getStructure();
+			long fingerprint = TypeFingerprint.compute(type, component.getApiDescription(), component.getSymbolicName(), Boolean.toString(false));
+			IApiType referenceType = reference.findTypeRoot(CHANGED_TYPE).getStructure();
+			long referenceFingerprint = TypeFingerprint.compute(referenceType, reference.getApiDescription(), Util.getComponentVersionsId(reference));
+			state.setTypeFingerprints(CHANGED_TYPE, fingerprint, referenceFingerprint);
+			problems = analyzeTypes(state, baseline, component, CHANGED_TYPE);
+			assertFalse("The comparison of an unchanged type must be skipped: " + problems, problems.contains(METHOD_ADDED_TO_INTERFACE)); //$NON-NLS-1$
+			assertEquals("The fingerprint of a skipped type must be kept", fingerprint, state.getTypeFingerprint(CHANGED_TYPE)); //$NON-NLS-1$
+
+			// a changed type is compared again
+			state.setTypeFingerprints(CHANGED_TYPE, fingerprint + 1, referenceFingerprint);
+			problems = analyzeTypes(state, baseline, component, CHANGED_TYPE);
+			assertTrue("A changed type must be compared again: " + problems, problems.contains(METHOD_ADDED_TO_INTERFACE)); //$NON-NLS-1$
+			assertEquals("The fingerprint of a type with a delta must be removed", TypeFingerprint.NONE, //$NON-NLS-1$
+					state.getTypeFingerprint(CHANGED_TYPE));
+
+			// a changed reference type is compared again
+			state.setTypeFingerprints(CHANGED_TYPE, fingerprint, referenceFingerprint + 1);
+			problems = analyzeTypes(state, baseline, component, CHANGED_TYPE);
+			assertTrue("A type with a changed reference type must be compared again: " + problems, problems.contains(METHOD_ADDED_TO_INTERFACE)); //$NON-NLS-1$
+		} finally {
+			ApiTestingEnvironment.dispose(baseline);
+			ApiTestingEnvironment.dispose(current);
+		}
+	}
 }
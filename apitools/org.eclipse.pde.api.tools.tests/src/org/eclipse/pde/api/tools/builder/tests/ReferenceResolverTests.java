@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ReferenceResolver}
+ *
+ * @since 1.3.400
+ */
+public class ReferenceResolverTests {
+
+	/**
+	 * Number of threads of the parallel resolution
+	 */
+	private static final int PARALLELISM = 4;
+
+	/**
+	 * Minimum number of resolutions per thread of the resolver
+	 */
+	private static final int MIN_RESOLUTIONS_PER_THREAD = 64;
+
+	/**
+	 * Returns the top level types of the <code>java.util</code> package of the
+	 * system library
+	 */
+	private static List<IApiTypeRoot> collectTypeRoots(IApiComponent component) throws CoreException {
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public boolean visitPackage(String packageName) {
+				return "java.util".equals(packageName); //$NON-NLS-1$
+			}
+
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				if (typeroot.getTypeName().indexOf('$') < 0) {
+					roots.add(typeroot);
+				}
+			}
+		});
+		return roots;
+	}
+
+	/**
+	 * Extracts new, unresolved references from the given types
+	 */
+	private static List<IReference> extractReferences(List<IApiTypeRoot> roots) throws CoreException {
+		List<IReference> references = new ArrayList<>();
+		for (IApiTypeRoot root : roots) {
+			IApiType type = root.getStructure();
+			if (type != null) {
+				references.addAll(type.extractReferences(IReference.MASK_REF_ALL, null));
+			}
+		}
+		return references;
+	}
+
+	/**
+	 * Returns the sorted descriptions of the given references, including what
+	 * they resolved to
+	 */
+	private static List<String> describe(List<IReference> references) {
+		List<String> descriptions = new ArrayList<>(references.size());
+		for (IReference reference : references) {
+			descriptions.add(reference.toString());
+		}
+		descriptions.sort(null);
+		return descriptions;
+	}
+
+	/**
+	 * Tests that resolving references on several threads resolves exactly what
+	 * the resolution on the calling thread resolves
+	 */
+	@Test
+	public void testParallelResolution() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", IPath.fromOSString("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			IApiComponent system = null;
+			for (IApiComponent component : baseline.getApiComponents()) {
+				if (component.isSystemComponent()) {
+					system = component;
+					break;
+				}
+			}
+			assertNotNull("Missing system library", system); //$NON-NLS-1$
+			List<IApiTypeRoot> roots = collectTypeRoots(system);
+
+			List<IReference> sequential = extractReferences(roots);
+			Set<String> targets = new HashSet<>();
+			for (IReference reference : sequential) {
+				targets.add(reference.getReferencedTypeName() + '#' + reference.getReferencedMemberName() + '#' + reference.getReferencedSignature());
+			}
+			assertTrue("Too few references to resolve them in parallel: " + targets.size(), //$NON-NLS-1$
+					targets.size() > PARALLELISM * MIN_RESOLUTIONS_PER_THREAD);
+			ReferenceResolver.resolveReferences(sequential, 1);
+			List<String> expected = describe(sequential);
+			assertTrue("No reference resolved", sequential.stream().anyMatch(reference -> reference.getResolvedReference() != null)); //$NON-NLS-1$
+
+			for (int i = 0; i < 3; i++) {
+				List<IReference> parallel = extractReferences(roots);
+				ReferenceResolver.resolveReferences(parallel, PARALLELISM);
+				assertEquals("The parallel resolution must resolve the same references", expected, describe(parallel)); //$NON-NLS-1$
+			}
+		} finally {
+			ApiTestingEnvironment.dispose(baseline);
+		}
+	}
+}
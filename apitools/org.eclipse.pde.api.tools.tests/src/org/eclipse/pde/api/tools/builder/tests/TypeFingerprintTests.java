@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.builder.TypeFingerprint;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.junit.Test;
+
+/**
+ * Tests the {@link TypeFingerprint}s used to skip the comparison of types
+ * whose API did not change, and their persistence in the {@link BuildState}
+ *
+ * @since 1.3.400
+ */
+public class TypeFingerprintTests {
+
+	/**
+	 * A type with a given super class that does not need a baseline to be
+	 * resolved
+	 */
+	static class TestType extends ApiType {
+		private final IApiType fSuperclass;
+
+		TestType(String name, IApiType superclass) {
+			super(null, name, 'L' + name.replace('.', '/') + ';', null, Flags.AccPublic, null, null);
+			fSuperclass = superclass;
+			if (superclass != null) {
+				setSuperclassName(superclass.getName());
+			}
+		}
+
+		@Override
+		public IApiType getSuperclass() throws CoreException {
+			if (fSuperclass == null && getSuperclassName() != null) {
+				throw new CoreException(Status.error("Unresolved super class " + getSuperclassName())); //$NON-NLS-1$
+			}
+			return fSuperclass;
+		}
+	}
+
+	/**
+	 * Creates the type <code>a.Super</code> with a field and the given methods
+	 */
+	private static TestType createSuperType(String... methods) {
+		TestType type = new TestType("a.Super", null); //$NON-NLS-1$
+		type.addField("field", "I", null, Flags.AccProtected, null); //$NON-NLS-1$ //$NON-NLS-2$
+		for (String method : methods) {
+			type.addMethod(method, "()V", null, Flags.AccPublic, null); //$NON-NLS-1$
+		}
+		return type;
+	}
+
+	/**
+	 * Creates the type <code>a.Type</code> extending the given type with a
+	 * constant and a method
+	 */
+	private static TestType createType(IApiType superclass, int methodModifiers) {
+		TestType type = new TestType("a.Type", superclass); //$NON-NLS-1$
+		type.addField("CONSTANT", "Ljava/lang/String;", null, Flags.AccPublic | Flags.AccStatic | Flags.AccFinal, "value"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		type.addMethod("method", "(I)Ljava/lang/String;", null, methodModifiers, new String[] { "java.io.IOException" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return type;
+	}
+
+	private static long compute(IApiType type) {
+		return TypeFingerprint.compute(type, null, "test.bundle"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the fingerprint of a type does not change as long as its
+	 * structure is the same
+	 */
+	@Test
+	public void testUnchangedType() {
+		long fingerprint = compute(createType(createSuperType("m"), Flags.AccPublic)); //$NON-NLS-1$
+		assertNotEquals("The fingerprint must be computed", TypeFingerprint.NONE, fingerprint); //$NON-NLS-1$
+		assertEquals("The fingerprint of an unchanged type must not change", fingerprint, //$NON-NLS-1$
+				compute(createType(createSuperType("m"), Flags.AccPublic))); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the fingerprint changes with the members of the type
+	 */
+	@Test
+	public void testChangedMember() {
+		long fingerprint = compute(createType(createSuperType("m"), Flags.AccPublic)); //$NON-NLS-1$
+		assertNotEquals("A changed method modifier must change the fingerprint", fingerprint, //$NON-NLS-1$
+				compute(createType(createSuperType("m"), Flags.AccProtected))); //$NON-NLS-1$
+		TestType type = createType(createSuperType("m"), Flags.AccPublic); //$NON-NLS-1$
+		type.addMethod("added", "()V", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotEquals("An added method must change the fingerprint", fingerprint, compute(type)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the fingerprint changes with the members of the super types,
+	 * which are compared as inherited members
+	 */
+	@Test
+	public void testChangedSupertype() {
+		long fingerprint = compute(createType(createSuperType("m"), Flags.AccPublic)); //$NON-NLS-1$
+		assertNotEquals("A method added to the super type must change the fingerprint", fingerprint, //$NON-NLS-1$
+				compute(createType(createSuperType("m", "n"), Flags.AccPublic))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotEquals("A method removed from the super type must change the fingerprint", fingerprint, //$NON-NLS-1$
+				compute(createType(createSuperType(), Flags.AccPublic)));
+	}
+
+	/**
+	 * Tests that no fingerprint is computed when a super type cannot be
+	 * resolved
+	 */
+	@Test
+	public void testUnresolvedSupertype() {
+		TestType type = new TestType("a.Type", null); //$NON-NLS-1$
+		type.setSuperclassName("a.Missing"); //$NON-NLS-1$
+		assertEquals("No fingerprint must be computed", TypeFingerprint.NONE, compute(type)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the fingerprints are written and read back with the build
+	 * state
+	 */
+	@Test
+	public void testPersistedFingerprints() throws Exception {
+		BuildState state = new BuildState();
+		state.setTypeFingerprints("a.Type", 1234L, 5678L); //$NON-NLS-1$
+		state.setTypeFingerprints("a.Other", 42L, 43L); //$NON-NLS-1$
+		state.removeTypeFingerprints("a.Other"); //$NON-NLS-1$
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			BuildState.write(state, out);
+		}
+		BuildState read;
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			read = BuildState.read(in);
+		}
+		assertEquals("Wrong type fingerprint", 1234L, read.getTypeFingerprint("a.Type")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong reference fingerprint", 5678L, read.getReferenceFingerprint("a.Type")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("A removed fingerprint must not be written", TypeFingerprint.NONE, read.getTypeFingerprint("a.Other")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
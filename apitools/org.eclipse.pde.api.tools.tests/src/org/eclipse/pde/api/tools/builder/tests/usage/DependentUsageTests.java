@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.builder.tests.usage;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
@@ -37,6 +39,7 @@ public class DependentUsageTests extends UsageTest {
 	static final IPath I_PATH = IPath.fromOSString("/refproject/src/i/"); //$NON-NLS-1$
 	static final IPath M_PATH = IPath.fromOSString("/refproject/src/m/"); //$NON-NLS-1$
 	static final IPath XYZ_PATH = IPath.fromOSString("/usagetests/src/x/y/z/"); //$NON-NLS-1$
+	static final IPath SPLIT_C_PATH = IPath.fromOSString("/usagetests/src/c/"); //$NON-NLS-1$
 	static final IPath MPPATH = IPath.fromOSString("/refproject/src/pack/multi/part"); //$NON-NLS-1$
 
 	public DependentUsageTests(String name) {
@@ -461,4 +464,82 @@ public class DependentUsageTests extends UsageTest {
 			});
 		deployTest("test12", XYZ_PATH, MPPATH, "mpClassRef.java", addtag); //$NON-NLS-1$ //$NON-NLS-2$
 	}
+
+	/**
+	 * Tests adding an @noextend restriction to a class known to be used by
+	 * another bundle that contributes to the same package
+	 *
+	 * Uses test13.java and classref.java
+	 */
+	public void testAddExtendRestrictionSplitPackage() throws Exception {
+		test13(true);
+	}
+
+	/**
+	 * Tests removing an @noextend restriction from a class known to be used by
+	 * another bundle that contributes to the same package
+	 *
+	 * Uses test13.java and classref.java
+	 */
+	public void testRemoveExtendRestrictionSplitPackage() throws Exception {
+		test13(false);
+	}
+
+	private void test13(boolean addtag) throws Exception {
+		setExpectedProblemIds(new int[] {
+				ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS)
+		});
+		setExpectedMessageArgs(new String[][] {{"classref", "test13"}}); //$NON-NLS-1$ //$NON-NLS-2$
+		deployTest("test13", SPLIT_C_PATH, C_PATH, "classref.java", addtag); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests adding an @noextend restriction to a class known to be used by
+	 * another bundle after the types it references were forgotten and only
+	 * an unrelated type of the other bundle was built incrementally. The
+	 * references of that type alone must not hide the dependent type.
+	 *
+	 * Uses test14.java, other.java and classref.java
+	 */
+	public void testAddExtendRestrictionAfterPartialBuild() throws Exception {
+		setExpectedProblemIds(new int[] {
+				ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS)
+		});
+		setExpectedMessageArgs(new String[][] {{"classref", "test14"}}); //$NON-NLS-1$ //$NON-NLS-2$
+		boolean autoBuilding = getEnv().getWorkspace().isAutoBuilding();
+		try {
+			getEnv().setAutoBuilding(false);
+			IPath updatepath = C_PATH.append("classref.java"); //$NON-NLS-1$
+			createWorkspaceFile(updatepath, getReplacementType("test14", WITHOUTTAG, "classref.java")); //$NON-NLS-1$ //$NON-NLS-2$
+			createWorkspaceFile(XYZ_PATH.append("test14.java"), getTestSource("test14")); //$NON-NLS-1$ //$NON-NLS-2$
+			fullBuild();
+			expectingNoJDTProblems();
+			expectingNoProblems();
+
+			// forget the recorded references, as a canceled use scan does
+			IProject project = getEnv().getProject("usagetests"); //$NON-NLS-1$
+			BuildState state = BuildState.getLastBuiltState(project);
+			assertNotNull("Missing build state", state); //$NON-NLS-1$
+			assertTrue("The full build must record the references", state.hasTypeDependencies()); //$NON-NLS-1$
+			state.clearTypeDependencies();
+			BuildState.setLastBuiltState(project, state);
+
+			IPath other = TestSuiteHelper.getPluginDirectoryPath().append(TEST_SOURCE_ROOT).append(getTestSourcePath("test14")).append("other.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			createWorkspaceFile(XYZ_PATH.append("other.java"), other); //$NON-NLS-1$
+			incrementalBuild();
+			expectingNoJDTProblems();
+			expectingNoProblems();
+			state = BuildState.getLastBuiltState(project);
+			assertFalse("The references of some types must not be recorded as the references of the project", state.hasTypeDependencies()); //$NON-NLS-1$
+
+			updateWorkspaceFile(updatepath, getReplacementType("test14", WITHTAG, "classref.java")); //$NON-NLS-1$ //$NON-NLS-2$
+			incrementalBuild();
+			expectingNoJDTProblems();
+			assertProblems(getEnv().getProblems());
+		} finally {
+			if (autoBuilding) {
+				getEnv().setAutoBuilding(true);
+			}
+		}
+	}
 }
@@ -578,4 +578,23 @@ public class BundlesDeltaTests extends DeltaTestSetup {
 		assertNotNull("No delta", delta); //$NON-NLS-1$
 		assertFalse("Equals to NO_DELTA", delta == ApiComparator.NO_DELTA); //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test that a parallel comparison of two baselines returns the same deltas
+	 * in the same order as a serial comparison
+	 */
+	@Test
+	public void test17() {
+		deployBundles("test1"); //$NON-NLS-1$
+		IDelta delta = ApiComparator.compare(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, true, null);
+		IDelta parallelDelta = ApiComparator.compare(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, true, 4, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		assertNotNull("No parallel delta", parallelDelta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		IDelta[] allParallelLeavesDeltas = collectLeaves(parallelDelta);
+		assertEquals("Wrong size", allLeavesDeltas.length, allParallelLeavesDeltas.length); //$NON-NLS-1$
+		for (int i = 0; i < allLeavesDeltas.length; i++) {
+			assertEquals("Wrong delta", allLeavesDeltas[i], allParallelLeavesDeltas[i]); //$NON-NLS-1$
+		}
+	}
+}
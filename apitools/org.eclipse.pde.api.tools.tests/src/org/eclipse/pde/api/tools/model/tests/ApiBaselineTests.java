@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,15 +19,21 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ApiBaselineIndex;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -92,6 +98,54 @@ public class ApiBaselineTests {
 		assertEquals("Wrong provider for package", fBaseline.getApiComponent(COMPONENT_A), components[0]); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that repeated lookups of a package give the same providers
+	 */
+	@Test
+	public void testResolvePackageRepeated() throws CoreException {
+		IApiComponent source = fBaseline.getApiComponent(COMPONENT_B);
+		IApiComponent[] first = fBaseline.resolvePackage(source, COMPONENT_A);
+		IApiComponent[] second = fBaseline.resolvePackage(source, COMPONENT_A);
+		assertEquals("Wrong providers", Arrays.asList(first), Arrays.asList(second)); //$NON-NLS-1$
+		assertEquals("Wrong size", 0, fBaseline.resolvePackage(source, "does.not.exist").length); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiComponent[] own = fBaseline.resolvePackage(fBaseline.getApiComponent(COMPONENT_A), "a.b.c"); //$NON-NLS-1$
+		assertEquals("Wrong size", 1, own.length); //$NON-NLS-1$
+		assertEquals("Wrong provider for package", fBaseline.getApiComponent(COMPONENT_A), own[0]); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the providers of a package are looked up again once the
+	 * components of the baseline have changed
+	 */
+	@Test
+	public void testResolvePackageAfterChange() throws Exception {
+		IApiComponent source = fBaseline.getApiComponent(COMPONENT_B);
+		IApiComponent previous = fBaseline.getApiComponent(COMPONENT_A);
+		IApiComponent[] providers = fBaseline.resolvePackage(source, COMPONENT_A);
+		assertEquals("Wrong providers", Arrays.asList(previous), Arrays.asList(providers)); //$NON-NLS-1$
+
+		Path location = Files.createTempDirectory("component.a"); //$NON-NLS-1$
+		try {
+			Map<String, String> manifest = Map.of("Bundle-ManifestVersion", "2", //$NON-NLS-1$ //$NON-NLS-2$
+					"Bundle-Name", "A Plug-in", //$NON-NLS-1$ //$NON-NLS-2$
+					"Bundle-SymbolicName", COMPONENT_A, //$NON-NLS-1$
+					"Bundle-Version", "2.0.0", //$NON-NLS-1$ //$NON-NLS-2$
+					"Export-Package", COMPONENT_A); //$NON-NLS-1$
+			IApiComponent component = ApiModelFactory.newApiComponent(fBaseline, location.toString(), manifest);
+			assertNotNull("the new version of " + COMPONENT_A + " should be created", component); //$NON-NLS-1$ //$NON-NLS-2$
+			fBaseline.addApiComponents(new IApiComponent[] { component });
+			assertEquals("the new version should replace " + COMPONENT_A, component, fBaseline.getApiComponent(COMPONENT_A)); //$NON-NLS-1$
+
+			providers = fBaseline.resolvePackage(source, COMPONENT_A);
+			assertEquals("The package should be provided by the new version", Arrays.asList(component), Arrays.asList(providers)); //$NON-NLS-1$
+			((ApiBaseline) fBaseline).clearPackage(COMPONENT_A);
+			providers = fBaseline.resolvePackage(source, COMPONENT_A);
+			assertEquals("The package should be provided by the new version", Arrays.asList(component), Arrays.asList(providers)); //$NON-NLS-1$
+		} finally {
+			TestSuiteHelper.delete(location.toFile());
+		}
+	}
+
 	/**
 	 * Resolves a package within a single component
 	 */
@@ -315,4 +369,32 @@ public class ApiBaselineTests {
 		fBaseline.setLocation("new_loc"); //$NON-NLS-1$
 		assertNotNull("The location must not be null", fBaseline.getLocation()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that the manifests written to a baseline index are read back and
+	 * can be used to create components
+	 */
+	@Test
+	public void testBaselineIndex() throws Exception {
+		IApiComponent component = fBaseline.getApiComponent(COMPONENT_A);
+		ApiBaselineIndex index = new ApiBaselineIndex();
+		index.add(component.getLocation(), null);
+		Path file = Files.createTempFile("baseline", ApiBaselineIndex.INDEX_FILE_EXTENSION); //$NON-NLS-1$
+		try {
+			index.write(file);
+			ApiBaselineIndex restored = ApiBaselineIndex.read(file);
+			assertNotNull("The index must be restored", restored); //$NON-NLS-1$
+			assertEquals("Wrong size", 1, restored.size()); //$NON-NLS-1$
+			Map<String, String> manifest = restored.getManifest(component.getLocation());
+			assertNotNull("Missing manifest", manifest); //$NON-NLS-1$
+			assertEquals("Wrong symbolic name", COMPONENT_A, manifest.get("bundle-symbolicname")); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNull("Unknown location must not have a manifest", restored.getManifest("unknown")); //$NON-NLS-1$ //$NON-NLS-2$
+			IApiComponent restoredComponent = ApiModelFactory.newApiComponent(fBaseline, component.getLocation(), manifest);
+			assertNotNull("The component must be created", restoredComponent); //$NON-NLS-1$
+			assertEquals("Wrong version", _1_0_0, restoredComponent.getVersion()); //$NON-NLS-1$
+			restoredComponent.dispose();
+		} finally {
+			Files.delete(file);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionXmlCreator;
+import org.eclipse.pde.api.tools.internal.FrozenApiDescription;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
@@ -779,6 +780,91 @@ public class ApiDescriptionTests {
 		resolveType("a.b.c.internal.PB", VisibilityModifiers.PRIVATE, RestrictionModifiers.NO_RESTRICTIONS); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that a frozen API description visits the same elements with the
+	 * same annotations in the same order as the description it was created
+	 * from
+	 */
+	@Test
+	public void testFrozenVisit() {
+		ApiDescription manifest = (ApiDescription) buildManifest();
+		assertEquals("Wrong visit", getVisit(manifest), getVisit(new FrozenApiDescription(manifest))); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a frozen API description resolves the same annotations as the
+	 * description it was created from
+	 */
+	@Test
+	public void testFrozenResolveAnnotations() {
+		ApiDescription manifest = (ApiDescription) buildManifest();
+		IApiDescription frozen = new FrozenApiDescription(manifest);
+		String voidSig = Signature.createMethodSignature(new String[0], Signature.SIG_VOID);
+		IElementDescriptor[] elements = new IElementDescriptor[] {
+				Factory.packageDescriptor(""), //$NON-NLS-1$
+				Factory.typeDescriptor("A"), //$NON-NLS-1$
+				Factory.typeDescriptor("B"), //$NON-NLS-1$
+				Factory.methodDescriptor("B", "m1", voidSig), //$NON-NLS-1$ //$NON-NLS-2$
+				Factory.methodDescriptor("B", "m1", Signature.createMethodSignature(new String[] { Signature.SIG_INT }, Signature.SIG_VOID)), //$NON-NLS-1$ //$NON-NLS-2$
+				Factory.fieldDescriptor("D", "f1"), //$NON-NLS-1$ //$NON-NLS-2$
+				Factory.fieldDescriptor("D", "f3"), //$NON-NLS-1$ //$NON-NLS-2$
+				Factory.typeDescriptor("a.b.c.A"), //$NON-NLS-1$
+				Factory.methodDescriptor("a.b.c.A", "m2", voidSig), //$NON-NLS-1$ //$NON-NLS-2$
+				Factory.fieldDescriptor("a.b.c.D", "f2"), //$NON-NLS-1$ //$NON-NLS-2$
+				Factory.typeDescriptor("a.b.c.spi.SpiC"), //$NON-NLS-1$
+				Factory.typeDescriptor("a.b.c.internal.PA"), //$NON-NLS-1$
+				Factory.typeDescriptor("x.y.z.Missing") //$NON-NLS-1$
+		};
+		for (IElementDescriptor element : elements) {
+			IApiAnnotations expected = manifest.resolveAnnotations(element);
+			IApiAnnotations actual = frozen.resolveAnnotations(element);
+			if (expected == null) {
+				assertNull("Should not resolve " + element, actual); //$NON-NLS-1$
+			} else {
+				assertEquals("Wrong visibility for " + element, expected.getVisibility(), actual.getVisibility()); //$NON-NLS-1$
+				assertEquals("Wrong restrictions for " + element, expected.getRestrictions(), actual.getRestrictions()); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Tests that the annotations of existing elements of a frozen API
+	 * description can be changed, but that no elements can be added
+	 */
+	@Test
+	public void testFrozenSetVisibility() {
+		IApiDescription frozen = new FrozenApiDescription((ApiDescription) buildManifest());
+		IPackageDescriptor pkg = Factory.packageDescriptor("a.b.c"); //$NON-NLS-1$
+		assertTrue("Should set the visibility", frozen.setVisibility(pkg, VisibilityModifiers.PRIVATE).isOK()); //$NON-NLS-1$
+		assertEquals("Wrong package visibility", VisibilityModifiers.PRIVATE, frozen.resolveAnnotations(pkg).getVisibility()); //$NON-NLS-1$
+		IApiAnnotations annotations = frozen.resolveAnnotations(pkg.getType("C")); //$NON-NLS-1$
+		assertEquals("Wrong inherited visibility", VisibilityModifiers.PRIVATE, annotations.getVisibility()); //$NON-NLS-1$
+		assertEquals("Restrictions should not change", RestrictionModifiers.NO_EXTEND, annotations.getRestrictions()); //$NON-NLS-1$
+		assertFalse("Should not add a type", frozen.setRestrictions(pkg.getType("E"), RestrictionModifiers.NO_EXTEND).isOK()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("Should not add a package", frozen.setVisibility(Factory.packageDescriptor("x.y.z"), VisibilityModifiers.API).isOK()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the elements and annotations visited in the given description as
+	 * strings
+	 */
+	private List<String> getVisit(IApiDescription description) {
+		final List<String> visit = new ArrayList<>();
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				visit.add("begin " + element + ' ' + annotations.getVisibility() + ' ' + annotations.getRestrictions()); //$NON-NLS-1$
+				return true;
+			}
+
+			@Override
+			public void endVisitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				visit.add("end " + element); //$NON-NLS-1$
+			}
+		}, null);
+		return visit;
+	}
+
 	/**
 	 * tests that a binary bundle with no .api_description file has no API
 	 * description
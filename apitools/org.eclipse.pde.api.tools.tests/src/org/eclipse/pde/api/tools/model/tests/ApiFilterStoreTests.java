@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.Arrays;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -152,6 +153,27 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFilterStore(component.getFilterStore(), 4);
 	}
 
+	/**
+	 * Tests that the filters matched while recording filter usage are not
+	 * reported as unused
+	 */
+	@Test
+	public void testUnusedFilters() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		ApiFilterStore store = (ApiFilterStore) component.getFilterStore();
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(IPath.fromOSString("src/x/C1.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/C1.java must exist", resource); //$NON-NLS-1$
+		store.recordFilterUsage();
+		assertEquals("all filters should be unused", 8, store.getUnusedFilters(null, null, null).length); //$NON-NLS-1$
+		IApiProblem problem = ApiProblemFactory.newApiProblem(resource.getProjectRelativePath().toPortableString(), null, null, null, null, -1, -1, -1, IApiProblem.CATEGORY_COMPATIBILITY, 4, IDelta.REMOVED, IDelta.FIELD);
+		assertTrue("the removed binary problem for src/x/C1.java should be filtered", store.isFiltered(problem)); //$NON-NLS-1$
+		IApiProblemFilter[] unused = store.getUnusedFilters(null, null, null);
+		assertEquals("one filter should be used", 7, unused.length); //$NON-NLS-1$
+		assertFalse("the used filter should not be unused", Arrays.stream(unused).anyMatch(f -> f.getUnderlyingProblem().equals(problem))); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests that asking the store if it filters an invalid problem will return
 	 * 'false'
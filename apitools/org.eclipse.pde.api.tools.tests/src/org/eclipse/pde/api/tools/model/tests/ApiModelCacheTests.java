@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -44,6 +45,14 @@ public class ApiModelCacheTests {
 	 * using the default test component - created using {@link #TEST_COMP_ID}
 	 */
 	private void cacheType(String typename) throws Exception {
+		cacheType(ApiModelCache.getCache(), typename);
+	}
+
+	/**
+	 * Creates a testing {@link IApiType} with the given type name and adds it
+	 * to the given cache
+	 */
+	private static void cacheType(ApiModelCache cache, String typename) throws Exception {
 		IApiType type = TestSuiteHelper.createTestingApiType(
 				TEST_BASELINE_ID,
 				TEST_COMP_ID,
@@ -52,7 +61,7 @@ public class ApiModelCacheTests {
 				null,
 				0,
 				null);
-		ApiModelCache.getCache().cacheElementInfo(type);
+		cache.cacheElementInfo(type);
 	}
 
 	/**
@@ -160,4 +169,65 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests removing all cached root and member types of a component
+	 */
+	@Test
+	public void testRemoveComponentInfo() throws Exception {
+		cacheType("a.b.c.testee1"); //$NON-NLS-1$
+		cacheType("a.b.c.testee1$inner"); //$NON-NLS-1$
+		cacheType("a.b.c.testee2"); //$NON-NLS-1$
+		assertNotNull("The element 'a.b.c.testee2' should exist in the cache", //$NON-NLS-1$
+				ApiModelCache.getCache().getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.testee2", IApiElement.TYPE)); //$NON-NLS-1$
+		assertTrue("The component " + TEST_COMP_ID + " should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, null, IApiElement.COMPONENT)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("The element 'a.b.c.testee1$inner' should not exist in the cache", //$NON-NLS-1$
+				ApiModelCache.getCache().getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.testee1$inner", IApiElement.TYPE)); //$NON-NLS-1$
+		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
+		assertFalse("The component " + TEST_COMP_ID + " should not have been removed twice", ApiModelCache.getCache().removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, null, IApiElement.COMPONENT)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that the least recently used types are evicted once the estimated
+	 * size of the cached types exceeds the bound, and that the cache is then
+	 * back under 90% of its bound
+	 */
+	@Test
+	public void testEvictLeastRecentlyUsed() throws Exception {
+		ApiModelCache sizing = new ApiModelCache(Long.MAX_VALUE);
+		cacheType(sizing, "a.b.c.T00"); //$NON-NLS-1$
+		long weight = sizing.getWeight();
+		assertTrue("The cached type must have a size", weight > 0); //$NON-NLS-1$
+
+		long maxWeight = weight * 10;
+		ApiModelCache cache = new ApiModelCache(maxWeight);
+		for (int i = 0; i < 10; i++) {
+			cacheType(cache, typeName(i));
+			Thread.sleep(1);
+		}
+		assertEquals("No type should have been evicted at the bound", maxWeight, cache.getWeight()); //$NON-NLS-1$
+		// use the first types again, the next ones are now the least recently
+		// used
+		for (int i = 0; i < 5; i++) {
+			assertNotNull("The type " + typeName(i) + " should be cached", //$NON-NLS-1$ //$NON-NLS-2$
+					cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, typeName(i), IApiElement.TYPE));
+			Thread.sleep(1);
+		}
+		cacheType(cache, typeName(10));
+
+		assertTrue("The cache should be under 90% of its bound: " + cache.getWeight(), cache.getWeight() <= maxWeight / 10 * 9); //$NON-NLS-1$
+		for (int i = 5; i < 7; i++) {
+			assertNull("The least recently used type " + typeName(i) + " should have been evicted", //$NON-NLS-1$ //$NON-NLS-2$
+					cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, typeName(i), IApiElement.TYPE));
+		}
+		for (int i : new int[] { 0, 1, 2, 3, 4, 7, 8, 9, 10 }) {
+			assertNotNull("The recently used type " + typeName(i) + " should not have been evicted", //$NON-NLS-1$ //$NON-NLS-2$
+					cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, typeName(i), IApiElement.TYPE));
+		}
+		assertEquals("The remaining types should account for the size", 9 * weight, cache.getWeight()); //$NON-NLS-1$
+	}
+
+	private static String typeName(int i) {
+		return String.format("a.b.c.T%02d", Integer.valueOf(i)); //$NON-NLS-1$
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,23 +13,38 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.junit.Test;
@@ -47,11 +62,21 @@ public class ApiTypeContainerTests {
 	 * @return sample archive
 	 */
 	protected IApiTypeContainer buildArchiveContainer() {
+		return buildArchiveContainer(false);
+	}
+
+	/**
+	 * Builds a sample archive on sample.jar
+	 *
+	 * @param immutable whether the archive is memory mapped
+	 * @return sample archive
+	 */
+	protected IApiTypeContainer buildArchiveContainer(boolean immutable) {
 		IPath path = TestSuiteHelper.getPluginDirectoryPath();
 		path = path.append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
 		File file = path.toFile();
 		assertTrue("Missing jar file", file.exists()); //$NON-NLS-1$
-		return new ArchiveApiTypeContainer(null, path.toOSString());
+		return new ArchiveApiTypeContainer(null, path.toOSString(), immutable);
 	}
 
 	/**
@@ -227,4 +252,226 @@ public class ApiTypeContainerTests {
 		assertEquals("Visited wrong number of packages", expectedPkgOrder.size(), visit.size()); //$NON-NLS-1$
 		assertEquals("Visit order incorrect", expectedPkgOrder, visit);		 //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that the contents of the class files of an archive are the same as
+	 * the ones of the zip entries
+	 */
+	@Test
+	public void testArchiveTypeRootContents() throws Exception {
+		doTestArchiveTypeRootContents(buildArchiveContainer(false));
+	}
+
+	/**
+	 * Tests that the contents of the class files of a memory mapped archive are
+	 * the same as the ones of the zip entries
+	 */
+	@Test
+	public void testMappedArchiveTypeRootContents() throws Exception {
+		doTestArchiveTypeRootContents(buildArchiveContainer(true));
+	}
+
+	/**
+	 * Tests that closing one of two containers sharing the mapping of an
+	 * archive does not affect the other one, and that a closed container can
+	 * be used again
+	 */
+	@Test
+	public void testSharedMappedArchive() throws Exception {
+		IApiTypeContainer first = buildArchiveContainer(true);
+		IApiTypeContainer second = buildArchiveContainer(true);
+		try {
+			String[] packageNames = first.getPackageNames();
+			assertArrayEquals("Wrong packages", packageNames, second.getPackageNames()); //$NON-NLS-1$
+			first.close();
+			doTestArchiveTypeRootContents(second);
+			doTestArchiveTypeRootContents(first);
+		} finally {
+			first.close();
+			second.close();
+		}
+	}
+
+	/**
+	 * Tests that the contents of the class files of an archive are the same as
+	 * the ones of the zip entries, closes the container
+	 */
+	private void doTestArchiveTypeRootContents(IApiTypeContainer container) throws Exception {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		int count = 0;
+		try (ZipFile zipFile = new ZipFile(path.toFile())) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				String name = entry.getName();
+				if (!name.endsWith(".class")) { //$NON-NLS-1$
+					continue;
+				}
+				String typeName = name.substring(0, name.length() - 6).replace('/', '.');
+				IApiTypeRoot root = container.findTypeRoot(typeName);
+				assertNotNull("Missing type root " + typeName, root); //$NON-NLS-1$
+				try (InputStream stream = zipFile.getInputStream(entry)) {
+					assertArrayEquals("Wrong contents for " + typeName, stream.readAllBytes(), root.getContents()); //$NON-NLS-1$
+				}
+				count++;
+			}
+		} finally {
+			container.close();
+		}
+		assertTrue("No class file found", count > 0); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the type structures of the classes of an archive built on
+	 * demand are the ones built by ASM
+	 */
+	@Test
+	public void testArchiveTypeStructureMembers() throws Exception {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiTypeContainer container = buildArchiveContainer();
+		int count = 0;
+		try (ZipFile zipFile = new ZipFile(path.toFile())) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				String name = entries.nextElement().getName();
+				if (!name.endsWith(".class")) { //$NON-NLS-1$
+					continue;
+				}
+				String typeName = name.substring(0, name.length() - 6).replace('/', '.');
+				IApiTypeRoot root = container.findTypeRoot(typeName);
+				assertNotNull("Missing type root " + typeName, root); //$NON-NLS-1$
+				assertSameStructure(root);
+				count++;
+			}
+		} finally {
+			container.close();
+		}
+		assertTrue("No class file found", count > 0); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the type structures of the classes of the system library
+	 * built on demand are the ones built by ASM. The classes have generic
+	 * signatures, exceptions, constants, deprecated and synthetic members and
+	 * member, local and anonymous types.
+	 */
+	@Test
+	public void testSystemTypeStructureMembers() throws Exception {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", IPath.fromOSString("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			IApiComponent system = null;
+			for (IApiComponent component : baseline.getApiComponents()) {
+				if (component.isSystemComponent()) {
+					system = component;
+					break;
+				}
+			}
+			assertNotNull("Missing system library", system); //$NON-NLS-1$
+			List<IApiTypeRoot> roots = new ArrayList<>();
+			system.accept(new ApiTypeContainerVisitor() {
+				@Override
+				public boolean visitPackage(String packageName) {
+					return "java.lang".equals(packageName) || "java.util".equals(packageName); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+
+				@Override
+				public void visit(String packageName, IApiTypeRoot typeroot) {
+					roots.add(typeroot);
+				}
+			});
+			assertTrue("Too few system types: " + roots.size(), roots.size() > 100); //$NON-NLS-1$
+			for (IApiTypeRoot root : roots) {
+				assertSameStructure(root);
+			}
+		} finally {
+			ApiTestingEnvironment.dispose(baseline);
+		}
+	}
+
+	/**
+	 * Asserts that the type structure of the given class file built on demand
+	 * is the one built by ASM, when its members are looked up one by one and
+	 * when all of them are asked for
+	 */
+	private static void assertSameStructure(IApiTypeRoot root) throws CoreException {
+		String typeName = root.getTypeName();
+		byte[] contents = root.getContents();
+		IApiType expected = TypeStructureBuilder.buildTypeStructure(contents, null, root, true);
+		IApiType single = TypeStructureBuilder.buildTypeStructure(contents, null, root, false);
+		IApiType all = TypeStructureBuilder.buildTypeStructure(contents, null, root, false);
+		assertNotNull("Missing structure " + typeName, expected); //$NON-NLS-1$
+		assertNotNull("Missing structure built on demand " + typeName, single); //$NON-NLS-1$
+		assertSameType(expected, single);
+		assertSameType(expected, all);
+
+		IApiMethod[] methods = expected.getMethods();
+		for (IApiMethod method : methods) {
+			IApiMethod found = single.getMethod(method.getName(), method.getSignature());
+			assertNotNull("Missing method " + typeName + '#' + method.getName() + method.getSignature(), found); //$NON-NLS-1$
+			assertSameMethod(typeName, method, found);
+			assertSame("Method built twice", found, single.getMethod(method.getName(), method.getSignature())); //$NON-NLS-1$
+		}
+		for (IApiField field : expected.getFields()) {
+			IApiField found = single.getField(field.getName());
+			assertNotNull("Missing field " + typeName + '#' + field.getName(), found); //$NON-NLS-1$
+			assertSameField(typeName, field, found);
+		}
+		assertEquals("Wrong number of methods of " + typeName, methods.length, single.getMethods().length); //$NON-NLS-1$
+		assertEquals("Wrong number of fields of " + typeName, expected.getFields().length, single.getFields().length); //$NON-NLS-1$
+
+		Map<String, IApiMethod> allMethods = new HashMap<>();
+		for (IApiMethod method : all.getMethods()) {
+			allMethods.put(method.getName() + method.getSignature(), method);
+		}
+		assertEquals("Wrong methods of " + typeName, methods.length, allMethods.size()); //$NON-NLS-1$
+		for (IApiMethod method : methods) {
+			IApiMethod found = allMethods.get(method.getName() + method.getSignature());
+			assertNotNull("Missing method " + typeName + '#' + method.getName() + method.getSignature(), found); //$NON-NLS-1$
+			assertSameMethod(typeName, method, found);
+		}
+		Map<String, IApiField> allFields = new HashMap<>();
+		for (IApiField field : all.getFields()) {
+			allFields.put(field.getName(), field);
+		}
+		assertEquals("Wrong fields of " + typeName, expected.getFields().length, allFields.size()); //$NON-NLS-1$
+		for (IApiField field : expected.getFields()) {
+			IApiField found = allFields.get(field.getName());
+			assertNotNull("Missing field " + typeName + '#' + field.getName(), found); //$NON-NLS-1$
+			assertSameField(typeName, field, found);
+		}
+	}
+
+	private static void assertSameType(IApiType expected, IApiType actual) {
+		String typeName = expected.getName();
+		assertEquals("Wrong name", typeName, actual.getName()); //$NON-NLS-1$
+		assertEquals("Wrong signature of " + typeName, expected.getSignature(), actual.getSignature()); //$NON-NLS-1$
+		assertEquals("Wrong generic signature of " + typeName, expected.getGenericSignature(), actual.getGenericSignature()); //$NON-NLS-1$
+		assertEquals("Wrong modifiers of " + typeName, expected.getModifiers(), actual.getModifiers()); //$NON-NLS-1$
+		assertEquals("Wrong superclass of " + typeName, expected.getSuperclassName(), actual.getSuperclassName()); //$NON-NLS-1$
+		assertArrayEquals("Wrong superinterfaces of " + typeName, expected.getSuperInterfaceNames(), actual.getSuperInterfaceNames()); //$NON-NLS-1$
+		assertEquals("Wrong simple name of " + typeName, expected.getSimpleName(), actual.getSimpleName()); //$NON-NLS-1$
+		assertEquals("Wrong anonymous flag of " + typeName, expected.isAnonymous(), actual.isAnonymous()); //$NON-NLS-1$
+		assertEquals("Wrong local flag of " + typeName, expected.isLocal(), actual.isLocal()); //$NON-NLS-1$
+		assertEquals("Wrong member type flag of " + typeName, expected.isMemberType(), actual.isMemberType()); //$NON-NLS-1$
+		assertArrayEquals("Wrong member types of " + typeName, ((ApiType) expected).getMemberTypeNames(), ((ApiType) actual).getMemberTypeNames()); //$NON-NLS-1$
+	}
+
+	private static void assertSameMethod(String typeName, IApiMethod expected, IApiMethod actual) {
+		String name = typeName + '#' + expected.getName() + expected.getSignature();
+		assertEquals("Wrong generic signature of " + name, expected.getGenericSignature(), actual.getGenericSignature()); //$NON-NLS-1$
+		assertEquals("Wrong modifiers of " + name, expected.getModifiers(), actual.getModifiers()); //$NON-NLS-1$
+		assertArrayEquals("Wrong exceptions of " + name, expected.getExceptionNames(), actual.getExceptionNames()); //$NON-NLS-1$
+		assertEquals("Wrong default value of " + name, expected.getDefaultValue(), actual.getDefaultValue()); //$NON-NLS-1$
+		assertEquals("Wrong synthetic flag of " + name, expected.isSynthetic(), actual.isSynthetic()); //$NON-NLS-1$
+		assertEquals("Wrong polymorphic flag of " + name, expected.isPolymorphic(), actual.isPolymorphic()); //$NON-NLS-1$
+	}
+
+	private static void assertSameField(String typeName, IApiField expected, IApiField actual) {
+		String name = typeName + '#' + expected.getName();
+		assertEquals("Wrong signature of " + name, expected.getSignature(), actual.getSignature()); //$NON-NLS-1$
+		assertEquals("Wrong generic signature of " + name, expected.getGenericSignature(), actual.getGenericSignature()); //$NON-NLS-1$
+		assertEquals("Wrong modifiers of " + name, expected.getModifiers(), actual.getModifiers()); //$NON-NLS-1$
+		assertEquals("Wrong constant value of " + name, expected.getConstantValue(), actual.getConstantValue()); //$NON-NLS-1$
+		assertEquals("Wrong enum constant flag of " + name, expected.isEnumConstant(), actual.isEnumConstant()); //$NON-NLS-1$
+	}
 }
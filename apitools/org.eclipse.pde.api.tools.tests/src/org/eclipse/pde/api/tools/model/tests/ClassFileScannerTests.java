@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceExtractor;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.junit.AfterClass;
 import org.junit.Test;
@@ -409,6 +414,39 @@ public class ClassFileScannerTests extends ScannerTest {
 		assertTrue("the should be a REF_STATICMETHOD ref to doSomething from classes.Test13A", ref != null); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that extracting only declaration references, which skips the
+	 * method bodies, finds the same references at the same lines as a full
+	 * extraction
+	 */
+	@Test
+	public void testScanDeclarationsOnly() throws CoreException {
+		for (String name : new String[] { "Test5", "Test7", "Test8", "Test9", "Test13", "Test14" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			List<String> expected = new ArrayList<>();
+			for (IReference ref : getRefSet(name)) {
+				if ((ref.getReferenceKind() & ReferenceExtractor.DECLARATION_REFERENCES_MASK) != 0) {
+					expected.add(getDescription(ref));
+				}
+			}
+			List<String> actual = new ArrayList<>();
+			for (IReference ref : getRefSet(name, ReferenceExtractor.DECLARATION_REFERENCES_MASK)) {
+				actual.add(getDescription(ref));
+			}
+			Collections.sort(expected);
+			Collections.sort(actual);
+			assertEquals("wrong declaration references in " + name, expected, actual); //$NON-NLS-1$
+		}
+		IReference ref = findMemberReference("classes.Test7", "m1", "java.lang.String", null, IReference.REF_RETURNTYPE, getRefSet("Test7", ReferenceExtractor.DECLARATION_REFERENCES_MASK)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertTrue("m1 should have a REF_RETURNTYPE ref to java.lang.String", ref != null); //$NON-NLS-1$
+		ref = findMemberReference("classes.Test14", "m1", "java.lang.Deprecated", null, IReference.REF_ANNOTATION_USE, getRefSet("Test14")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertTrue("m1 should have a REF_ANNOTATION_USE ref to java.lang.Deprecated", ref != null); //$NON-NLS-1$
+		assertTrue("the method annotation reference should have a line number", ref.getLineNumber() > 0); //$NON-NLS-1$
+	}
+
+	private String getDescription(IReference ref) {
+		return Reference.getReferenceText(ref.getReferenceKind()) + ' ' + ref.getMember().getName() + " -> " + ref.getReferencedTypeName() + '#' + ref.getReferencedMemberName() + ':' + ref.getLineNumber(); //$NON-NLS-1$
+	}
+
 	/**
 	 * Cleans up after the tests are done. This must be the last test run
 	 */
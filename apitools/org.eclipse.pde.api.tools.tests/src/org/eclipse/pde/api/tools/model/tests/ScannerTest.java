@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,10 +97,22 @@ public abstract class ScannerTest {
 	 *         <code>null</code>
 	 */
 	protected List<IReference> getRefSet(String qualifiedname) {
+		return getRefSet(qualifiedname, IReference.MASK_REF_ALL);
+	}
+
+	/**
+	 * Returns the set of references of the given kinds collected from the given
+	 * class file
+	 *
+	 * @return the set of references from the specified class file name or
+	 *         <code>null</code>
+	 * @since 1.3.400
+	 */
+	protected List<IReference> getRefSet(String qualifiedname, int referenceKinds) {
 		try {
 			IApiTypeRoot cfile = container.findTypeRoot(qualifiedname);
 			IApiType type = cfile.getStructure();
-			List<IReference> references = type.extractReferences(IReference.MASK_REF_ALL, null);
+			List<IReference> references = type.extractReferences(referenceKinds, null);
 			return references;
 		} catch (CoreException ce) {
 			fail(ce.getMessage());
@@ -74,6 +74,23 @@ public class SearchEngineTests extends SearchTest {
 		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, null);
 	}
 
+	/**
+	 * Tests that the search engine reports the same matches when the scope is
+	 * searched with several threads
+	 */
+	@Test
+	public void testSearchSeparateScopeConcurrently() throws CoreException {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		this.scope = getTestScope(DEFAULT_SCOPE_PROJECTS);
+		TEST_REQUESTOR.setScopeBaseline(this.scope);
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(new String[] { P2_NAME, P3_NAME },
+				new int[][] { { IReference.REF_FIELDDECL, IReference.REF_FIELDDECL },
+						{ IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL } });
+		TEST_REPORTER.setExpectedNotSearched(null);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, 2, null);
+	}
+
 	/**
 	 * Tests that an entry in the exclude file is honored
 	 */
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.search.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.api.tools.internal.search.ConsumerReportConvertor;
+import org.eclipse.pde.api.tools.internal.search.UseReportConverter;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link UseReportConverter} and the
+ * {@link ConsumerReportConvertor} write the same HTML report whether they
+ * convert the use scan on one or on several threads
+ *
+ * @since 1.3.400
+ */
+public class UseReportConverterTests {
+
+	/**
+	 * Number of threads of the parallel conversion
+	 */
+	private static final int PARALLELISM = 4;
+
+	/**
+	 * The use scan to convert, it references many components and is used by
+	 * several consumers
+	 */
+	private static final String REPORT = "PDEApiUseScanReport"; //$NON-NLS-1$
+
+	private Path root;
+	private Path xml;
+
+	@Before
+	public void setUp() throws Exception {
+		root = Files.createTempDirectory("usereport"); //$NON-NLS-1$
+		IPath zip = TestSuiteHelper.getPluginDirectoryPath().append("test-apiusescan").append("reports").append(REPORT + ".zip"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		Util.unzip(zip.toOSString(), root.toString());
+		xml = root.resolve(REPORT).resolve("xml"); //$NON-NLS-1$
+		assertTrue("Missing use scan " + xml, Files.isDirectory(xml)); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		TestSuiteHelper.delete(root.toFile());
+	}
+
+	/**
+	 * Returns the contents of the files of the given report keyed by their
+	 * path relative to the report
+	 */
+	private static Map<String, String> readReport(Path html) throws IOException {
+		Map<String, String> files = new TreeMap<>();
+		try (Stream<Path> paths = Files.walk(html)) {
+			for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+				files.put(html.relativize(path).toString().replace('\\', '/'), Files.readString(path));
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Converts the use scan with the given converter and returns the written
+	 * report
+	 */
+	private Map<String, String> convert(UseReportConverter converter, Path html) throws Exception {
+		converter.convert(null, new NullProgressMonitor());
+		assertTrue("Missing report index in " + html, Files.isRegularFile(html.resolve("index.html"))); //$NON-NLS-1$ //$NON-NLS-2$
+		return readReport(html);
+	}
+
+	/**
+	 * Tests that converting the references to each component on several
+	 * threads writes the same pages as the conversion on the calling thread
+	 */
+	@Test
+	public void testParallelUseReport() throws Exception {
+		Path html = root.resolve("sequential"); //$NON-NLS-1$
+		Map<String, String> expected = convert(new UseReportConverter(html.toString(), xml.toString(), null, null), html);
+		assertTrue("Too few pages to compare: " + expected.size(), expected.size() > PARALLELISM); //$NON-NLS-1$
+
+		for (int i = 0; i < 2; i++) {
+			html = root.resolve("parallel" + i); //$NON-NLS-1$
+			UseReportConverter converter = new UseReportConverter(html.toString(), xml.toString(), null, null);
+			converter.setParallelism(PARALLELISM);
+			Map<String, String> actual = convert(converter, html);
+			assertEquals("The parallel conversion must write the same pages", expected.keySet(), actual.keySet()); //$NON-NLS-1$
+			for (Map.Entry<String, String> entry : expected.entrySet()) {
+				assertEquals("The parallel conversion must write the same " + entry.getKey(), entry.getValue(), actual.get(entry.getKey())); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Tests that collecting the references of each consumer on several threads
+	 * writes the same pages as the conversion on the calling thread
+	 */
+	@Test
+	public void testParallelConsumerReport() throws Exception {
+		Path html = root.resolve("sequential"); //$NON-NLS-1$
+		Map<String, String> expected = convert(new ConsumerReportConvertor(html.toString(), xml.toString(), null, null), html);
+		assertTrue("Too few pages to compare: " + expected.size(), expected.size() > PARALLELISM); //$NON-NLS-1$
+
+		for (int i = 0; i < 2; i++) {
+			html = root.resolve("parallel" + i); //$NON-NLS-1$
+			ConsumerReportConvertor converter = new ConsumerReportConvertor(html.toString(), xml.toString(), null, null);
+			converter.setParallelism(PARALLELISM);
+			Map<String, String> actual = convert(converter, html);
+			assertEquals("The parallel conversion must write the same pages", expected.keySet(), actual.keySet()); //$NON-NLS-1$
+			for (Map.Entry<String, String> entry : expected.entrySet()) {
+				assertEquals("The parallel conversion must write the same " + entry.getKey(), entry.getValue(), actual.get(entry.getKey())); //$NON-NLS-1$
+			}
+		}
+	}
+}
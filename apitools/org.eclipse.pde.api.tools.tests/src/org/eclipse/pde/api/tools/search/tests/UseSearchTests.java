@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,14 +21,26 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
+import org.eclipse.pde.api.tools.internal.provisional.search.IMetadata;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanParser;
+import org.eclipse.pde.api.tools.internal.search.UseScanVisitor;
+import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.After;
@@ -185,6 +197,86 @@ public class UseSearchTests extends SearchTest {
 		}
 	}
 
+	/**
+	 * Tests that the references written by the XML reporter are read back by
+	 * the {@link UseScanParser}
+	 */
+	@Test
+	public void testSearchXmlReporterParse() throws Exception {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(
+				new String[] {P2_NAME, P3_NAME},
+				new int[][] {{IReference.REF_FIELDDECL, IReference.REF_FIELDDECL}, {IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL}});
+		TEST_REPORTER.setExpectedNotSearched(null);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, getCompositeReporter(false), null);
+		AtomicInteger count = new AtomicInteger();
+		new UseScanParser().parse(XML_PATH.toOSString(), null, new UseScanVisitor() {
+			@Override
+			public void visitReference(IReferenceDescriptor reference) {
+				assertEquals("the reference kind must be written", IReference.REF_FIELDDECL, reference.getReferenceKind()); //$NON-NLS-1$
+				count.incrementAndGet();
+			}
+		});
+		assertEquals("all references must be read back", 5, count.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Runs a use scan of all components of the test baseline with the
+	 * {@link UseSearchRequestor} and returns the accepted references
+	 */
+	private List<String> useScan(IApiBaseline baseline, int threads) throws Exception {
+		IApiComponent[] components = baseline.getApiComponents();
+		HashSet<String> ids = new HashSet<>();
+		for (IApiComponent component : components) {
+			ids.add(component.getSymbolicName());
+		}
+		UseSearchRequestor requestor = new UseSearchRequestor(ids, components, IApiSearchRequestor.INCLUDE_API
+				| IApiSearchRequestor.INCLUDE_INTERNAL | IApiSearchRequestor.INCLUDE_ILLEGAL_USE);
+		List<String> accepted = Collections.synchronizedList(new ArrayList<>());
+		IApiSearchReporter reporter = new IApiSearchReporter() {
+			@Override
+			public void reportResults(IApiElement element, IReference[] references) {
+				for (IReference reference : references) {
+					accepted.add(element.getName() + ": " + reference.getMember().getApiComponent().getSymbolicName() + " " //$NON-NLS-1$ //$NON-NLS-2$
+							+ reference.getMember().getName() + " -> " + reference.getResolvedReference().getName() //$NON-NLS-1$
+							+ " kind " + reference.getReferenceKind() + " flags " + reference.getReferenceFlags() //$NON-NLS-1$ //$NON-NLS-2$
+							+ " line " + reference.getLineNumber()); //$NON-NLS-1$
+				}
+			}
+
+			@Override
+			public void reportNotSearched(IApiElement[] elements) {
+			}
+
+			@Override
+			public void reportMetadata(IMetadata data) {
+			}
+
+			@Override
+			public void reportCounts() {
+			}
+		};
+		new ApiSearchEngine().search(baseline, requestor, reporter, threads, null);
+		Collections.sort(accepted);
+		return accepted;
+	}
+
+	/**
+	 * Tests that a use scan of several components accepts the same references
+	 * when the components are searched concurrently as when they are searched
+	 * one after the other
+	 */
+	@Test
+	public void testUseScanConcurrently() throws Exception {
+		List<String> expected = useScan(getTestBaseline(), 1);
+		assertFalse("the use scan must accept references", expected.isEmpty()); //$NON-NLS-1$
+		for (int i = 0; i < 5; i++) {
+			assertEquals("the concurrent use scan must accept the same references", expected, useScan(getTestBaseline(), 4)); //$NON-NLS-1$
+		}
+	}
+
 	String getProjectId(String project, String version) {
 		StringBuilder buffer = new StringBuilder();
 		buffer.append(project).append(" ").append('(').append(version).append(')'); //$NON-NLS-1$
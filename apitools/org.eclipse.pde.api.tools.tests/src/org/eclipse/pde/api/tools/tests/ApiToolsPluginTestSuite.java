@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,10 @@
 package org.eclipse.pde.api.tools.tests;
 
 import org.eclipse.pde.api.tools.anttasks.tests.ApiToolsAntTasksTestSuite;
+import org.eclipse.pde.api.tools.applications.ApiAnalysisApplicationTest;
 import org.eclipse.pde.api.tools.applications.BundleJarFilesTest;
+import org.eclipse.pde.api.tools.applications.ProjectDirectoriesTest;
+import org.eclipse.pde.api.tools.builder.tests.ApiAnalysisSchedulerTests;
 import org.eclipse.pde.api.tools.builder.tests.ApiBuilderTest;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.model.tests.ApiFilterStoreTests;
@@ -24,6 +27,7 @@ import org.eclipse.pde.api.tools.problems.tests.ApiProblemTests;
 import org.eclipse.pde.api.tools.util.tests.ApiBaselineManagerTests;
 import org.eclipse.pde.api.tools.util.tests.ApiDescriptionProcessorTests;
 import org.eclipse.pde.api.tools.util.tests.PreferencesTests;
+import org.eclipse.pde.api.tools.util.tests.ProjectApiDescriptionStoreTests;
 import org.eclipse.pde.api.tools.util.tests.ProjectCreationTests;
 import org.eclipse.pde.api.tools.util.tests.TargetAsBaselineTests;
 import org.junit.BeforeClass;
@@ -39,9 +43,9 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 		ProjectCreationTests.class, ApiDescriptionProcessorTests.class, PreferencesTests.class,
-		ApiBaselineManagerTests.class, ApiFilterStoreTests.class, FilterStoreTests.class, ApiProblemTests.class,
-		TargetAsBaselineTests.class, ApiBuilderTest.class, ApiToolsAntTasksTestSuite.class,
-		BundleJarFilesTest.class
+		ApiBaselineManagerTests.class, ProjectApiDescriptionStoreTests.class, ApiFilterStoreTests.class, FilterStoreTests.class, ApiProblemTests.class,
+		TargetAsBaselineTests.class, ApiAnalysisSchedulerTests.class, ApiBuilderTest.class, ApiToolsAntTasksTestSuite.class,
+		BundleJarFilesTest.class, ProjectDirectoriesTest.class, ApiAnalysisApplicationTest.class
 })
 public class ApiToolsPluginTestSuite {
 
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests saving and restoring the API descriptions of workspace projects in
+ * the binary file written by the {@link ApiDescriptionManager}
+ *
+ * @since 1.3.400
+ */
+public class ProjectApiDescriptionStoreTests extends AbstractApiTest {
+
+	private static final String TESTING_PACKAGE = "a.b.c"; //$NON-NLS-1$
+	private static final String BINARY_FILE_NAME = IApiCoreConstants.API_DESCRIPTION_XML_NAME + ".bin"; //$NON-NLS-1$
+
+	private final IPath SRC_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-source").append("a").append("b").append("c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	IJavaProject getTestingProject() {
+		return getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME);
+	}
+
+	/**
+	 * Returns the directory of the saved API description of the testing project
+	 */
+	private Path getStateDirectory() {
+		return ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(TESTING_PLUGIN_PROJECT_NAME).toPath();
+	}
+
+	private ProjectComponent getProjectComponent() {
+		ProjectComponent component = (ProjectComponent) getWorkspaceBaseline().getApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		return component;
+	}
+
+	/**
+	 * Returns the API description of the testing project with the restrictions
+	 * of its sources
+	 */
+	private ProjectApiDescription createDescription() throws CoreException {
+		ProjectComponent component = getProjectComponent();
+		ProjectApiDescription description = (ProjectApiDescription) ApiDescriptionManager.getManager().getApiDescription(component, component.getBundleDescription());
+		assertRestrictions(description);
+		return description;
+	}
+
+	/**
+	 * Drops the API description of the testing project from the memory and
+	 * returns the one restored by the {@link ApiDescriptionManager}
+	 */
+	private ProjectApiDescription restoreDescription() throws CoreException {
+		ApiDescriptionManager.getManager().clean(getTestingProject(), false, true);
+		ProjectComponent component = getProjectComponent();
+		IApiDescription description = ApiDescriptionManager.getManager().getApiDescription(component, component.getBundleDescription());
+		assertNotNull("the API description must be restored", description); //$NON-NLS-1$
+		return (ProjectApiDescription) description;
+	}
+
+	/**
+	 * Saves the modified API descriptions
+	 */
+	private void save() throws CoreException {
+		ResourcesPlugin.getWorkspace().save(false, new NullProgressMonitor());
+	}
+
+	/**
+	 * Returns the sorted persisted elements of the given API description with
+	 * their attributes and the attributes of their parents
+	 */
+	private List<String> describe(ProjectApiDescription description) throws CoreException {
+		List<String> elements = new ArrayList<>();
+		describe(description.getXML().getDocumentElement(), "", elements); //$NON-NLS-1$
+		elements.sort(null);
+		return elements;
+	}
+
+	private void describe(Element element, String prefix, List<String> elements) {
+		StringBuilder buffer = new StringBuilder(prefix).append('/').append(element.getTagName());
+		NamedNodeMap attributes = element.getAttributes();
+		List<String> values = new ArrayList<>();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Node attribute = attributes.item(i);
+			values.add(attribute.getNodeName() + '=' + attribute.getNodeValue());
+		}
+		values.sort(null);
+		buffer.append(values);
+		String path = buffer.toString();
+		elements.add(path);
+		NodeList children = element.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			if (children.item(i) instanceof Element child) {
+				describe(child, path, elements);
+			}
+		}
+	}
+
+	private void assertRestriction(IApiDescription description, IElementDescriptor element, int restriction) {
+		IApiAnnotations annotations = description.resolveAnnotations(element);
+		assertNotNull("the annotations for " + element + " cannot be null", annotations); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotEquals("there must be a " + RestrictionModifiers.getRestrictionText(restriction) + " setting for " + element, 0, //$NON-NLS-1$ //$NON-NLS-2$
+				annotations.getRestrictions() & restriction);
+	}
+
+	/**
+	 * Asserts the visibility and the restrictions of the elements of the
+	 * testing sources
+	 */
+	private void assertRestrictions(IApiDescription description) {
+		IApiAnnotations annotations = description.resolveAnnotations(Factory.packageDescriptor(TESTING_PACKAGE));
+		assertNotNull("the annotations for package " + TESTING_PACKAGE + " cannot be null", annotations); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("the exported package must be API visibility", VisibilityModifiers.API, annotations.getVisibility()); //$NON-NLS-1$
+		assertRestriction(description, Factory.typeDescriptor("a.b.c.TestClass1"), RestrictionModifiers.NO_INSTANTIATE); //$NON-NLS-1$
+		assertRestriction(description, Factory.fieldDescriptor("a.b.c.TestField9", "field1"), RestrictionModifiers.NO_REFERENCE); //$NON-NLS-1$ //$NON-NLS-2$
+		assertRestriction(description, Factory.methodDescriptor("a.b.c.TestMethod1", "one", "()V"), RestrictionModifiers.NO_REFERENCE); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertRestriction(description, Factory.methodDescriptor("a.b.c.TestMethod1", "two", "()V"), RestrictionModifiers.NO_OVERRIDE); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that the saved API description is restored with the visibility,
+	 * the restrictions and the children of its elements
+	 */
+	@Test
+	public void testRoundTrip() throws CoreException {
+		List<String> expected = describe(createDescription());
+		save();
+		assertTrue("the binary API description must be written", Files.isRegularFile(getStateDirectory().resolve(BINARY_FILE_NAME))); //$NON-NLS-1$
+
+		ProjectApiDescription restored = restoreDescription();
+		// the XML form is built from the restored nodes without refreshing them
+		assertEquals("the restored API description must hold the saved elements", expected, describe(restored)); //$NON-NLS-1$
+		assertRestrictions(restored);
+	}
+
+	/**
+	 * Tests that a truncated file is ignored and the API description is built
+	 * from the sources again
+	 */
+	@Test
+	public void testTruncatedFile() throws Exception {
+		List<String> expected = describe(createDescription());
+		save();
+		Path file = getStateDirectory().resolve(BINARY_FILE_NAME);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+		ProjectApiDescription restored = restoreDescription();
+		assertRestrictions(restored);
+		save();
+		assertEquals("the API description must be saved again", expected, describe(restoreDescription())); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a file that is no binary API description is ignored and the
+	 * API description is built from the sources again
+	 */
+	@Test
+	public void testCorruptFile() throws Exception {
+		createDescription();
+		save();
+		Files.write(getStateDirectory().resolve(BINARY_FILE_NAME), "not an API description".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+
+		assertRestrictions(restoreDescription());
+	}
+
+	/**
+	 * Tests that the XML file written by earlier versions is restored, and is
+	 * replaced by the binary file on the next save
+	 */
+	@Test
+	public void testMigrationFromXML() throws Exception {
+		ProjectApiDescription description = createDescription();
+		List<String> expected = describe(description);
+		Path xml = getStateDirectory().resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		Path binary = getStateDirectory().resolve(BINARY_FILE_NAME);
+		Util.writeDocumentToFile(description.getXML(), xml);
+		Files.deleteIfExists(binary);
+
+		ProjectApiDescription restored = restoreDescription();
+		assertEquals("the API description must be restored from the XML file", expected, describe(restored)); //$NON-NLS-1$
+		save();
+		assertTrue("the binary API description must be written", Files.isRegularFile(binary)); //$NON-NLS-1$
+		assertFalse("the XML API description must be deleted", Files.exists(xml)); //$NON-NLS-1$
+
+		restored = restoreDescription();
+		assertEquals("the API description must be restored from the binary file", expected, describe(restored)); //$NON-NLS-1$
+		assertRestrictions(restored);
+	}
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PLUGIN_PROJECT_NAME, new String[] { TESTING_PACKAGE });
+		IJavaProject project = getTestingProject();
+		ProjectUtils.addExportedPackage(project.getProject(), TESTING_PACKAGE, false, null);
+		IPackageFragmentRoot root = project.findPackageFragmentRoot(IPath.fromOSString(project.getElementName()).append(ProjectUtils.SRC_FOLDER).makeAbsolute());
+		assertNotNull("the 'src' package fragment root must exist", root); //$NON-NLS-1$
+		IPackageFragment fragment = root.getPackageFragment(TESTING_PACKAGE);
+		for (String source : new String[] { "TestClass1", "TestField9", "TestMethod1" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			FileUtils.importFileFromDirectory(SRC_LOC.append(source + ".java").toFile(), fragment.getPath()); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		IJavaProject project = getTestingProject();
+		if (project != null) {
+			ApiDescriptionManager.getManager().clean(project, true, true);
+		}
+		deleteProject(TESTING_PLUGIN_PROJECT_NAME);
+		super.tearDown();
+	}
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package classes;
+
+import java.util.List;
+
+/**
+ * Tests annotation references from a type, a field and a method
+ */
+@Deprecated
+public class Test14 {
+
+	@Deprecated
+	public List<String> names;
+
+	@Deprecated
+	public String m1(Integer i) throws Exception {
+		return i.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.pde.api.tools.internal.search.ConsumerReportConvertor;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
 import org.eclipse.pde.api.tools.internal.search.UseReportConverter;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.internal.util.Util;
@@ -148,6 +149,11 @@ public class ApiUseScanJob extends Job {
 					reporter.reportNotSearched(ApiUseScanJob.this.notsearched.toArray(new IApiElement[ApiUseScanJob.this.notsearched.size()]));
 					reporter.reportMetadata(data);
 					reporter.reportCounts();
+					try {
+						UseScanIndex.write(xmlPath, null);
+					} catch (Exception e) {
+						ApiPlugin.log(e);
+					}
 					// Dispose the baseline if it's not managed (it's temporary)
 					ApiBaselineManager apiManager = ApiBaselineManager.getManager();
 					IApiBaseline[] baselines = apiManager.getApiBaselines();
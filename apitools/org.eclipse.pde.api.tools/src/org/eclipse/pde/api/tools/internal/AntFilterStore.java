@@ -19,6 +19,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -40,7 +41,7 @@ public class AntFilterStore extends FilterStore {
 
 	String fComponentId = null;
 	String fFiltersRoot = null;
-	public static final List<IApiProblem> filteredAPIProblems = new ArrayList<>();
+	public static final List<IApiProblem> filteredAPIProblems = Collections.synchronizedList(new ArrayList<>());
 	/**
 	 * Constructor
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
+import org.eclipse.core.resources.IBuildConfiguration;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -42,11 +46,14 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisScheduler;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
@@ -56,12 +63,25 @@ import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.Bundle;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 public class ApiAnalysisApplication implements IApplication {
 
+	/**
+	 * Exit status if a project has errors that are not API problems
+	 */
+	private static final int BLOCKING_ERRORS = 10;
+
+	private static final IMarker[] NO_MARKERS = new IMarker[0];
+
+	private static final String SUMMARY_FILE = "summary.xml"; //$NON-NLS-1$
+
 	private static class Request {
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
+		private static final String PROJECTS_ARG = "projects"; //$NON-NLS-1$
+		private static final String OUTPUT_ARG = "output"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
@@ -79,7 +99,11 @@ public class ApiAnalysisApplication implements IApplication {
 					}
 					currentKey = param.substring(1);
 				} else if (PROJECT_ARG.equals(currentKey)) {
-					res.project = new File(param);
+					res.projects.add(new File(param));
+				} else if (PROJECTS_ARG.equals(currentKey)) {
+					res.projectList = new File(param);
+				} else if (OUTPUT_ARG.equals(currentKey)) {
+					res.outputDir = new File(param);
 				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
 					res.baselinePath = new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -94,31 +118,72 @@ public class ApiAnalysisApplication implements IApplication {
 			return res;
 		}
 
-		public File project;
+		/**
+		 * In batch mode several projects are analyzed, see
+		 * {@link ProjectDirectories}
+		 */
+		public boolean isBatch() {
+			return projectList != null || projects.size() > 1;
+		}
+
+		public List<File> projects = new ArrayList<>();
+		public File projectList;
+		public File outputDir;
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
 	}
 
-	private ICoreRunnable restoreOriginalProjectState = null;
+	/**
+	 * The result of the analysis of one project
+	 */
+	private record AnalysisResult(String project, File location, int status, IMarker[] blockingErrors,
+			IMarker[] apiErrors, IMarker[] apiWarnings) {
+
+		static AnalysisResult notLoaded(File location) {
+			return new AnalysisResult(location.getName(), location, BLOCKING_ERRORS, NO_MARKERS, NO_MARKERS, NO_MARKERS);
+		}
+	}
+
+	private final List<ICoreRunnable> restoreOriginalProjectStates = new ArrayList<>();
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
-		restoreOriginalProjectState = null;
+		restoreOriginalProjectStates.clear();
 		try {
+			Request args = Request
+					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+			boolean batch = args.isBatch();
 			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
 			desc.setAutoBuilding(false);
 			ResourcesPlugin.getWorkspace().setDescription(desc);
 			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+			// in batch mode the projects are analyzed in parallel by the
+			// ApiAnalysisScheduler
+			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, batch);
 
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
-			IProject project = importProject(args.project);
-			if (project == null) {
-				System.err.println("Project not loaded."); //$NON-NLS-1$
+			List<File> projectPaths = new ArrayList<>(args.projects);
+			if (args.projectList != null) {
+				projectPaths.addAll(new ProjectDirectories(args.projectList).list());
+			}
+			if (projectPaths.isEmpty()) {
+				System.err.println("No project specified."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
+			List<AnalysisResult> results = new ArrayList<>();
+			List<IProject> projects = new ArrayList<>();
+			for (File projectPath : projectPaths) {
+				IProject project = importProject(projectPath);
+				if (project == null) {
+					System.err.println("Project not loaded: " + projectPath); //$NON-NLS-1$
+					if (!batch) {
+						return IStatus.ERROR;
+					}
+					results.add(AnalysisResult.notLoaded(projectPath));
+				} else {
+					projects.add(project);
+				}
+			}
 			IApiBaseline baseline = setBaseline(args.baselinePath);
 			if (baseline == null) {
 				System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
@@ -126,57 +191,34 @@ public class ApiAnalysisApplication implements IApplication {
 			}
 			setTargetPlatform(args.tpFile);
 
-			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+			IBuildConfiguration[] configs = new IBuildConfiguration[projects.size()];
+			for (int i = 0; i < configs.length; i++) {
+				configs[i] = projects.get(i).getActiveBuildConfig();
+			}
+			ResourcesPlugin.getWorkspace().build(configs, IncrementalProjectBuilder.FULL_BUILD, false, new NullProgressMonitor());
+			waitForApiAnalysis();
 			// wait untill all jobs has finished that might be sceduled as part of the
 			// build...
 			while (!Job.getJobManager().isIdle()) {
 				Thread.yield();
 			}
-			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
-			Predicate<IMarker> isAPIMarker = marker -> {
-				try {
-					return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-					return false;
-				}
-			};
-			IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker) //
-					.toArray(IMarker[]::new);
-			IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker.negate()) //
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
-					.toArray(IMarker[]::new);
-			if (allNonAPIErrors.length > 0) {
-				System.err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
-				for (IMarker marker : allNonAPIErrors) {
-					printMarker(marker, "FATAL"); //$NON-NLS-1$
+			for (IProject project : projects) {
+				if (batch) {
+					System.out.println("API analysis of " + project.getName() + ":"); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
-				return 10;
+				results.add(analyzeMarkers(project, args.failOnError));
 			}
-			// errors
-			IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
-					.toArray(IMarker[]::new);
-			System.err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
-			for (IMarker marker : errorMarkers) {
-				printMarker(marker, "API ERROR"); //$NON-NLS-1$
+			int status = IStatus.OK;
+			for (AnalysisResult result : results) {
+				status = Math.max(status, result.status());
 			}
-			// warnings
-			IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
-					.toArray(IMarker[]::new);
-			System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
-			for (IMarker marker : warningMarkers) {
-				printMarker(marker, "API WARNING"); //$NON-NLS-1$
+			if (batch) {
+				printSummary(results);
 			}
-			// fail
-			if (args.failOnError && errorMarkers.length > 0) {
-				return IStatus.ERROR;
+			if (args.outputDir != null) {
+				writeResults(args.outputDir, results, status);
 			}
-			return IStatus.OK;
+			return status;
 		} catch (CoreException e) {
 			System.err.println(e.getStatus());
 			return IStatus.ERROR;
@@ -184,9 +226,151 @@ public class ApiAnalysisApplication implements IApplication {
 			e.printStackTrace();
 			return IStatus.ERROR;
 		} finally {
-			if (restoreOriginalProjectState != null) {
-				restoreOriginalProjectState.run(new NullProgressMonitor());
+			List<ICoreRunnable> restore = new ArrayList<>(restoreOriginalProjectStates);
+			Collections.reverse(restore);
+			for (ICoreRunnable runnable : restore) {
+				runnable.run(new NullProgressMonitor());
+			}
+		}
+	}
+
+	/**
+	 * Waits for the analyses queued in the {@link ApiAnalysisScheduler} when
+	 * the analysis runs as a job
+	 */
+	private static void waitForApiAnalysis() throws InterruptedException {
+		ApiAnalysisScheduler scheduler = ApiAnalysisScheduler.getDefault();
+		do {
+			Job.getJobManager().join(ApiAnalysisJob.class, new NullProgressMonitor());
+		} while (scheduler.getQueueDepth() > 0 || scheduler.getRunningCount() > 0);
+	}
+
+	/**
+	 * Prints the problems of the given project and computes its exit status
+	 */
+	private static AnalysisResult analyzeMarkers(IProject project, boolean failOnError) throws CoreException {
+		File location = project.getLocation() != null ? project.getLocation().toFile() : new File(project.getName());
+		IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		Predicate<IMarker> isAPIMarker = marker -> {
+			try {
+				return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+				return false;
 			}
+		};
+		IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker) //
+				.toArray(IMarker[]::new);
+		IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker.negate()) //
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
+				.toArray(IMarker[]::new);
+		if (allNonAPIErrors.length > 0) {
+			System.err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
+			for (IMarker marker : allNonAPIErrors) {
+				printMarker(marker, "FATAL"); //$NON-NLS-1$
+			}
+			System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
+			return new AnalysisResult(project.getName(), location, BLOCKING_ERRORS, allNonAPIErrors, NO_MARKERS, NO_MARKERS);
+		}
+		// errors
+		IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
+				.toArray(IMarker[]::new);
+		System.err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
+		for (IMarker marker : errorMarkers) {
+			printMarker(marker, "API ERROR"); //$NON-NLS-1$
+		}
+		// warnings
+		IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
+				.toArray(IMarker[]::new);
+		System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
+		for (IMarker marker : warningMarkers) {
+			printMarker(marker, "API WARNING"); //$NON-NLS-1$
+		}
+		// fail
+		int status = failOnError && errorMarkers.length > 0 ? IStatus.ERROR : IStatus.OK;
+		return new AnalysisResult(project.getName(), location, status, NO_MARKERS, errorMarkers, warningMarkers);
+	}
+
+	private static void printSummary(List<AnalysisResult> results) {
+		int errors = 0;
+		int warnings = 0;
+		int blocked = 0;
+		for (AnalysisResult result : results) {
+			errors += result.apiErrors().length;
+			warnings += result.apiWarnings().length;
+			if (result.status() == BLOCKING_ERRORS) {
+				blocked++;
+			}
+		}
+		System.out.println(String.format("%d projects analyzed: %d API errors, %d API warnings, %d projects with blocking errors", //$NON-NLS-1$
+				results.size(), errors, warnings, blocked));
+		for (AnalysisResult result : results) {
+			System.out.println(String.format("[%d] %s: %d API errors, %d API warnings", result.status(), //$NON-NLS-1$
+					result.project(), result.apiErrors().length, result.apiWarnings().length));
+		}
+	}
+
+	/**
+	 * Writes an XML report per project and a summary into the given directory.
+	 * The reports are named after the position of the project in the results,
+	 * as projects with the same name can be analyzed in one run.
+	 */
+	private static void writeResults(File outputDir, List<AnalysisResult> results, int status) throws CoreException, IOException {
+		Document summary = Util.newDocument();
+		Element summaryRoot = summary.createElement("apiAnalysisSummary"); //$NON-NLS-1$
+		summaryRoot.setAttribute("status", Integer.toString(status)); //$NON-NLS-1$
+		summary.appendChild(summaryRoot);
+		for (int i = 0; i < results.size(); i++) {
+			AnalysisResult result = results.get(i);
+			String reportName = getReportName(i + 1, result);
+			Document report = Util.newDocument();
+			Element root = report.createElement("apiAnalysis"); //$NON-NLS-1$
+			setResultAttributes(root, result);
+			report.appendChild(root);
+			appendMarkers(report, root, result.blockingErrors(), "blocking"); //$NON-NLS-1$
+			appendMarkers(report, root, result.apiErrors(), "error"); //$NON-NLS-1$
+			appendMarkers(report, root, result.apiWarnings(), "warning"); //$NON-NLS-1$
+			Util.writeDocumentToFile(report, outputDir.toPath().resolve(reportName));
+
+			Element project = summary.createElement("project"); //$NON-NLS-1$
+			setResultAttributes(project, result);
+			project.setAttribute("report", reportName); //$NON-NLS-1$
+			summaryRoot.appendChild(project);
+		}
+		Util.writeDocumentToFile(summary, outputDir.toPath().resolve(SUMMARY_FILE));
+	}
+
+	/**
+	 * Returns the name of the report of the given result, it starts with the
+	 * given index so it differs from the other reports and from the summary
+	 */
+	private static String getReportName(int index, AnalysisResult result) {
+		String name = result.project().replaceAll("[^\\w.-]", "_"); //$NON-NLS-1$ //$NON-NLS-2$
+		return String.format("%03d-%s.xml", index, name); //$NON-NLS-1$
+	}
+
+	private static void setResultAttributes(Element element, AnalysisResult result) {
+		element.setAttribute("name", result.project()); //$NON-NLS-1$
+		element.setAttribute("location", result.location().getAbsolutePath()); //$NON-NLS-1$
+		element.setAttribute("status", Integer.toString(result.status())); //$NON-NLS-1$
+		element.setAttribute("blockingErrors", Integer.toString(result.blockingErrors().length)); //$NON-NLS-1$
+		element.setAttribute("apiErrors", Integer.toString(result.apiErrors().length)); //$NON-NLS-1$
+		element.setAttribute("apiWarnings", Integer.toString(result.apiWarnings().length)); //$NON-NLS-1$
+	}
+
+	private static void appendMarkers(Document document, Element parent, IMarker[] markers, String kind) {
+		for (IMarker marker : markers) {
+			Element problem = document.createElement("problem"); //$NON-NLS-1$
+			problem.setAttribute("kind", kind); //$NON-NLS-1$
+			problem.setAttribute("file", marker.getResource().getName()); //$NON-NLS-1$
+			problem.setAttribute("line", Integer.toString(marker.getAttribute(IMarker.LINE_NUMBER, -1))); //$NON-NLS-1$
+			problem.setAttribute("message", getMessage(marker)); //$NON-NLS-1$
+			problem.setAttribute("location", getFullPath(marker)); //$NON-NLS-1$
+			parent.appendChild(problem);
 		}
 	}
 
@@ -194,13 +378,17 @@ public class ApiAnalysisApplication implements IApplication {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
 		int lineNumber = marker.getAttribute(IMarker.LINE_NUMBER, -1);
+		System.out.println(String.format("[%s] File %s at line %d: %s (location: %s)", type, file, lineNumber, //$NON-NLS-1$
+				getMessage(marker), path));
+	}
+
+	private static String getMessage(IMarker marker) {
 		String message = marker.getAttribute(IMarker.MESSAGE, "").trim(); //$NON-NLS-1$
 		String description = marker.getAttribute("description", "").trim(); //$NON-NLS-1$ //$NON-NLS-2$
 		if (!description.isEmpty()) {
 			message = String.format("%s %s", message, description); //$NON-NLS-1$
 		}
-		System.out.println(String.format("[%s] File %s at line %d: %s (location: %s)", type, file, lineNumber, //$NON-NLS-1$
-				message, path));
+		return message;
 	}
 
 	private static String getFullPath(IMarker marker) {
@@ -366,12 +554,12 @@ public class ApiAnalysisApplication implements IApplication {
 			projectDescription.setBuildSpec(newBuilders);
 			project.setDescription(projectDescription, IResource.NONE, new NullProgressMonitor());
 
-			restoreOriginalProjectState = m -> {
+			restoreOriginalProjectStates.add(m -> {
 				projectFile.setContents(new ByteArrayInputStream(originalContent), IResource.FORCE, m);
 				projectRemover.run(m);
-			};
+			});
 		} else {
-			restoreOriginalProjectState = projectRemover;
+			restoreOriginalProjectStates.add(projectRemover);
 		}
 		return project;
 	}
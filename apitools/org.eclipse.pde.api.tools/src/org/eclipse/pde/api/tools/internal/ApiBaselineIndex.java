@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Binary snapshot of the bundle manifests of a persisted API baseline. The
+ * snapshot is written next to the <code>.profile</code> file of the baseline
+ * and allows the baseline components to be restored without opening every
+ * bundle again.
+ * <p>
+ * Each entry is keyed by the location of the component and remembers the
+ * length and the last modification time of the bundle (or of its
+ * <code>META-INF/MANIFEST.MF</code> file for directory bundles). An entry is
+ * only used if the bundle on disk still matches.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+public final class ApiBaselineIndex {
+
+	/**
+	 * Constant representing the file extension for a baseline index file.
+	 * Value is: <code>.index</code>
+	 */
+	public static final String INDEX_FILE_EXTENSION = ".index"; //$NON-NLS-1$
+
+	private static final String KIND = "BASELINE_INDEX"; //$NON-NLS-1$
+	private static final int VERSION = 1;
+
+	/**
+	 * A persisted manifest and the file stamp it was read from
+	 */
+	private record IndexEntry(long length, long lastModified, Map<String, String> headers) {
+	}
+
+	private final Map<String, IndexEntry> entries = new LinkedHashMap<>();
+
+	/**
+	 * Returns the manifest headers of the bundle at the given location if this
+	 * index has an entry for it and the bundle did not change since the entry
+	 * was created.
+	 *
+	 * @param location the location of the bundle
+	 * @return an unmodifiable, case insensitive map of manifest headers or
+	 *         <code>null</code>
+	 */
+	public Map<String, String> getManifest(String location) {
+		IndexEntry entry = entries.get(location);
+		if (entry == null) {
+			return null;
+		}
+		File stampFile = getStampFile(location);
+		if (stampFile.length() != entry.length() || stampFile.lastModified() != entry.lastModified()) {
+			return null;
+		}
+		return entry.headers();
+	}
+
+	/**
+	 * Adds the manifest of the bundle at the given location to this index.
+	 * Existing and unchanged entries are kept, otherwise the manifest is read
+	 * from the bundle.
+	 *
+	 * @param location the location of the bundle
+	 * @param previous the index to reuse entries from, or <code>null</code>
+	 * @throws CoreException if the manifest cannot be read
+	 */
+	public void add(String location, ApiBaselineIndex previous) throws CoreException {
+		Map<String, String> headers = previous == null ? null : previous.getManifest(location);
+		if (headers == null) {
+			headers = ManifestUtils.loadManifest(new File(location));
+		}
+		File stampFile = getStampFile(location);
+		entries.put(location, new IndexEntry(stampFile.length(), stampFile.lastModified(), toHeaders(headers)));
+	}
+
+	/**
+	 * Returns the number of entries in this index
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the file used to detect changes of the bundle at the given
+	 * location
+	 */
+	private static File getStampFile(String location) {
+		File file = new File(location);
+		if (file.isDirectory()) {
+			return new File(file, JarFile.MANIFEST_NAME);
+		}
+		return file;
+	}
+
+	private static Map<String, String> toHeaders(Map<String, String> manifest) {
+		// manifest headers are case insensitive
+		Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		headers.putAll(manifest);
+		return Collections.unmodifiableMap(headers);
+	}
+
+	/**
+	 * Reads the index stored in the given file
+	 *
+	 * @param file the index file
+	 * @return the index or <code>null</code> if the file does not exist or
+	 *         cannot be read
+	 */
+	public static ApiBaselineIndex read(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (!ApiPlugin.PLUGIN_ID.equals(in.readUTF()) || !KIND.equals(in.readUTF()) || in.readInt() != VERSION) {
+				// unknown or old format, the baseline is restored from the
+				// bundles
+				return null;
+			}
+			ApiBaselineIndex index = new ApiBaselineIndex();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = readString(in);
+				long length = in.readLong();
+				long lastModified = in.readLong();
+				int headerCount = in.readInt();
+				Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+				for (int j = 0; j < headerCount; j++) {
+					headers.put(readString(in), readString(in));
+				}
+				index.entries.put(location, new IndexEntry(length, lastModified, Collections.unmodifiableMap(headers)));
+			}
+			return index;
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Unable to read baseline index " + file + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Writes this index to the given file
+	 *
+	 * @param file the index file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			out.writeUTF(ApiPlugin.PLUGIN_ID);
+			out.writeUTF(KIND);
+			out.writeInt(VERSION);
+			out.writeInt(entries.size());
+			for (Entry<String, IndexEntry> entry : entries.entrySet()) {
+				IndexEntry value = entry.getValue();
+				writeString(out, entry.getKey());
+				out.writeLong(value.length());
+				out.writeLong(value.lastModified());
+				out.writeInt(value.headers().size());
+				for (Entry<String, String> header : value.headers().entrySet()) {
+					writeString(out, header.getKey());
+					writeString(out, header.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Manifest headers like Export-Package can exceed the 64k limit of
+	 * {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
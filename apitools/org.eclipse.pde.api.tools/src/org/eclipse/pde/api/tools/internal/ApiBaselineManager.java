@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,8 +52,8 @@ import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
-import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJobRule;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisScheduler;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
@@ -219,6 +219,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			try {
+				Files.deleteIfExists(savelocation.append(name + ApiBaselineIndex.INDEX_FILE_EXTENSION).toPath());
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -340,6 +345,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				}
 				Path file = dir.resolve(id + BASELINE_FILE_EXTENSION);
 				writeBaselineDescription(baseline, file);
+				writeBaselineIndex(baseline, dir.resolve(id + ApiBaselineIndex.INDEX_FILE_EXTENSION));
 				// need to save the api baseline state in order to be able
 				// to reload it later
 				handlecache.put(baseline.getName(), file.toAbsolutePath().toString());
@@ -359,6 +365,59 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Writes the manifests of the components of the given {@link IApiBaseline}
+	 * to the given index file, so the baseline can be restored without reading
+	 * all bundles again. Entries of the existing index are reused for bundles
+	 * that did not change.
+	 */
+	private void writeBaselineIndex(IApiBaseline baseline, Path file) {
+		long start = System.currentTimeMillis();
+		ApiBaselineIndex previous = ApiBaselineIndex.read(file);
+		ApiBaselineIndex index = new ApiBaselineIndex();
+		try {
+			for (IApiComponent component : baseline.getApiComponents()) {
+				if (component.isSystemComponent()) {
+					continue;
+				}
+				Set<IApiComponent> components = baseline.getAllApiComponents(component.getSymbolicName());
+				if (components.isEmpty()) {
+					index.add(component.getLocation(), previous);
+				} else {
+					for (IApiComponent iApiComponent : components) {
+						index.add(iApiComponent.getLocation(), previous);
+					}
+				}
+			}
+			index.write(file);
+		} catch (CoreException | IOException e) {
+			// the index is only an optimization, the baseline will be
+			// restored from the bundles
+			ApiPlugin.log(Status.warning("Error writing baseline index " + file, e)); //$NON-NLS-1$
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException ioe) {
+				ApiPlugin.log(ioe);
+			}
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to write the index of " + baseline.getName() + " : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * Returns the index persisted for the given baseline or <code>null</code>
+	 * if there is none
+	 */
+	private ApiBaselineIndex readBaselineIndex(IApiBaseline baseline) {
+		String filename = handlecache == null ? null : handlecache.get(baseline.getName());
+		if (filename == null) {
+			return null;
+		}
+		IPath path = IPath.fromOSString(filename).removeFileExtension().addFileExtension(ApiBaselineIndex.INDEX_FILE_EXTENSION.substring(1));
+		return ApiBaselineIndex.read(path.toPath());
+	}
+
 	/**
 	 * Returns an XML description of the given baseline.
 	 *
@@ -416,6 +475,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		long start = System.currentTimeMillis();
 		DocumentBuilder parser = getConfiguredParser();
 		IApiComponent[] restored = null;
+		ApiBaselineIndex index = readBaselineIndex(baseline);
 		try {
 			Document document = parser.parse(stream);
 			Element root = document.getDocumentElement();
@@ -432,8 +492,13 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					// this also contains components in pools, so don't process
 					// them
 					if (componentNode.getParentNode().equals(root)) {
-						String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, IPath.fromPortableString(location).toOSString());
+						String location = IPath.fromPortableString(componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION)).toOSString();
+						Map<String, String> manifest = index == null ? null : index.getManifest(location);
+						if (manifest == null) {
+							// write a new index on the next save
+							fNeedsSaving = true;
+						}
+						IApiComponent component = ApiModelFactory.newApiComponent(baseline, location, manifest);
 						if (component != null) {
 							components.add(component);
 						}
@@ -537,7 +602,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public void stop() {
 		try {
-			Job.getJobManager().cancel(ApiAnalysisJob.class);
+			ApiAnalysisScheduler.getDefault().cancelAll();
 			if (baselinecache != null) {
 				// we should first dispose all existing baselines
 				for (IApiBaseline iApiBaseline : baselinecache.values()) {
@@ -642,7 +707,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		};
 
 		if (ApiAnalysisBuilder.isRunningAsJob()) {
-			Job.getJobManager().cancel(ApiAnalysisJob.class);
+			ApiAnalysisScheduler.getDefault().cancelAll();
 			Job.getJobManager().cancel(ApiBaselineManager.class);
 			Job job = new Job("Disposing Workspace API Baseline") { //$NON-NLS-1$
 				@Override
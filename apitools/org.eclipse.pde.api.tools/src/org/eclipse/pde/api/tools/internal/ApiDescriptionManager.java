@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,7 +50,6 @@ import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceType
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Util;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -157,6 +156,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(ProjectApiDescriptionStore.FILE_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -230,9 +233,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
-				Document xml = desc.getXML();
 				try {
-					Util.writeDocumentToFile(xml, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+					ProjectApiDescriptionStore.write(desc, dir.resolve(ProjectApiDescriptionStore.FILE_NAME));
+					// the XML form is only read if there is no binary file
+					Files.deleteIfExists(dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -243,11 +247,19 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 
 	/**
 	 * Restores the API description from its saved file, if any and returns true
-	 * if successful.
+	 * if successful. The binary file is preferred, the XML file written by
+	 * earlier versions is read if there is no binary file.
 	 *
 	 * @return whether the restore succeeded
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
+		long start = System.currentTimeMillis();
+		if (ProjectApiDescriptionStore.read(project, description, API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(ProjectApiDescriptionStore.FILE_NAME).toPath())) {
+			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+				System.out.println("Restored packages of API description for " + project.getElementName() + " in " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			return true;
+		}
 		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			try {
@@ -263,6 +275,8 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 					description.fPackageTimeStamp = timestamp;
 					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
 					restoreChildren(description, root, null, description.fPackageMap);
+					// migrate to the binary file on the next save
+					description.setModified(true);
 					return true;
 				}
 			} catch (IOException e) {
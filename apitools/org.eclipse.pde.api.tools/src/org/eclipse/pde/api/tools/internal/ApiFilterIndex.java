@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemFilter;
+
+/**
+ * Read-only index of the filters of an {@link ApiFilterStore}, used to find
+ * the filters that may match a problem without comparing the problem to every
+ * filter of its resource.
+ * <p>
+ * The filters of a resource are grouped by the id of their problem and a hash
+ * of the simple names of the message arguments. Since the arguments of a
+ * filter match the ones of a problem when their simple names are equal, all
+ * filters matching a problem are in the group of the problem. The filters of a
+ * group still have to be checked with
+ * {@link FilterStore#problemsMatch(IApiProblem, IApiProblem)}.
+ * </p>
+ * <p>
+ * The index is a snapshot of the filter map it was created from and is safe
+ * for concurrent reads.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+final class ApiFilterIndex {
+
+	private record Key(int id, int arguments) {
+	}
+
+	private final Map<IResource, Map<Key, IApiProblemFilter[]>> fFilters = new HashMap<>();
+
+	private final Map<IResource, IApiProblemFilter[]> fAllFilters = new HashMap<>();
+
+	/**
+	 * Creates an index of the given filters
+	 *
+	 * @param filterMap the filters of an {@link ApiFilterStore} by resource and
+	 *            type name
+	 */
+	ApiFilterIndex(Map<IResource, Map<String, Set<IApiProblemFilter>>> filterMap) {
+		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : filterMap.entrySet()) {
+			Map<Key, List<IApiProblemFilter>> groups = new HashMap<>();
+			List<IApiProblemFilter> all = new ArrayList<>();
+			for (Set<IApiProblemFilter> filters : entry.getValue().values()) {
+				for (IApiProblemFilter filter : filters) {
+					all.add(filter);
+					IApiProblem problem = filter.getUnderlyingProblem();
+					if (problem != null) {
+						groups.computeIfAbsent(getKey(problem), k -> new ArrayList<>(1)).add(filter);
+					}
+				}
+			}
+			Map<Key, IApiProblemFilter[]> index = new HashMap<>();
+			groups.forEach((key, filters) -> index.put(key, filters.toArray(IApiProblemFilter[]::new)));
+			fFilters.put(entry.getKey(), index);
+			fAllFilters.put(entry.getKey(), all.toArray(IApiProblemFilter[]::new));
+		}
+	}
+
+	private static Key getKey(IApiProblem problem) {
+		int hash = 1;
+		for (String argument : problem.getMessageArguments()) {
+			String name = argument;
+			if (argument != null) {
+				name = argument.substring(argument.lastIndexOf('.') + 1);
+			}
+			hash = 31 * hash + (name == null ? 0 : name.hashCode());
+		}
+		return new Key(problem.getId(), hash);
+	}
+
+	/**
+	 * Returns the filters of the given resource that may match the given
+	 * problem
+	 *
+	 * @param resource the resource of the problem
+	 * @param problem the problem
+	 * @return the candidate filters, never <code>null</code>
+	 */
+	IApiProblemFilter[] getCandidates(IResource resource, IApiProblem problem) {
+		Map<Key, IApiProblemFilter[]> index = fFilters.get(resource);
+		if (index == null) {
+			return FilterStore.NO_FILTERS;
+		}
+		return index.getOrDefault(getKey(problem), FilterStore.NO_FILTERS);
+	}
+
+	/**
+	 * @param resource a resource
+	 * @return all filters of the given resource, never <code>null</code>
+	 */
+	IApiProblemFilter[] getFilters(IResource resource) {
+		return fAllFilters.getOrDefault(resource, FilterStore.NO_FILTERS);
+	}
+
+	/**
+	 * @return the resources that have filters
+	 */
+	Set<IResource> getResources() {
+		return fAllFilters.keySet();
+	}
+}
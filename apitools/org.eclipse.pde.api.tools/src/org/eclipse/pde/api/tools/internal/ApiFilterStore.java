@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -76,9 +77,22 @@ import org.w3c.dom.Element;
 public class ApiFilterStore extends FilterStore implements IResourceChangeListener {
 
 	/**
-	 * Map used to collect unused {@link IApiProblemFilter}s
+	 * The filters used since {@link #recordFilterUsage()} was called, or
+	 * <code>null</code> if filter usage is not recorded
 	 */
-	private Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private volatile Set<IApiProblemFilter> fUsedFilters = null;
+
+	/**
+	 * The index of the filters when {@link #recordFilterUsage()} was called
+	 */
+	private volatile ApiFilterIndex fRecordedFilters = null;
+
+	/**
+	 * Index of {@link #fFilterMap} used to look up filters without holding the
+	 * lock of the store, <code>null</code> if the filters changed since it was
+	 * built
+	 */
+	private volatile ApiFilterIndex fIndex = null;
 
 	/**
 	 * The backing {@link IJavaProject}
@@ -208,6 +222,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fIndex = null;
 		persistApiFilters();
 	}
 
@@ -241,8 +256,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
@@ -254,19 +268,12 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			return false;
 		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
-			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return false;
-		}
-		for (IApiProblemFilter filter : filters) {
+		for (IApiProblemFilter filter : getIndex().getCandidates(resource, problem)) {
 			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				recordFilterUsed(resource, filter);
+				recordFilterUsed(filter);
 				return true;
 			}
 		}
@@ -283,10 +290,8 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=299319
 		persistApiFilters();
 		clearFilters();
-		if (fUnusedFilters != null) {
-			fUnusedFilters.clear();
-			fUnusedFilters = null;
-		}
+		fUsedFilters = null;
+		fRecordedFilters = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
 	}
 
@@ -331,6 +336,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			Set<IApiProblemFilter> pfilters = pTypeNames.get(typeName);
 			if (pfilters != null && pfilters.remove(filter)) {
+				fIndex = null;
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("removed filter: [" + filter + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 				}
@@ -522,6 +528,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fIndex = null;
 	}
 
 	/**
@@ -550,36 +557,39 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	/**
-	 * Start recording filter usage for this store.
+	 * Returns the index of the filters of this store, building it if the
+	 * filters changed since it was last built
 	 */
-	public synchronized void recordFilterUsage() {
-		initializeApiFilters();
-		fUnusedFilters = new LinkedHashMap<>();
-		Map<String, Set<IApiProblemFilter>> types = null;
-		Set<IApiProblemFilter> values = null;
-		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
-			IResource resource = filterEntry.getKey();
-			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
-			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
-				values.addAll(entry.getValue());
+	private ApiFilterIndex getIndex() {
+		ApiFilterIndex index = fIndex;
+		if (index == null) {
+			synchronized (this) {
+				initializeApiFilters();
+				index = fIndex;
+				if (index == null) {
+					index = new ApiFilterIndex(fFilterMap);
+					fIndex = index;
+				}
 			}
 		}
+		return index;
+	}
+
+	/**
+	 * Start recording filter usage for this store.
+	 */
+	public synchronized void recordFilterUsage() {
+		fRecordedFilters = getIndex();
+		fUsedFilters = ConcurrentHashMap.newKeySet();
 	}
 
 	/**
 	 * records that the following filter has been used
 	 */
-	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
-		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
-			if (unused != null) {
-				unused.remove(filter);
-				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
-				}
-			}
+	private void recordFilterUsed(IApiProblemFilter filter) {
+		Set<IApiProblemFilter> used = fUsedFilters;
+		if (used != null) {
+			used.add(filter);
 		}
 	}
 
@@ -595,35 +605,31 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 *         <code>null</code>
 	 */
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
-		if (fUnusedFilters != null) {
+		ApiFilterIndex recorded = fRecordedFilters;
+		Set<IApiProblemFilter> used = fUsedFilters;
+		if (recorded != null && used != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
-			Set<IApiProblemFilter> set = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
-				if (set != null) {
-					collectFilterFor(set, typeName, unused, categories);
-				}
+				collectFilterFor(recorded.getFilters(resource), used, typeName, unused, categories);
 				if (Util.isManifest(resource.getProjectRelativePath())) {
 					// we need to add any filters that are cached for resources
 					// that no longer exist - deleted types
 					// deleted types are only ever passed in with the manifest
 					// associated with them
-					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
-						res = entry.getKey();
+					for (IResource res : recorded.getResources()) {
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
-						collectFilterFor(set, typeName, unused, categories);
+						collectFilterFor(recorded.getFilters(res), used, typeName, unused, categories);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
-					set = entry.getValue();
-					if (set != null) {
-						unused.addAll(set);
+				for (IResource res : recorded.getResources()) {
+					for (IApiProblemFilter filter : recorded.getFilters(res)) {
+						if (!used.contains(filter)) {
+							unused.add(filter);
+						}
 					}
 				}
 			}
@@ -637,12 +643,16 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	/**
-	 * Collects the complete set of problem filters from the given set whose
-	 * underlying problem categories do not match any from the given array and
-	 * whose type name matches the underlying problem type name.
+	 * Collects the complete set of problem filters from the given array that
+	 * have not been used, whose underlying problem categories do not match any
+	 * from the given array and whose type name matches the underlying problem
+	 * type name.
 	 */
-	private void collectFilterFor(Set<IApiProblemFilter> filters, String typename, Set<IApiProblemFilter> collector, int[] categories) {
+	private void collectFilterFor(IApiProblemFilter[] filters, Set<IApiProblemFilter> used, String typename, Set<IApiProblemFilter> collector, int[] categories) {
 		for (IApiProblemFilter filter : filters) {
+			if (used.contains(filter)) {
+				continue;
+			}
 			IApiProblem underlyingProblem = filter.getUnderlyingProblem();
 			if (underlyingProblem != null) {
 				if (matchesCategory(underlyingProblem, categories)) {
@@ -706,9 +716,12 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("processed REMOVED delta"); //$NON-NLS-1$
 				}
-				if (fFilterMap != null) {
-					fFilterMap.clear();
-					needsbuild = fProject.getProject().isAccessible();
+				synchronized (this) {
+					if (fFilterMap != null) {
+						fFilterMap.clear();
+						fIndex = null;
+						needsbuild = fProject.getProject().isAccessible();
+					}
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -744,5 +757,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fIndex = null;
 	}
 }
@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAccess;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
+
+/**
+ * A read-only copy of an {@link ApiDescription} for components that do not
+ * change once their API description is built, such as bundles from a target or
+ * an installation and system libraries.
+ * <p>
+ * Instead of a map of child nodes per node, the nodes are stored in parallel
+ * arrays. The children of a node are stored next to each other in the order
+ * they are visited, and a second index orders them by element type, name and
+ * signature so lookups are binary searches. Visibility and restrictions are
+ * packed into one int per node.
+ * </p>
+ * <p>
+ * Resolving annotations and visiting give the same results as the original
+ * description. The visibility and restrictions of existing elements can still
+ * be changed, but no elements can be added. The description is safe for
+ * concurrent reads.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+public final class FrozenApiDescription implements IApiDescription {
+
+	/**
+	 * Id of the root node, the parent of the package nodes
+	 */
+	private static final int ROOT = 0;
+
+	private final String fOwningComponentId;
+
+	/**
+	 * Element of each node, <code>null</code> for the root
+	 */
+	private final IElementDescriptor[] fElements;
+
+	/**
+	 * Name of the element of each node, as used to search the node
+	 */
+	private final String[] fNames;
+
+	/**
+	 * Visibility in the low and restrictions in the high 16 bits
+	 */
+	private final int[] fFlags;
+
+	private final int[] fParents;
+	private final int[] fFirstChild;
+	private final int[] fChildCount;
+
+	/**
+	 * For the children of a node starting at its first child: the ids of the
+	 * children sorted by element type, name and signature
+	 */
+	private final int[] fSearchOrder;
+
+	private final Map<IPackageDescriptor, Map<IElementDescriptor, IApiAccess>> fAccessMap = new HashMap<>();
+
+	/**
+	 * Creates a read-only copy of the given API description
+	 *
+	 * @param description the API description to copy, it should not be
+	 *            modified while it is copied
+	 */
+	public FrozenApiDescription(ApiDescription description) {
+		fOwningComponentId = description.fOwningComponentId;
+		int count = 1 + count(description.fPackageMap);
+		fElements = new IElementDescriptor[count];
+		fNames = new String[count];
+		fFlags = new int[count];
+		fParents = new int[count];
+		fFirstChild = new int[count];
+		fChildCount = new int[count];
+		fSearchOrder = new int[count];
+		fParents[ROOT] = -1;
+		// breadth first, so the children of a node get consecutive ids
+		List<Map<IElementDescriptor, ManifestNode>> childMaps = new ArrayList<>(count);
+		childMaps.add(description.fPackageMap);
+		int next = 1;
+		for (int id = 0; id < count; id++) {
+			List<IElementDescriptor> keys = new ArrayList<>(childMaps.get(id).keySet());
+			Collections.sort(keys, ApiDescription.fgComparator);
+			fFirstChild[id] = next;
+			fChildCount[id] = keys.size();
+			Integer[] order = new Integer[keys.size()];
+			for (IElementDescriptor key : keys) {
+				ManifestNode node = childMaps.get(id).get(key);
+				fElements[next] = node.element;
+				fNames[next] = getName(node.element);
+				fFlags[next] = pack(node.visibility, node.restrictions);
+				fParents[next] = id;
+				order[next - fFirstChild[id]] = Integer.valueOf(next);
+				childMaps.add(node.children);
+				next++;
+			}
+			Arrays.sort(order, (a, b) -> compare(a.intValue(), fElements[b.intValue()].getElementType(), fNames[b.intValue()], fElements[b.intValue()]));
+			for (int i = 0; i < order.length; i++) {
+				fSearchOrder[fFirstChild[id] + i] = order[i].intValue();
+			}
+		}
+		if (description.fAccessMap != null) {
+			description.fAccessMap.forEach((pkg, map) -> fAccessMap.put(pkg, new HashMap<>(map)));
+		}
+	}
+
+	private static int count(Map<IElementDescriptor, ManifestNode> nodes) {
+		int count = nodes.size();
+		for (ManifestNode node : nodes.values()) {
+			count += count(node.children);
+		}
+		return count;
+	}
+
+	private static int pack(int visibility, int restrictions) {
+		return (restrictions << 16) | (visibility & 0xFFFF);
+	}
+
+	private int visibility(int id) {
+		return fFlags[id] & 0xFFFF;
+	}
+
+	private int restrictions(int id) {
+		return fFlags[id] >>> 16;
+	}
+
+	private static String getName(IElementDescriptor element) {
+		return switch (element.getElementType()) {
+			case IElementDescriptor.PACKAGE -> ((IPackageDescriptor) element).getName();
+			case IElementDescriptor.TYPE, IElementDescriptor.FIELD, IElementDescriptor.METHOD -> ((IMemberDescriptor) element).getName();
+			default -> element.toString();
+		};
+	}
+
+	/**
+	 * Compares the node with the given id to the given element of the same
+	 * parent
+	 */
+	private int compare(int id, int elementType, String name, IElementDescriptor element) {
+		int result = Integer.compare(fElements[id].getElementType(), elementType);
+		if (result == 0) {
+			result = fNames[id].compareTo(name);
+		}
+		if (result == 0 && elementType == IElementDescriptor.METHOD) {
+			result = ((IMethodDescriptor) fElements[id]).getSignature().compareTo(((IMethodDescriptor) element).getSignature());
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the child of the given node for the given element or -1
+	 */
+	private int findChild(int parent, IElementDescriptor element) {
+		int elementType = element.getElementType();
+		String name = getName(element);
+		int low = fFirstChild[parent];
+		int high = low + fChildCount[parent] - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int result = compare(fSearchOrder[mid], elementType, name, element);
+			if (result < 0) {
+				low = mid + 1;
+			} else if (result > 0) {
+				high = mid - 1;
+			} else {
+				return fSearchOrder[mid];
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the node of the given element, the closest enclosing node if
+	 * there is no node for the element itself, or -1 if there is no node for
+	 * its package
+	 */
+	private int findNode(IElementDescriptor element) {
+		int node = ROOT;
+		for (IElementDescriptor current : element.getPath()) {
+			int child = findChild(node, current);
+			if (child < 0) {
+				return node == ROOT ? -1 : node;
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the visibility of the given node, walking up the tree to resolve
+	 * inherited visibility
+	 */
+	private int resolveVisibility(int id) {
+		int node = id;
+		int vis = visibility(node);
+		while (vis == ApiDescription.VISIBILITY_INHERITED && fParents[node] > ROOT) {
+			node = fParents[node];
+			vis = visibility(node);
+		}
+		return vis;
+	}
+
+	@Override
+	public IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+		int id = findNode(element);
+		if (id < 0) {
+			return null;
+		}
+		boolean exact = fElements[id].equals(element);
+		ApiAnnotations annotations = new ApiAnnotations(resolveVisibility(id), exact ? restrictions(id) : 0);
+		annotations.setExact(exact);
+		return annotations;
+	}
+
+	@Override
+	public IApiAccess resolveAccessLevel(IElementDescriptor element, IPackageDescriptor pelement) {
+		Map<IElementDescriptor, IApiAccess> map = fAccessMap.get(pelement);
+		return map == null ? null : map.get(element);
+	}
+
+	@Override
+	public synchronized void setAccessLevel(IElementDescriptor element, IPackageDescriptor pelement, int access) {
+		if (element != null && pelement != null && access != IApiAccess.NORMAL) {
+			fAccessMap.computeIfAbsent(pelement, p -> new HashMap<>()).put(element, new ApiAccess(access));
+		}
+	}
+
+	@Override
+	public void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
+		visitChildren(visitor, ROOT, monitor);
+	}
+
+	@Override
+	public boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
+		int id = findNode(element);
+		if (id < 0) {
+			return false;
+		}
+		visitNode(visitor, id);
+		return true;
+	}
+
+	private void visitChildren(ApiDescriptionVisitor visitor, int parent, IProgressMonitor monitor) {
+		SubMonitor loopMonitor = SubMonitor.convert(monitor, fChildCount[parent]);
+		int first = fFirstChild[parent];
+		for (int id = first; id < first + fChildCount[parent]; id++) {
+			loopMonitor.split(1);
+			visitNode(visitor, id);
+		}
+	}
+
+	private void visitNode(ApiDescriptionVisitor visitor, int id) {
+		IApiAnnotations annotations = new ApiAnnotations(resolveVisibility(id), restrictions(id));
+		if (visitor.visitElement(fElements[id], annotations) && fChildCount[id] > 0) {
+			visitChildren(visitor, id, null);
+		}
+		visitor.endVisitElement(fElements[id], annotations);
+	}
+
+	@Override
+	public synchronized IStatus setVisibility(IElementDescriptor element, int visibility) {
+		int id = findNode(element);
+		if (id < 0 || !fElements[id].equals(element)) {
+			return Status.error(MessageFormat.format("Failed to set API visibility: {0} not found in {1}", element, fOwningComponentId), null); //$NON-NLS-1$
+		}
+		fFlags[id] = pack(visibility, restrictions(id));
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public synchronized IStatus setRestrictions(IElementDescriptor element, int restrictions) {
+		int id = findNode(element);
+		if (id < 0 || !fElements[id].equals(element)) {
+			return Status.error(MessageFormat.format("Failed to set API restriction: {0} not found in {1}", element, fOwningComponentId), null); //$NON-NLS-1$
+		}
+		fFlags[id] = pack(visibility(id), restrictions);
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setAddedProfile(IElementDescriptor element, int addedProfile) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setRemovedProfile(IElementDescriptor element, int removedProfile) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setSuperclass(IElementDescriptor element, String superclass) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setSuperinterfaces(IElementDescriptor element, String superinterfaces) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setInterface(IElementDescriptor element, boolean interfaceFlag) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("API description for component: ").append(fOwningComponentId); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,6 +99,13 @@ public class ProjectApiDescription extends ApiDescription {
 
 		IPackageFragment[] fFragments;
 
+		/**
+		 * The child nodes restored from the binary API description file when
+		 * they are first used, or <code>null</code> if the children are
+		 * restored
+		 */
+		volatile ProjectApiDescriptionStore.PendingChildren fPendingChildren;
+
 		/**
 		 * Constructs a new node.
 		 */
@@ -107,8 +114,35 @@ public class ProjectApiDescription extends ApiDescription {
 			fFragments = fragments;
 		}
 
+		/**
+		 * Restores the child nodes of this package from the binary API
+		 * description file if this was not done yet
+		 */
+		void restorePendingChildren() {
+			if (fPendingChildren == null) {
+				return;
+			}
+			synchronized (this) {
+				ProjectApiDescriptionStore.PendingChildren pending = fPendingChildren;
+				if (pending == null) {
+					return;
+				}
+				try {
+					ProjectApiDescriptionStore.restoreChildren(ProjectApiDescription.this, this, pending);
+				} catch (CoreException e) {
+					// the type nodes are created again when they are looked up
+					ApiPlugin.log(e.getStatus());
+					children.clear();
+					modified();
+				} finally {
+					fPendingChildren = null;
+				}
+			}
+		}
+
 		@Override
 		protected ManifestNode refresh() {
+			restorePendingChildren();
 			refreshPackages();
 			for (IPackageFragment fFragment : fFragments) {
 				if (!fFragment.exists()) {
@@ -122,6 +156,7 @@ public class ProjectApiDescription extends ApiDescription {
 		@Override
 		void persistXML(Document document, Element parentElement) {
 			if (hasApiVisibility(this)) {
+				restorePendingChildren();
 				Element pkg = document.createElement(IApiXmlConstants.ELEMENT_PACKAGE);
 				for (IPackageFragment fFragment : fFragments) {
 					Element fragment = document.createElement(IApiXmlConstants.ELEMENT_PACKAGE_FRAGMENT);
@@ -338,6 +373,9 @@ public class ProjectApiDescription extends ApiDescription {
 	public synchronized void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
 		boolean completeVisit = true;
 		if (fInSynch) {
+			for (ManifestNode node : fPackageMap.values()) {
+				((PackageNode) node).restorePendingChildren();
+			}
 			super.accept(visitor, monitor);
 		} else {
 			try {
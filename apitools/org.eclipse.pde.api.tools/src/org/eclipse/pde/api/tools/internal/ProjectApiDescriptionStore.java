@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.PackageNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
+
+/**
+ * Saves and restores {@link ProjectApiDescription}s in a compact binary file
+ * in the state location of the plug-in.
+ * <p>
+ * The file holds the same nodes as the XML form written by
+ * {@link ProjectApiDescription#getXML()}. All strings (element handles, member
+ * names and signatures) are stored once in a string table, followed by one
+ * record per package. The nodes of the types of a package are packed in a
+ * block of their own which is only decoded when the package node is first
+ * used, so restoring a description only creates the package nodes.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+final class ProjectApiDescriptionStore {
+
+	/**
+	 * Name of the binary API description file of a project. Value is:
+	 * <code>.api_description.bin</code>
+	 */
+	static final String FILE_NAME = IApiCoreConstants.API_DESCRIPTION_XML_NAME + ".bin"; //$NON-NLS-1$
+
+	private static final String KIND = "PROJECT_API_DESCRIPTION"; //$NON-NLS-1$
+	private static final int VERSION = 1;
+
+	private static final byte TYPE = 1;
+	private static final byte FIELD = 2;
+	private static final byte METHOD = 3;
+
+	/**
+	 * The packed child nodes of a package node that are not restored yet
+	 */
+	record PendingChildren(String[] strings, byte[] nodes) {
+	}
+
+	private ProjectApiDescriptionStore() {
+	}
+
+	/**
+	 * Writes the given API description to the given file
+	 *
+	 * @param description the API description to save
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	static void write(ProjectApiDescription description, Path file) throws IOException {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		ByteArrayOutputStream packages = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(packages);
+		int count = 0;
+		long timestamp;
+		synchronized (description) {
+			timestamp = description.fPackageTimeStamp;
+			for (ManifestNode node : description.fPackageMap.values()) {
+				PackageNode pkg = (PackageNode) node;
+				if (!pkg.hasApiVisibility(pkg)) {
+					continue;
+				}
+				pkg.restorePendingChildren();
+				out.writeInt(pkg.visibility);
+				out.writeInt(pkg.fFragments.length);
+				for (IPackageFragment fragment : pkg.fFragments) {
+					out.writeInt(index(strings, fragment.getHandleIdentifier()));
+				}
+				ByteArrayOutputStream block = new ByteArrayOutputStream();
+				DataOutputStream blockOut = new DataOutputStream(block);
+				writeChildren(blockOut, pkg.children, strings);
+				blockOut.flush();
+				out.writeInt(block.size());
+				block.writeTo(out);
+				count++;
+			}
+		}
+		out.flush();
+		Files.createDirectories(file.getParent());
+		try (DataOutputStream fileOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			fileOut.writeUTF(ApiPlugin.PLUGIN_ID);
+			fileOut.writeUTF(KIND);
+			fileOut.writeInt(VERSION);
+			fileOut.writeUTF(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+			fileOut.writeLong(timestamp);
+			fileOut.writeInt(strings.size());
+			for (String string : strings.keySet()) {
+				fileOut.writeUTF(string);
+			}
+			fileOut.writeInt(count);
+			packages.writeTo(fileOut);
+		}
+	}
+
+	/**
+	 * Writes the nodes of the given map that are persisted in the XML form as
+	 * well, with their children
+	 */
+	private static void writeChildren(DataOutputStream out, Map<IElementDescriptor, ManifestNode> children, Map<String, Integer> strings) throws IOException {
+		List<ManifestNode> nodes = new ArrayList<>(children.size());
+		for (ManifestNode node : children.values()) {
+			if (node instanceof TypeNode ? node.hasApiVisibility(node) : !RestrictionModifiers.isUnrestricted(node.restrictions)) {
+				nodes.add(node);
+			}
+		}
+		out.writeInt(nodes.size());
+		for (ManifestNode node : nodes) {
+			if (node instanceof TypeNode type) {
+				out.writeByte(TYPE);
+				out.writeInt(index(strings, type.fType.getHandleIdentifier()));
+				out.writeInt(type.visibility);
+				out.writeInt(type.restrictions);
+				out.writeLong(type.fTimeStamp);
+				writeChildren(out, type.children, strings);
+			} else if (node.element instanceof IMethodDescriptor method) {
+				out.writeByte(METHOD);
+				out.writeInt(index(strings, method.getName()));
+				out.writeInt(index(strings, method.getSignature()));
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+			} else if (node.element instanceof IFieldDescriptor field) {
+				out.writeByte(FIELD);
+				out.writeInt(index(strings, field.getName()));
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+			}
+		}
+	}
+
+	private static int index(Map<String, Integer> strings, String string) {
+		return strings.computeIfAbsent(string, s -> Integer.valueOf(strings.size())).intValue();
+	}
+
+	/**
+	 * Restores the package nodes of the given API description from the given
+	 * file. The child nodes of the packages are restored when the packages are
+	 * first used.
+	 *
+	 * @param project the project of the API description
+	 * @param description the API description to restore
+	 * @param file the binary file
+	 * @return <code>true</code> if the description was restored,
+	 *         <code>false</code> if there is no usable binary file
+	 * @throws CoreException if the file is corrupt
+	 */
+	static boolean read(IJavaProject project, ProjectApiDescription description, Path file) throws CoreException {
+		if (!Files.isRegularFile(file)) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (!ApiPlugin.PLUGIN_ID.equals(in.readUTF()) || !KIND.equals(in.readUTF()) || in.readInt() != VERSION) {
+				return false;
+			}
+			String version = in.readUTF();
+			if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+				return false;
+			}
+			long timestamp = in.readLong();
+			String[] strings = new String[in.readInt()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = in.readUTF();
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				int visibility = in.readInt();
+				IPackageFragment[] fragments = new IPackageFragment[in.readInt()];
+				for (int j = 0; j < fragments.length; j++) {
+					String handle = strings[in.readInt()];
+					IJavaElement element = JavaCore.create(handle);
+					if (element == null || element.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle, null);
+					}
+					fragments[j] = (IPackageFragment) element;
+				}
+				if (fragments.length == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2, null);
+				}
+				byte[] nodes = new byte[in.readInt()];
+				in.readFully(nodes);
+				IElementDescriptor descriptor = Factory.packageDescriptor(fragments[0].getElementName());
+				PackageNode node = description.newPackageNode(fragments, null, descriptor, visibility, RestrictionModifiers.NO_RESTRICTIONS);
+				node.fPendingChildren = new PendingChildren(strings, nodes);
+				description.fPackageMap.put(descriptor, node);
+			}
+			description.setEmbeddedVersion(version);
+			description.fPackageTimeStamp = timestamp;
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			return true;
+		} catch (IOException e) {
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Restores the packed child nodes of the given package node
+	 *
+	 * @param description the API description of the node
+	 * @param node the package node
+	 * @param pending the packed child nodes
+	 * @throws CoreException if the nodes cannot be restored
+	 */
+	static void restoreChildren(ProjectApiDescription description, PackageNode node, PendingChildren pending) throws CoreException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(pending.nodes()))) {
+			readChildren(in, description, node, pending.strings());
+		} catch (IOException | RuntimeException e) {
+			abort(ScannerMessages.ApiDescriptionManager_4, e);
+		}
+	}
+
+	private static void readChildren(DataInputStream in, ProjectApiDescription description, ManifestNode parent, String[] strings) throws IOException, CoreException {
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			byte kind = in.readByte();
+			ManifestNode node = null;
+			switch (kind) {
+				case TYPE -> {
+					String handle = strings[in.readInt()];
+					int visibility = in.readInt();
+					int restrictions = in.readInt();
+					long timestamp = in.readLong();
+					IJavaElement element = JavaCore.create(handle);
+					if (element == null || element.getElementType() != IJavaElement.TYPE) {
+						abort(ScannerMessages.ApiDescriptionManager_3 + handle, null);
+					}
+					IType type = (IType) element;
+					TypeNode typeNode = description.newTypeNode(type, parent, Factory.typeDescriptor(type.getFullyQualifiedName('$')), visibility, restrictions);
+					typeNode.fTimeStamp = timestamp;
+					node = typeNode;
+					readChildren(in, description, node, strings);
+				}
+				case FIELD -> {
+					String name = strings[in.readInt()];
+					int visibility = in.readInt();
+					int restrictions = in.readInt();
+					if (parent.element instanceof IReferenceTypeDescriptor type) {
+						node = description.newNode(parent, type.getField(name), visibility, restrictions);
+					}
+				}
+				case METHOD -> {
+					String name = strings[in.readInt()];
+					String signature = strings[in.readInt()];
+					int visibility = in.readInt();
+					int restrictions = in.readInt();
+					if (parent.element instanceof IReferenceTypeDescriptor type) {
+						node = description.newNode(parent, type.getMethod(name, signature), visibility, restrictions);
+					}
+				}
+				default -> { /**/ }
+			}
+			if (node == null) {
+				abort(ScannerMessages.ApiDescriptionManager_4, null);
+			}
+			parent.children.put(node.element, node);
+		}
+	}
+
+	/**
+	 * Throws an exception with the given message and underlying exception.
+	 *
+	 * @param message error message
+	 * @param exception underlying exception, or <code>null</code>
+	 */
+	private static void abort(String message, Throwable exception) throws CoreException {
+		throw new CoreException(Status.error(message, exception));
+	}
+}
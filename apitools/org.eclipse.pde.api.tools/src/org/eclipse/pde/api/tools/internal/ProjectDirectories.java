@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.resources.IProjectDescription;
+
+/**
+ * The project directories analyzed by the {@link ApiAnalysisApplication} in
+ * batch mode.
+ * <p>
+ * The source is either a directory, which is the only project if it has a
+ * project description and otherwise contains the projects as sub-directories,
+ * or a file listing one project directory per line. Relative paths in the file
+ * are resolved against the folder of the file, empty lines and lines starting
+ * with <code>#</code> are ignored.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+public final class ProjectDirectories {
+
+	private final File source;
+
+	public ProjectDirectories(File source) {
+		this.source = source;
+	}
+
+	public List<File> list() throws IOException {
+		if (source.isDirectory()) {
+			if (isProject(source)) {
+				return List.of(source);
+			}
+			File[] children = source.listFiles(ProjectDirectories::isProject);
+			if (children == null) {
+				throw new IOException("Cannot list " + source.getAbsolutePath()); //$NON-NLS-1$
+			}
+			Arrays.sort(children, Comparator.comparing(File::getName));
+			return Arrays.asList(children);
+		}
+		List<File> projects = new ArrayList<>();
+		File parent = source.getAbsoluteFile().getParentFile();
+		for (String line : Files.readAllLines(source.toPath())) {
+			String path = line.trim();
+			if (path.isEmpty() || path.startsWith("#")) { //$NON-NLS-1$
+				continue;
+			}
+			File project = new File(path);
+			projects.add(project.isAbsolute() ? project : new File(parent, path));
+		}
+		return projects;
+	}
+
+	private static boolean isProject(File directory) {
+		return new File(directory, IProjectDescription.DESCRIPTION_FILE_NAME).isFile();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -375,9 +375,8 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		if (isRunningAsJob()) {
 			ApiAnalysisJob job = new ApiAnalysisJob(BuilderMessages.api_analysis_builder, currentproject, fullBuild,
 					wbaseline, projects);
-			job.cancelSimilarJobs(fullBuild);
-			job.schedule(100);
 			job.setPriority(Job.DECORATE);
+			ApiAnalysisScheduler.getDefault().submit(job);
 		} else {
 			work(fullBuild, wbaseline, projects, monitor);
 		}
@@ -529,12 +528,16 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Runs the API analysis of a project, scheduled by the
+	 * {@link ApiAnalysisScheduler}
+	 */
 	public class ApiAnalysisJob extends Job {
 
-		private final boolean fullBuild;
+		boolean fullBuild;
 		private final IApiBaseline wbaseline;
-		private final IProject[] projects;
-		private final IProject project;
+		final IProject[] projects;
+		final IProject project;
 
 		public ApiAnalysisJob(String name, IProject project, boolean fullBuild, IApiBaseline wbaseline,
 				IProject[] projects) {
@@ -548,10 +551,26 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			setRule(new ApiAnalysisJobRule(project));
 		}
 
+		/**
+		 * @return whether the project is fully analyzed
+		 */
+		public boolean isFullBuild() {
+			return fullBuild;
+		}
+
 		@Override
 		public IStatus run(IProgressMonitor monitor) {
 			try {
-				work(fullBuild, wbaseline, projects, monitor);
+				IApiBaseline baseline = wbaseline;
+				if (baseline.isDisposed()) {
+					// the workspace baseline was replaced while the analysis
+					// was waiting, use the current one
+					baseline = ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline();
+					if (baseline == null) {
+						return Status.CANCEL_STATUS;
+					}
+				}
+				work(fullBuild, baseline, projects, monitor);
 			} catch (CoreException e) {
 				IStatus status = e.getStatus();
 				if (monitor.isCanceled()) {
@@ -578,27 +597,16 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			} catch (OperationCanceledException | InterruptedException e1) {
 				// nothing to do
 			}
-			cancelSimilarJobs(fullBuild);
 			IStatus s = new Status(IStatus.INFO, ApiAnalysisBuilder.class,
 					"Re-scheduling API analysis for " + project.getName(), e); //$NON-NLS-1$
 			ApiPlugin.log(s);
-			schedule();
+			ApiAnalysisScheduler.getDefault().submit(this);
 		}
 
 		@Override
 		public boolean belongsTo(Object family) {
 			return super.belongsTo(family) || ApiAnalysisJob.class == family;
 		}
-
-		void cancelSimilarJobs(boolean fullBuild) {
-			Job[] jobs = Job.getJobManager().find(ApiAnalysisJob.class);
-			for (Job job : jobs) {
-				ApiAnalysisJob ajob = (ApiAnalysisJob) job;
-				if (fullBuild == ajob.fullBuild && project.equals(ajob.project)) {
-					job.cancel();
-				}
-			}
-		}
 	}
 
 	public static final class ApiAnalysisJobRule implements ISchedulingRule {
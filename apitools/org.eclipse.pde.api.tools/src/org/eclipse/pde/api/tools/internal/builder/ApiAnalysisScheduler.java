@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Workspace wide queue of the {@link ApiAnalysisJob}s scheduled when the API
+ * analysis runs as a job.
+ * <p>
+ * Requests for a project that is already queued are coalesced into one
+ * analysis, which is a full build if any of the requests was. At most
+ * {@link #PARALLELISM} analyses run at the same time in the workspace, set by
+ * the system property <code>org.eclipse.pde.api.tools.analysisJobs</code>,
+ * and at most one per project. Projects are analyzed after the queued
+ * projects they require, unless they require each other.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+public final class ApiAnalysisScheduler {
+
+	/**
+	 * Maximum number of API analyses running at the same time
+	 */
+	static final int PARALLELISM = Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.analysisJobs", Math.max(1, Runtime.getRuntime().availableProcessors() / 2)).intValue()); //$NON-NLS-1$
+
+	/**
+	 * Delay before a dispatched analysis starts, lets requests of a build
+	 * cycle be coalesced
+	 */
+	private static final long SCHEDULE_DELAY = 100;
+
+	private static final ApiAnalysisScheduler INSTANCE = new ApiAnalysisScheduler(PARALLELISM);
+
+	/**
+	 * Maximum number of analyses of this scheduler running at the same time
+	 */
+	private final int fParallelism;
+
+	/**
+	 * Analyses waiting for a free slot, in the order they were requested
+	 */
+	private final Map<IProject, ApiAnalysisJob> fPending = new LinkedHashMap<>();
+
+	/**
+	 * Analyses that have been scheduled as jobs
+	 */
+	private final Map<IProject, ApiAnalysisJob> fRunning = new HashMap<>();
+
+	/**
+	 * Project name to the duration of its last analysis in milliseconds
+	 */
+	private final Map<String, Long> fDurations = new HashMap<>();
+
+	private final IJobChangeListener fListener = new JobChangeAdapter() {
+		@Override
+		public void running(IJobChangeEvent event) {
+			started((ApiAnalysisJob) event.getJob());
+		}
+
+		@Override
+		public void done(IJobChangeEvent event) {
+			finished((ApiAnalysisJob) event.getJob());
+		}
+	};
+
+	/**
+	 * Start times of the running analyses
+	 */
+	private final Map<ApiAnalysisJob, Long> fStartTimes = new HashMap<>();
+
+	/**
+	 * Creates a scheduler running at most the given number of analyses at the
+	 * same time. The analyses of the workspace are queued in the scheduler
+	 * returned by {@link #getDefault()}.
+	 *
+	 * @param parallelism the maximum number of analyses running at the same
+	 *            time
+	 */
+	public ApiAnalysisScheduler(int parallelism) {
+		fParallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * @return the workspace wide scheduler
+	 */
+	public static ApiAnalysisScheduler getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Queues the given analysis. If an analysis of the same project is still
+	 * waiting it is replaced by the given one.
+	 *
+	 * @param job the analysis to run
+	 */
+	public synchronized void submit(ApiAnalysisJob job) {
+		ApiAnalysisJob pending = fPending.remove(job.project);
+		if (pending != null && pending.fullBuild) {
+			job.fullBuild = true;
+		}
+		fPending.put(job.project, job);
+		if (ApiPlugin.DEBUG_BUILDER) {
+			System.out.println("ApiAnalysisScheduler: queued " + job.project.getName() + (pending != null ? " (coalesced)" : "") + ", " + fPending.size() + " waiting, " + fRunning.size() + " running"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		}
+		dispatch();
+	}
+
+	/**
+	 * Drops all waiting analyses and cancels the scheduled ones
+	 */
+	public void cancelAll() {
+		synchronized (this) {
+			fPending.clear();
+		}
+		Job.getJobManager().cancel(ApiAnalysisJob.class);
+	}
+
+	/**
+	 * @return the number of analyses waiting for a free slot
+	 */
+	public synchronized int getQueueDepth() {
+		return fPending.size();
+	}
+
+	/**
+	 * @return the number of analyses scheduled or running
+	 */
+	public synchronized int getRunningCount() {
+		return fRunning.size();
+	}
+
+	/**
+	 * Returns the duration of the last analysis of each project analyzed as a
+	 * job
+	 *
+	 * @return map of project names to durations in milliseconds
+	 */
+	public synchronized Map<String, Long> getLastDurations() {
+		return new HashMap<>(fDurations);
+	}
+
+	/**
+	 * Schedules waiting analyses as long as there are free slots
+	 */
+	private synchronized void dispatch() {
+		while (fRunning.size() < fParallelism) {
+			ApiAnalysisJob next = selectNext();
+			if (next == null) {
+				return;
+			}
+			fPending.remove(next.project);
+			fRunning.put(next.project, next);
+			next.addJobChangeListener(fListener);
+			next.schedule(SCHEDULE_DELAY);
+		}
+	}
+
+	/**
+	 * Returns the first waiting analysis of a project that is not being
+	 * analyzed and that does not require a project which is waiting or being
+	 * analyzed. If the waiting projects only require each other the first of
+	 * them is returned once nothing else runs.
+	 */
+	private ApiAnalysisJob selectNext() {
+		ApiAnalysisJob first = null;
+		for (ApiAnalysisJob job : fPending.values()) {
+			if (fRunning.containsKey(job.project)) {
+				continue;
+			}
+			if (first == null) {
+				first = job;
+			}
+			if (!requiresQueuedProject(job)) {
+				return job;
+			}
+		}
+		return fRunning.isEmpty() ? first : null;
+	}
+
+	private boolean requiresQueuedProject(ApiAnalysisJob job) {
+		for (IProject project : job.projects) {
+			if (!project.equals(job.project) && (fPending.containsKey(project) || fRunning.containsKey(project))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized void started(ApiAnalysisJob job) {
+		fStartTimes.put(job, Long.valueOf(System.currentTimeMillis()));
+	}
+
+	private synchronized void finished(ApiAnalysisJob job) {
+		job.removeJobChangeListener(fListener);
+		fRunning.remove(job.project, job);
+		Long start = fStartTimes.remove(job);
+		if (start != null) {
+			long duration = System.currentTimeMillis() - start.longValue();
+			fDurations.put(job.project.getName(), Long.valueOf(duration));
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisScheduler: analysis of " + job.project.getName() + " took " + duration + "ms, " + fPending.size() + " waiting"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			}
+		}
+		dispatch();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -285,7 +285,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			}
 
 			// usage checks
-			checkApiUsage(bcontext, component, localMonitor.split(1));
+			checkApiUsage(bcontext, component, state, localMonitor.split(1));
 			// tag validation
 			checkTagValidation(bcontext, localMonitor.split(1));
 			if (checkfilters) {
@@ -1222,17 +1222,24 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 *
 	 * @param context the current build context
 	 * @param component component being built
+	 * @param state the build state to record the types referenced by the
+	 *            analyzed types in or <code>null</code>
 	 * @param monitor progress monitor
 	 */
-	private void checkApiUsage(final IBuildContext context, final IApiComponent component, IProgressMonitor monitor) {
+	private void checkApiUsage(final IBuildContext context, final IApiComponent component, final BuildState state, IProgressMonitor monitor) {
 		if (ignoreApiUsageScan()) {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Ignoring API usage scan"); //$NON-NLS-1$
 			}
+			if (state != null) {
+				// the recorded references will not be kept up to date
+				state.clearTypeDependencies();
+			}
 			return;
 		}
 		IApiTypeContainer scope = null;
-		if (context.hasTypes()) {
+		boolean complete = !context.hasTypes();
+		if (!complete) {
 			String[] typenames = getApiUseTypes(context);
 			if (typenames.length < 1) {
 				return;
@@ -1243,6 +1250,11 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, MessageFormat.format(BuilderMessages.checking_api_usage, component.getSymbolicName()), 2);
 		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		// the references of some types can only update the recorded ones
+		boolean recordDependencies = state != null && component instanceof ProjectComponent && (complete || state.hasTypeDependencies());
+		if (recordDependencies) {
+			analyzer.collectTypeDependencies();
+		}
 		try {
 			long start = System.currentTimeMillis();
 			IApiProblem[] illegal = analyzer.analyze(component, scope, localMonitor.split(2));
@@ -1253,7 +1265,18 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			for (IApiProblem element : illegal) {
 				addProblem(element);
 			}
+			if (recordDependencies) {
+				if (localMonitor.isCanceled()) {
+					// not all types were scanned
+					state.clearTypeDependencies();
+				} else {
+					state.recordTypeDependencies(analyzer.getTypeDependencies(), complete);
+				}
+			}
 		} catch (CoreException ce) {
+			if (recordDependencies) {
+				state.clearTypeDependencies();
+			}
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				ApiPlugin.log(ce);
 			}
@@ -1391,12 +1414,45 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		} else {
 			fBuildState.cleanup(typeName);
 			long time = System.currentTimeMillis();
+			long fingerprint = TypeFingerprint.NONE;
+			long referenceFingerprint = TypeFingerprint.NONE;
 			try {
+				long lastFingerprint = fBuildState.getTypeFingerprint(typeName);
+				if (lastFingerprint != TypeFingerprint.NONE) {
+					// the fingerprints are only computed when the type was
+					// compared without delta before, the reference type only
+					// when the workspace type did not change
+					fingerprint = computeFingerprint(classFile, provider, reexported);
+					if (fingerprint == lastFingerprint) {
+						referenceFingerprint = computeReferenceFingerprint(typeName, reference);
+						if (referenceFingerprint == fBuildState.getReferenceFingerprint(typeName)) {
+							if (ApiPlugin.DEBUG_API_ANALYZER) {
+								System.out.println("Skipped comparison of unchanged type " + typeName); //$NON-NLS-1$
+							}
+							return;
+						}
+					}
+				}
 				IApiComponent exporter = null;
 				if (reexported) {
 					exporter = component;
 				}
 				delta = ApiComparator.compare(classFile, reference, provider, exporter, reference.getBaseline(), provider.getBaseline(), VisibilityModifiers.API, subMonitor.split(1));
+				if (delta == ApiComparator.NO_DELTA) {
+					// remember the compared types so the next comparison can be
+					// skipped if neither of them changes
+					if (fingerprint == TypeFingerprint.NONE) {
+						fingerprint = computeFingerprint(classFile, provider, reexported);
+					}
+					if (referenceFingerprint == TypeFingerprint.NONE) {
+						referenceFingerprint = computeReferenceFingerprint(typeName, reference);
+					}
+				}
+				if (delta == ApiComparator.NO_DELTA && fingerprint != TypeFingerprint.NONE && referenceFingerprint != TypeFingerprint.NONE) {
+					fBuildState.setTypeFingerprints(typeName, fingerprint, referenceFingerprint);
+				} else {
+					fBuildState.removeTypeFingerprints(typeName);
+				}
 			} catch (OperationCanceledException oce) {
 				// do nothing, but don't forward it
 				// https://bugs.eclipse.org/bugs/show_bug.cgi?id=304315
@@ -1434,6 +1490,50 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 	}
 
+	/**
+	 * Computes the fingerprint of the given workspace type, see
+	 * {@link TypeFingerprint}
+	 *
+	 * @return the fingerprint or {@link TypeFingerprint#NONE} if it cannot be
+	 *         computed
+	 */
+	private long computeFingerprint(IApiTypeRoot classFile, IApiComponent provider, boolean reexported) {
+		try {
+			IApiType type = classFile.getStructure();
+			if (type == null) {
+				return TypeFingerprint.NONE;
+			}
+			return TypeFingerprint.compute(type, provider.getApiDescription(), provider.getSymbolicName(), Boolean.toString(reexported));
+		} catch (CoreException e) {
+			// the comparison reports the problem
+			return TypeFingerprint.NONE;
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the type with the given name in the
+	 * reference component, see {@link TypeFingerprint}
+	 *
+	 * @return the fingerprint or {@link TypeFingerprint#NONE} if the type has
+	 *         no reference type or if the fingerprint cannot be computed
+	 */
+	private long computeReferenceFingerprint(String typeName, IApiComponent reference) {
+		try {
+			IApiTypeRoot referenceClassFile = reference.findTypeRoot(typeName);
+			if (referenceClassFile == null) {
+				return TypeFingerprint.NONE;
+			}
+			IApiType referenceType = referenceClassFile.getStructure();
+			if (referenceType == null) {
+				return TypeFingerprint.NONE;
+			}
+			return TypeFingerprint.compute(referenceType, reference.getApiDescription(), Util.getComponentVersionsId(reference));
+		} catch (CoreException e) {
+			// the comparison reports the problem
+			return TypeFingerprint.NONE;
+		}
+	}
+
 	/**
 	 * Compares the two given components and generates an {@link IDelta}
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 35;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,15 +78,43 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Map of type names to the fingerprints of the workspace and reference
+	 * type structures that were last compared without any delta
+	 *
+	 * @since 1.3.400
+	 */
+	private final Map<String, TypeFingerprints> typeFingerprints;
+	/**
+	 * Map of the types of the project to the types of other components they
+	 * reference, or <code>null</code> if the references were not recorded
+	 *
+	 * @since 1.3.400
+	 */
+	private Map<String, Set<String>> typeDependencies;
+	/**
+	 * Map of the types of other components to the types of the project
+	 * referencing them, the inverse of {@link #typeDependencies} computed on
+	 * demand
+	 */
+	private Map<String, Set<String>> typeDependents;
+
+	/**
+	 * Fingerprints of a workspace type and of its reference type, see
+	 * {@link TypeFingerprint}
+	 */
+	private record TypeFingerprints(long type, long reference) {
+	}
 
 	/**
 	 * Constructor
 	 */
-	BuildState() {
+	public BuildState() {
 		this.compatibleChanges = new LinkedHashMap<>();
 		this.breakingChanges = new LinkedHashMap<>();
 		this.manifestChanges = new LinkedHashMap<>();
 		this.buildPropChanges = new LinkedHashMap<>();
+		this.typeFingerprints = new HashMap<>();
 	}
 
 	/**
@@ -155,6 +183,27 @@ public class BuildState {
 					}
 					state.setBuildPropertiesState(map);
 				}
+				count = in.readInt();
+				// read the fingerprints of the types compared without delta
+				for (int i = 0; i < count; i++) {
+					String typeName = in.readUTF();
+					state.setTypeFingerprints(typeName, in.readLong(), in.readLong());
+				}
+				if (in.readBoolean()) {
+					// read the types referenced by each type
+					count = in.readInt();
+					Map<String, Set<String>> dependencies = new HashMap<>(count);
+					for (int i = 0; i < count; i++) {
+						String typeName = in.readUTF();
+						int length = in.readInt();
+						Set<String> referenced = new HashSet<>(length);
+						for (int j = 0; j < length; j++) {
+							referenced.add(in.readUTF());
+						}
+						dependencies.put(typeName, referenced);
+					}
+					state.typeDependencies = dependencies;
+				}
 			}
 			return state;
 		}
@@ -210,6 +259,23 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		out.writeInt(state.typeFingerprints.size());
+		for (Entry<String, TypeFingerprints> fingerprints : state.typeFingerprints.entrySet()) {
+			out.writeUTF(fingerprints.getKey());
+			out.writeLong(fingerprints.getValue().type());
+			out.writeLong(fingerprints.getValue().reference());
+		}
+		out.writeBoolean(state.typeDependencies != null);
+		if (state.typeDependencies != null) {
+			out.writeInt(state.typeDependencies.size());
+			for (Entry<String, Set<String>> dependencies : state.typeDependencies.entrySet()) {
+				out.writeUTF(dependencies.getKey());
+				out.writeInt(dependencies.getValue().size());
+				for (String referenced : dependencies.getValue()) {
+					out.writeUTF(referenced);
+				}
+			}
+		}
 	}
 
 	/**
@@ -373,6 +439,130 @@ public class BuildState {
 		this.reexportedComponents = null;
 	}
 
+	/**
+	 * Returns the fingerprint the given workspace type had when it was last
+	 * compared to its reference type without any delta
+	 *
+	 * @param typeName the name of the type
+	 * @return the fingerprint or {@link TypeFingerprint#NONE} if the type was
+	 *         not compared without delta
+	 */
+	public long getTypeFingerprint(String typeName) {
+		TypeFingerprints fingerprints = this.typeFingerprints.get(typeName);
+		return fingerprints == null ? TypeFingerprint.NONE : fingerprints.type();
+	}
+
+	/**
+	 * Returns the fingerprint the reference type of the given type had when
+	 * the type was last compared to it without any delta
+	 *
+	 * @param typeName the name of the type
+	 * @return the fingerprint or {@link TypeFingerprint#NONE} if the type was
+	 *         not compared without delta
+	 */
+	public long getReferenceFingerprint(String typeName) {
+		TypeFingerprints fingerprints = this.typeFingerprints.get(typeName);
+		return fingerprints == null ? TypeFingerprint.NONE : fingerprints.reference();
+	}
+
+	/**
+	 * Records the fingerprints of the given type after it was compared to its
+	 * reference type without any delta
+	 *
+	 * @param typeName the name of the type
+	 * @param type the fingerprint of the workspace type
+	 * @param reference the fingerprint of the reference type
+	 */
+	public void setTypeFingerprints(String typeName, long type, long reference) {
+		this.typeFingerprints.put(typeName, new TypeFingerprints(type, reference));
+	}
+
+	/**
+	 * Forgets the fingerprints of the given type, its next comparison cannot
+	 * be skipped
+	 *
+	 * @param typeName the name of the type
+	 */
+	public void removeTypeFingerprints(String typeName) {
+		this.typeFingerprints.remove(typeName);
+	}
+
+	/**
+	 * Returns if the types referenced by the types of the project have been
+	 * recorded, see {@link #getTypeDependents(String)}
+	 *
+	 * @return <code>true</code> if the referenced types are known
+	 */
+	public boolean hasTypeDependencies() {
+		return this.typeDependencies != null;
+	}
+
+	/**
+	 * Records the types of other components referenced by the given types of
+	 * the project, replacing what was recorded for them before. The
+	 * references of some of the types only update what was recorded, they are
+	 * dropped if nothing was, as the types that were not analyzed would be
+	 * missing.
+	 *
+	 * @param dependencies map of the qualified names of types of the project
+	 *            to the qualified names of the top level types they reference
+	 * @param complete if all types of the project were analyzed
+	 */
+	public void recordTypeDependencies(Map<String, Set<String>> dependencies, boolean complete) {
+		if (complete) {
+			this.typeDependencies = new HashMap<>(dependencies);
+		} else if (this.typeDependencies != null) {
+			this.typeDependencies.putAll(dependencies);
+		} else {
+			return;
+		}
+		this.typeDependents = null;
+	}
+
+	/**
+	 * Forgets the types referenced by the given type of the project
+	 *
+	 * @param typeName the qualified name of a type of the project
+	 */
+	public void removeTypeDependencies(String typeName) {
+		if (this.typeDependencies != null && this.typeDependencies.remove(typeName) != null) {
+			this.typeDependents = null;
+		}
+	}
+
+	/**
+	 * Forgets the types referenced by all types of the project, dependent
+	 * types have to be found without the help of the build state
+	 */
+	public void clearTypeDependencies() {
+		this.typeDependencies = null;
+		this.typeDependents = null;
+	}
+
+	/**
+	 * Returns the types of the project referencing the given type of another
+	 * component
+	 *
+	 * @param typeName the qualified name of a top level type
+	 * @return the qualified names of the types of the project referencing the
+	 *         type, never <code>null</code>
+	 */
+	public Set<String> getTypeDependents(String typeName) {
+		if (this.typeDependencies == null) {
+			return Collections.emptySet();
+		}
+		if (this.typeDependents == null) {
+			Map<String, Set<String>> dependents = new HashMap<>();
+			for (Entry<String, Set<String>> entry : this.typeDependencies.entrySet()) {
+				for (String referenced : entry.getValue()) {
+					dependents.computeIfAbsent(referenced, t -> new HashSet<>()).add(entry.getKey());
+				}
+			}
+			this.typeDependents = dependents;
+		}
+		return this.typeDependents.getOrDefault(typeName, Collections.emptySet());
+	}
+
 	/**
 	 * Sets the current list if re-exported {@link IApiComponent}s for this
 	 * build state
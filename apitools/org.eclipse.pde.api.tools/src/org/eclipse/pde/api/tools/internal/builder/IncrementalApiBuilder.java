@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -234,7 +234,7 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
-			buildContext(project, state, visitor.changes, depprojects);
+			buildContext(project, state, buildstate, visitor.changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
 			// do nothing, but don't forward it
@@ -373,20 +373,34 @@ public class IncrementalApiBuilder {
 	 *
 	 * @param project the current project being built
 	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
 	 * @param list of changes
 	 */
-	void buildContext(final IProject project, State state, List<Change> changes, HashSet<IProject> depprojects) {
+	void buildContext(final IProject project, State state, BuildState buildstate, List<Change> changes, HashSet<IProject> depprojects) {
 		StringSet structural = null;
 		StringSet description = null;
+		// changed types of other projects whose dependents are known from the
+		// references recorded in the build state
+		boolean indexed = buildstate != null && buildstate.hasTypeDependencies();
+		StringSet externalStructural = null;
+		StringSet externalDescription = null;
 		for (Change change : changes) {
 			boolean contained = change.isContained(project, depprojects);
+			boolean external = indexed && !change.project.equals(project);
 			if ((change.changeKind & STRUCTURAL) > 0) {
 				// don't analyze dependents of removed types
 				if (change.deltaKind != IResourceDelta.REMOVED) {
-					if (structural == null) {
-						structural = new StringSet(16);
+					if (external) {
+						if (externalStructural == null) {
+							externalStructural = new StringSet(16);
+						}
+						externalStructural.add(change.typeName);
+					} else {
+						if (structural == null) {
+							structural = new StringSet(16);
+						}
+						structural.add(change.typeName);
 					}
-					structural.add(change.typeName);
 				}
 				// only add to structural types if contained in the project
 				// being built
@@ -398,10 +412,17 @@ public class IncrementalApiBuilder {
 				}
 			}
 			if ((change.changeKind & DESCRIPTION) > 0) {
-				if (description == null) {
-					description = new StringSet(16);
+				if (external) {
+					if (externalDescription == null) {
+						externalDescription = new StringSet(16);
+					}
+					externalDescription.add(change.typeName);
+				} else {
+					if (description == null) {
+						description = new StringSet(16);
+					}
+					description.add(change.typeName);
 				}
-				description.add(change.typeName);
 				// only add to description changes if contained in the project
 				// being built
 				if (contained) {
@@ -447,6 +468,49 @@ public class IncrementalApiBuilder {
 				}
 			}
 		}
+		if (externalStructural != null) {
+			addIndexedDependents(project, state, buildstate, externalStructural.values, STRUCTURAL);
+		}
+		if (externalDescription != null) {
+			addIndexedDependents(project, state, buildstate, externalDescription.values, DESCRIPTION);
+		}
+	}
+
+	/**
+	 * Adds the source files of the types recorded in the API tools build state
+	 * as referencing the given types of other projects to either the
+	 * structural or description dependents. Unlike
+	 * {@link #addDependents(IProject, State, String[], int)} this only selects
+	 * types whose byte code references one of the changed types by its
+	 * qualified name.
+	 *
+	 * @param project the current project being built
+	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
+	 * @param types slash and $ qualified names of base types that changed
+	 * @param kind mask of STRUCTURAL or DESCRIPTION
+	 */
+	private void addIndexedDependents(final IProject project, State state, BuildState buildstate, String[] types, int kind) {
+		for (String type : types) {
+			if (type == null) {
+				continue;
+			}
+			int idx = type.indexOf('$');
+			String typename = (idx > 0 ? type.substring(0, idx) : type).replace('/', '.');
+			for (String dependent : buildstate.getTypeDependents(typename)) {
+				String path = state.typeLocators.get(dependent.replace('.', '/'));
+				if (path == null) {
+					continue;
+				}
+				IResource member = project.findMember(path);
+				if (member != null && member.getType() == IResource.FILE) {
+					if (ApiPlugin.DEBUG_BUILDER) {
+						System.out.println("ApiAnalysisBuilder:   adding affected source file " + member.getName() + " referencing " + typename); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					addDependentTypeToContext((IFile) member, kind);
+				}
+			}
+		}
 	}
 
 	/**
@@ -529,6 +593,7 @@ public class IncrementalApiBuilder {
 		String[] types = this.context.getRemovedTypes();
 		for (String type : types) {
 			state.cleanup(type);
+			state.removeTypeDependencies(type.replace('/', '.'));
 		}
 		subMonitor.split(1);
 		IResource resource = project.findMember(ApiAnalysisBuilder.MANIFEST_PATH);
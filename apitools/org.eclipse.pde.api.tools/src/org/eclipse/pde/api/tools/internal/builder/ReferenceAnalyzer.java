@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,13 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -36,6 +41,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
 
 /**
  * The reference analyzer
@@ -49,6 +55,14 @@ public class ReferenceAnalyzer {
 	 */
 	private static final double LOG2 = Math.log(2);
 
+	/**
+	 * Maximum number of threads resolving the references of a component. The
+	 * references are resolved on the calling thread unless more threads are
+	 * enabled with this system property, the builder already analyzes several
+	 * projects at once.
+	 */
+	private static final int RESOLVER_PARALLELISM = Integer.getInteger("org.eclipse.pde.api.tools.resolverThreads", 1); //$NON-NLS-1$
+
 	/**
 	 * Empty result collection.
 	 */
@@ -94,7 +108,14 @@ public class ReferenceAnalyzer {
 					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
 						return;
 					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
+					// every kind of reference is a dependency, even if no
+					// problem detector is interested in it, so method bodies
+					// are read even if the detectors only need declarations
+					int kinds = fTypeDependencies != null ? IReference.MASK_REF_ALL : fAllReferenceKinds;
+					List<IReference> references = type.extractReferences(kinds, null);
+					if (fTypeDependencies != null) {
+						recordTypeDependencies(type, references);
+					}
 					// keep potential matches
 					for (IReference ref : references) {
 						if (fMonitor.isCanceled()) {
@@ -141,6 +162,30 @@ public class ReferenceAnalyzer {
 	 */
 	List<IReference> fReferences = new LinkedList<>();
 
+	/**
+	 * Map of the analyzed types to the top level types of other components
+	 * they reference or <code>null</code> if they are not collected
+	 */
+	Map<String, Set<String>> fTypeDependencies;
+
+	/**
+	 * Packages of the analyzed component, only references to types in these
+	 * packages can be references to types of the component itself
+	 */
+	Set<String> fLocalPackages;
+
+	/**
+	 * Map of the types referenced in the packages of the analyzed component to
+	 * whether the component provides them, as packages can be split across
+	 * components
+	 */
+	Map<String, Boolean> fLocalTypes;
+
+	/**
+	 * The component being analyzed
+	 */
+	IApiComponent fComponent;
+
 	/**
 	 * Problem detectors indexed by the log base 2 of each reference kind they
 	 * are interested in. Provides a fast way to hand references off to
@@ -193,6 +238,69 @@ public class ReferenceAnalyzer {
 		return (int) Math.round(pow);
 	}
 
+	/**
+	 * Makes the following analysis collect the types of other components
+	 * referenced by each analyzed type, see {@link #getTypeDependencies()}
+	 */
+	void collectTypeDependencies() {
+		fTypeDependencies = new HashMap<>();
+	}
+
+	/**
+	 * Returns the types of other components referenced by the types analyzed
+	 * so far, if they are collected
+	 *
+	 * @return map of the qualified names of the analyzed types to the
+	 *         qualified names of the top level types they reference or
+	 *         <code>null</code> if they are not collected
+	 */
+	Map<String, Set<String>> getTypeDependencies() {
+		return fTypeDependencies;
+	}
+
+	/**
+	 * Records the types outside of the analyzed component referenced by the
+	 * given type or its member types. Types of the JRE are left out since they
+	 * are never built in the workspace.
+	 */
+	void recordTypeDependencies(IApiType type, List<IReference> references) {
+		Set<String> referenced = new HashSet<>();
+		for (IReference ref : references) {
+			String typeName = ref.getReferencedTypeName();
+			if (typeName == null || typeName.startsWith("java.")) { //$NON-NLS-1$
+				continue;
+			}
+			int index = typeName.indexOf('$');
+			if (index > 0) {
+				typeName = typeName.substring(0, index);
+			}
+			if (!isLocalType(typeName)) {
+				referenced.add(typeName);
+			}
+		}
+		fTypeDependencies.put(type.getName(), referenced);
+	}
+
+	/**
+	 * Returns if the given top level type is provided by the analyzed
+	 * component. A type of a package the component contains can still be
+	 * provided by another component the package is split with.
+	 */
+	boolean isLocalType(String typeName) {
+		if (!fLocalPackages.contains(Signatures.getPackageName(typeName))) {
+			return false;
+		}
+		return fLocalTypes.computeIfAbsent(typeName, name -> {
+			try {
+				return fComponent.findTypeRoot(name) != null;
+			} catch (CoreException e) {
+				// record the reference, a needless dependency only costs a
+				// re-analysis
+				return false;
+			}
+		});
+	}
+
 	/**
 	 * Scans the given scope extracting all reference information.
 	 *
@@ -232,6 +340,11 @@ public class ReferenceAnalyzer {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, 4);
 		// build problem detectors
 		IApiProblemDetector[] detectors = buildProblemDetectors(component, ProblemDetectorBuilder.K_ALL, localMonitor.split(1));
+		if (fTypeDependencies != null) {
+			fComponent = component;
+			fLocalPackages = new HashSet<>(Arrays.asList(component.getPackageNames()));
+			fLocalTypes = new HashMap<>();
+		}
 		// analyze
 		try {
 			// 1. extract references
@@ -240,7 +353,7 @@ public class ReferenceAnalyzer {
 			// 2. resolve problematic references
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			if (fReferences.size() != 0) {
-				ReferenceResolver.resolveReferences(fReferences);
+				ReferenceResolver.resolveReferences(fReferences, RESOLVER_PARALLELISM);
 			}
 			// 3. create problems
 			List<IApiProblem> allProblems = new LinkedList<>();
@@ -260,6 +373,8 @@ public class ReferenceAnalyzer {
 			// clean up
 			fIndexedDetectors = null;
 			fReferences.clear();
+			fComponent = null;
+			fLocalTypes = null;
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -906,6 +906,17 @@ public class ReferenceExtractor extends ClassVisitor {
 	 */
 	private static final int VISIT_MEMBERS_MASK = IReference.MASK_REF_ALL ^ (IReference.REF_EXTENDS | IReference.REF_IMPLEMENTS);
 
+	/**
+	 * Bit mask of the reference kinds that are found in the declarations of a
+	 * class file: its super types, member signatures and overridden methods.
+	 * Extracting only these kinds does not need to read method bodies.
+	 * Annotation references are not part of it as the line number of a method
+	 * annotation is read from the method body.
+	 *
+	 * @since 1.3.400
+	 */
+	public static final int DECLARATION_REFERENCES_MASK = IReference.REF_EXTENDS | IReference.REF_IMPLEMENTS | IReference.REF_FIELDDECL | IReference.REF_RETURNTYPE | IReference.REF_PARAMETER | IReference.REF_THROWS | IReference.REF_PARAMETERIZED_TYPEDECL | IReference.REF_PARAMETERIZED_FIELDDECL | IReference.REF_PARAMETERIZED_METHODDECL | IReference.REF_OVERRIDE;
+
 	/**
 	 * If members should be visited for type visits
 	 */
@@ -955,6 +966,24 @@ public class ReferenceExtractor extends ClassVisitor {
 		fieldtracker = tracker;
 	}
 
+	/**
+	 * Returns the {@link ClassReader} parsing options to use when extracting
+	 * the given kinds of references. If only declaration references are
+	 * requested method bodies and debug attributes are skipped.
+	 *
+	 * @param referenceKinds kinds of references to extract as defined by
+	 *            {@link ReferenceModifiers}
+	 * @return the parsing options to pass to
+	 *         {@link ClassReader#accept(ClassVisitor, int)}
+	 * @since 1.3.400
+	 */
+	public static int getParsingOptions(int referenceKinds) {
+		if ((referenceKinds & ~DECLARATION_REFERENCES_MASK) == 0) {
+			return ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+		}
+		return ClassReader.SKIP_FRAMES;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder buffer = new StringBuilder();
@@ -966,6 +995,9 @@ public class ReferenceExtractor extends ClassVisitor {
 		buffer.append("\n"); //$NON-NLS-1$
 		buffer.append("Is visiting members: "); //$NON-NLS-1$
 		buffer.append(fIsVisitMembers);
+		buffer.append("\n"); //$NON-NLS-1$
+		buffer.append("Is skipping code: "); //$NON-NLS-1$
+		buffer.append((getParsingOptions(fReferenceKinds) & ClassReader.SKIP_CODE) != 0);
 		return buffer.toString();
 	}
 
@@ -1275,7 +1307,7 @@ public class ReferenceExtractor extends ClassVisitor {
 		HashSet<Reference> refs = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(type, refs, refkinds, this.fieldtracker);
 		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) type.getTypeRoot()).getContents());
-		reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		reader.accept(extractor, getParsingOptions(refkinds));
 		return refs;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,16 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
@@ -31,6 +39,115 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
  */
 public final class ReferenceResolver {
 
+	/**
+	 * Minimum number of independent resolutions per thread, smaller sets of
+	 * references are resolved on the calling thread
+	 */
+	private static final int MIN_RESOLUTIONS_PER_THREAD = 64;
+
+	/**
+	 * Maximum number of threads resolving references at the same time, shared
+	 * by all resolutions
+	 */
+	private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Threads shared by all resolutions using more than one thread, they are
+	 * only started when needed and end when idle
+	 */
+	private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+		Thread thread = new Thread(runnable, "API Tools Reference Resolver"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	static {
+		EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Key of the references sharing the same resolution: the component making
+	 * the reference and the referenced type or member. The key only holds the
+	 * names already known by the references. A single key is used to look up
+	 * all references, it is only copied for the first reference of each
+	 * resolution.
+	 */
+	private static final class SignatureKey {
+		private String component;
+		private String type;
+		private String member;
+		private String signature;
+		private int hash;
+
+		SignatureKey() {
+		}
+
+		private SignatureKey(SignatureKey key) {
+			this.component = key.component;
+			this.type = key.type;
+			this.member = key.member;
+			this.signature = key.signature;
+			this.hash = key.hash;
+		}
+
+		/**
+		 * Sets this key to the key of the given reference, of the form
+		 * "component X references type/member"
+		 *
+		 * <pre>
+		 * [component_id]#[type_name](#[member_name]#[member_signature])
+		 * </pre>
+		 *
+		 * @param reference reference
+		 * @return this key
+		 */
+		SignatureKey set(IReference reference) {
+			this.component = reference.getMember().getApiComponent().getSymbolicName();
+			this.type = reference.getReferencedTypeName();
+			switch (reference.getReferenceType()) {
+				case IReference.T_FIELD_REFERENCE -> {
+					this.member = reference.getReferencedMemberName();
+					this.signature = null;
+				}
+				case IReference.T_METHOD_REFERENCE -> {
+					this.member = reference.getReferencedMemberName();
+					this.signature = reference.getReferencedSignature();
+				}
+				default -> {
+					this.member = null;
+					this.signature = null;
+				}
+			}
+			// not Objects.hash, which allocates an array for every reference
+			this.hash = ((Objects.hashCode(this.component) * 31 + Objects.hashCode(this.type)) * 31 + Objects.hashCode(this.member)) * 31 + Objects.hashCode(this.signature);
+			return this;
+		}
+
+		SignatureKey copy() {
+			return new SignatureKey(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof SignatureKey key && this.hash == key.hash && Objects.equals(this.component, key.component)
+					&& Objects.equals(this.type, key.type) && Objects.equals(this.member, key.member)
+					&& Objects.equals(this.signature, key.signature);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+	/**
+	 * A resolution of an element of a list
+	 */
+	@FunctionalInterface
+	private interface Resolution<T> {
+		void resolve(T element) throws CoreException;
+	}
+
 	/**
 	 * Constructor Private constructor, no instantiate
 	 */
@@ -44,23 +161,40 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something goes wrong
 	 */
 	public static void resolveReferences(List<IReference> references) throws CoreException {
+		resolveReferences(references, 1);
+	}
+
+	/**
+	 * Resolves retained references. References to the same type or member from
+	 * the same component are resolved once. When <code>parallelism</code> is
+	 * greater than one, these independent resolutions and the resolution of
+	 * method overrides are spread over up to <code>parallelism</code> threads
+	 * of a pool shared by all resolutions and bounded by the number of
+	 * processors.
+	 *
+	 * @param references list of {@link IReference} to resolve
+	 * @param parallelism the maximum number of threads resolving references
+	 * @throws CoreException if something goes wrong
+	 * @throws OperationCanceledException if the calling thread is interrupted
+	 *             while waiting for the resolution
+	 * @since 1.3.400
+	 */
+	public static void resolveReferences(List<IReference> references, int parallelism) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
-		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
+		Map<SignatureKey, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
 
-		List<IReference> refs = null;
-		String key = null;
 		List<Reference> methodDecls = new ArrayList<>(refcount);
 		long start = System.currentTimeMillis();
+		SignatureKey key = new SignatureKey();
 		for (IReference ref : references) {
 			if (ref.getReferenceKind() == IReference.REF_OVERRIDE) {
 				methodDecls.add((Reference) ref);
 			} else {
-				key = createSignatureKey(ref);
-				refs = sigtoref.get(key);
+				List<IReference> refs = sigtoref.get(key.set(ref));
 				if (refs == null) {
 					refs = new ArrayList<>(20);
-					sigtoref.put(key, refs);
+					sigtoref.put(key.copy(), refs);
 				}
 				refs.add(ref);
 			}
@@ -72,68 +206,93 @@ public final class ReferenceResolver {
 		}
 		// resolve references
 		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref);
+		int threads = resolveAll(new ArrayList<>(sigtoref.values()), parallelism, ReferenceResolver::resolveReferenceSet);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms using " + threads + " thread(s)"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
-		for (Reference reference : methodDecls) {
-			reference.resolve();
-		}
+		threads = resolveAll(methodDecls, parallelism, Reference::resolve);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms using " + threads + " thread(s)"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
 		}
 	}
 
 	/**
-	 * Resolves the collect sets of references.
+	 * Applies the given resolution to all elements of the list, using up to
+	 * <code>parallelism</code> threads of the shared pool for large lists. The
+	 * first failure is rethrown once all threads are done.
 	 *
-	 * @param map the mapping of keys to sets of {@link IReference}s
-	 * @throws CoreException if something bad happens
+	 * @return the number of threads used
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
+	private static <T> int resolveAll(List<T> elements, int parallelism, Resolution<T> resolution) throws CoreException {
+		int threads = Math.min(Math.min(parallelism, MAX_THREADS), elements.size() / MIN_RESOLUTIONS_PER_THREAD);
+		if (threads <= 1) {
+			for (T element : elements) {
+				resolution.resolve(element);
+			}
+			return 1;
+		}
+		List<Future<Void>> futures = new ArrayList<>(threads);
+		try {
+			for (int i = 0; i < threads; i++) {
+				// interleave the elements, neighbours tend to have a similar
+				// cost so this spreads expensive runs over the threads
+				int offset = i;
+				int stride = threads;
+				futures.add(EXECUTOR.submit(() -> {
+					for (int j = offset; j < elements.size(); j += stride) {
+						resolution.resolve(elements.get(j));
+					}
+					return null;
+				}));
+			}
+			CoreException error = null;
+			for (Future<Void> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException re) {
+						throw re;
+					}
+					if (error == null) {
+						error = cause instanceof CoreException ce ? ce : new CoreException(Status.error(cause.getMessage(), cause));
+					}
 				}
 			}
+			if (error != null) {
+				throw error;
+			}
+			return threads;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			// stop the other threads after a failure
+			for (Future<Void> future : futures) {
+				future.cancel(true);
+			}
 		}
 	}
 
 	/**
-	 * Creates a unique string key for a given reference. The key is of the form
-	 * "component X references type/member"
+	 * Resolves a set of references to the same type or member, the resolution
+	 * of the first reference is shared with the others.
 	 *
-	 * <pre>
-	 * [component_id]#[type_name](#[member_name]#[member_signature])
-	 * </pre>
-	 *
-	 * @param reference reference
-	 * @return a string key for the given reference.
+	 * @param refs the {@link IReference}s with the same key
+	 * @throws CoreException if something bad happens
 	 */
-	private static String createSignatureKey(IReference reference) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
-		buffer.append(reference.getReferencedTypeName());
-		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-
-		} else if (reference.getReferenceType() == IReference.T_METHOD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedSignature());
+	private static void resolveReferenceSet(List<IReference> refs) throws CoreException {
+		IReference ref = refs.get(0);
+		((Reference) ref).resolve();
+		IApiMember resolved = ref.getResolvedReference();
+		if (resolved != null) {
+			for (IReference ref2 : refs) {
+				((Reference) ref2).setResolution(resolved);
+			}
 		}
-		return buffer.toString();
 	}
 }
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+
+/**
+ * Computes a fingerprint of the API visible surface of a type structure: the
+ * modifiers and signatures of the type and of its fields and methods, constant
+ * and default values, member type names, the API description restrictions and
+ * visibility of the type and of its public and protected members, and the
+ * surface of its super types.
+ * <p>
+ * Method bodies and private implementation details that do not appear in the
+ * type structure do not contribute, so a type whose fingerprint did not change
+ * compares the same way against the reference baseline as before.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+public final class TypeFingerprint {
+
+	/**
+	 * Value returned when no fingerprint could be computed
+	 */
+	public static final long NONE = 0L;
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private static final Comparator<IApiField> FIELD_ORDER = Comparator.comparing(IApiField::getName);
+	private static final Comparator<IApiMethod> METHOD_ORDER = Comparator.comparing(IApiMethod::getName).thenComparing(IApiMethod::getSignature);
+
+	private long fHash = FNV_OFFSET;
+
+	private TypeFingerprint() {
+	}
+
+	/**
+	 * Computes the fingerprint of the given type structure
+	 *
+	 * @param type the type structure
+	 * @param description the API description of the component providing the
+	 *            type or <code>null</code>
+	 * @param context additional values that affect the comparison of the type,
+	 *            for example the component providing it
+	 * @return the fingerprint or {@link #NONE} if the super types of the type
+	 *         cannot be resolved
+	 */
+	public static long compute(IApiType type, IApiDescription description, String... context) {
+		TypeFingerprint fingerprint = new TypeFingerprint();
+		for (String value : context) {
+			fingerprint.add(value);
+		}
+		try {
+			fingerprint.addType(type, description);
+			fingerprint.addHierarchy(type, new HashSet<>());
+		} catch (CoreException e) {
+			// unresolved super types are reported by the comparison
+			return NONE;
+		}
+		return fingerprint.fHash == NONE ? 1L : fingerprint.fHash;
+	}
+
+	private void addType(IApiType type, IApiDescription description) throws CoreException {
+		add(type.getName());
+		add(type.getModifiers());
+		add(type.getGenericSignature());
+		add(type.getSuperclassName());
+		add(type.getSuperInterfaceNames());
+		add((type.isMemberType() ? 1 : 0) | (type.isLocal() ? 2 : 0) | (type.isAnonymous() ? 4 : 0));
+		addAnnotations(type, description);
+		IApiField[] fields = type.getFields();
+		Arrays.sort(fields, FIELD_ORDER);
+		for (IApiField field : fields) {
+			add(field.getName());
+			add(field.getModifiers());
+			add(field.getSignature());
+			add(field.getGenericSignature());
+			Object constant = field.getConstantValue();
+			add(constant == null ? null : constant.getClass().getName() + ':' + constant);
+			addAnnotations(field, description);
+		}
+		IApiMethod[] methods = type.getMethods();
+		Arrays.sort(methods, METHOD_ORDER);
+		for (IApiMethod method : methods) {
+			add(method.getName());
+			add(method.getModifiers());
+			add(method.getSignature());
+			add(method.getGenericSignature());
+			add(method.getDefaultValue());
+			add(method.getExceptionNames());
+			addAnnotations(method, description);
+		}
+		if (type instanceof ApiType apiType) {
+			String[] names = apiType.getMemberTypeNames();
+			Arrays.sort(names);
+			add(names);
+		}
+	}
+
+	private void addAnnotations(IApiMember member, IApiDescription description) {
+		if (description == null) {
+			return;
+		}
+		if (member.getType() != IApiElement.TYPE && !Flags.isPublic(member.getModifiers())
+				&& !Flags.isProtected(member.getModifiers())) {
+			// the restrictions of members that are not API are not compared
+			return;
+		}
+		IApiAnnotations annotations = description.resolveAnnotations(member.getHandle());
+		if (annotations == null) {
+			add(-1);
+		} else {
+			add(annotations.getRestrictions());
+			add(annotations.getVisibility());
+		}
+	}
+
+	/**
+	 * Adds the surface of all super types, inherited members are part of the
+	 * comparison of the type
+	 */
+	private void addHierarchy(IApiType type, Set<String> visited) throws CoreException {
+		IApiType superclass = type.getSuperclass();
+		if (superclass != null && visited.add(superclass.getName())) {
+			addType(superclass, null);
+			addHierarchy(superclass, visited);
+		}
+		for (IApiType superinterface : type.getSuperInterfaces()) {
+			if (visited.add(superinterface.getName())) {
+				addType(superinterface, null);
+				addHierarchy(superinterface, visited);
+			}
+		}
+	}
+
+	private void add(String[] values) {
+		if (values == null) {
+			add(-1);
+			return;
+		}
+		add(values.length);
+		for (String value : values) {
+			add(value);
+		}
+	}
+
+	private void add(String value) {
+		if (value == null) {
+			add(-1);
+			return;
+		}
+		add(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			fHash = (fHash ^ value.charAt(i)) * FNV_PRIME;
+		}
+	}
+
+	private void add(int value) {
+		for (int shift = 0; shift < 32; shift += 8) {
+			fHash = (fHash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+		}
+	}
+}
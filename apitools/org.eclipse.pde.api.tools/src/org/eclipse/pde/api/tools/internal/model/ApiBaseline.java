@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -66,6 +67,7 @@ import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager.ApiBaselineManagerRule;
 import org.eclipse.pde.api.tools.internal.CoreMessages;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisScheduler;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -135,6 +137,24 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private final Map<String, Map<IApiComponent, IApiComponent[]>> fComponentsProvidingPackageCache;
 
+	/**
+	 * Index of the packages visible to each component once the state is
+	 * resolved.
+	 * <p>
+	 * Map of <code>source component -> Map(packageName -> IApiComponent[])</code>
+	 * </p>
+	 * The index of a component is built on the first lookup from that component
+	 * and is not modified afterwards, so lookups do not need to lock. The index
+	 * is dropped when the state changes.
+	 */
+	private final Map<IApiComponent, Map<String, IApiComponent[]>> fPackageIndex;
+
+	/**
+	 * Incremented whenever indexes are dropped from {@link #fPackageIndex}, so
+	 * an index built concurrently from the previous state is not kept
+	 */
+	private final AtomicInteger fPackageIndexGeneration = new AtomicInteger();
+
 	/**
 	 * Maps component id's to components.
 	 * <p>
@@ -179,6 +199,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	public ApiBaseline(String name) {
 		super(null, IApiElement.BASELINE, name);
 		fComponentsProvidingPackageCache = new ConcurrentHashMap<>(8);
+		fPackageIndex = new ConcurrentHashMap<>();
 		fSystemLibraryComponentList = new CopyOnWriteArrayList<>();
 		fComponentsById = new ConcurrentHashMap<>();
 		fAllComponentsById = new ConcurrentHashMap<>();
@@ -312,6 +333,15 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private void clearComponentsCache() {
 		fComponentsProvidingPackageCache.clear();
+		clearPackageIndex();
+	}
+
+	/**
+	 * Drops the indexes of the packages visible to the components
+	 */
+	private void clearPackageIndex() {
+		fPackageIndexGeneration.incrementAndGet();
+		fPackageIndex.clear();
 	}
 
 	/**
@@ -373,6 +403,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 		resolveSystemLibrary(ees);
 		getState().resolve();
+		clearPackageIndex();
 	}
 
 	/**
@@ -532,6 +563,15 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			IStatus error = Status.error("Trying to use disposed baseline " + getName()); //$NON-NLS-1$
 			throw new CoreException(error);
 		}
+		if (sourceComponent != null && !isSystemPackage(packageName)) {
+			Map<String, IApiComponent[]> index = getPackageIndex(sourceComponent);
+			if (index != null) {
+				IApiComponent[] providers = index.get(packageName);
+				if (providers != null) {
+					return providers;
+				}
+			}
+		}
 		Map<IApiComponent, IApiComponent[]> componentsForPackage = fComponentsProvidingPackageCache
 				.computeIfAbsent(packageName, x -> new ConcurrentHashMap<>(8));
 		IApiComponent[] cachedComponents = componentsForPackage.get(sourceComponent);
@@ -571,6 +611,74 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		return cachedComponents;
 	}
 
+	/**
+	 * Returns the index of the packages visible to the given component, building
+	 * it if needed, or <code>null</code> if the component is not a bundle or the
+	 * state is not resolved yet
+	 */
+	private Map<String, IApiComponent[]> getPackageIndex(IApiComponent component) throws CoreException {
+		Map<String, IApiComponent[]> index = fPackageIndex.get(component);
+		if (index != null) {
+			return index;
+		}
+		if (!(component instanceof BundleComponent) || !getState().isResolved()) {
+			return null;
+		}
+		int generation = fPackageIndexGeneration.get();
+		Map<String, List<IApiComponent>> providers = new HashMap<>();
+		indexPackages(component, providers);
+		Map<String, IApiComponent[]> result = new HashMap<>(providers.size());
+		providers.forEach((pkg, list) -> result.put(pkg, list.toArray(new IApiComponent[list.size()])));
+		index = Collections.unmodifiableMap(result);
+		Map<String, IApiComponent[]> previous = fPackageIndex.putIfAbsent(component, index);
+		if (previous != null) {
+			return previous;
+		}
+		if (fPackageIndexGeneration.get() != generation) {
+			// dropped while it was built, only use it for this lookup
+			fPackageIndex.remove(component, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Adds the providers of all packages visible to the given component to the
+	 * given map, in the same order {@link #resolvePackage0} finds them
+	 */
+	private void indexPackages(IApiComponent component, Map<String, List<IApiComponent>> providers)
+			throws CoreException {
+		if (component instanceof BundleComponent) {
+			BundleDescription bundle = ((BundleComponent) component).getBundleDescription();
+			if (bundle != null) {
+				StateHelper helper = getState().getStateHelper();
+				ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(bundle);
+				for (ExportPackageDescription pkg : visiblePackages) {
+					String pkgName = pkg.getName();
+					if (pkgName.equals(".")) { //$NON-NLS-1$
+						// translate . to default package
+						pkgName = Util.DEFAULT_PACKAGE_NAME;
+					}
+					IApiComponent exporter = getApiComponent(pkg.getExporter().getSymbolicName());
+					if (exporter != null) {
+						providers.computeIfAbsent(pkgName, p -> new ArrayList<>(1)).add(exporter);
+					}
+				}
+				if (component.isFragment()) {
+					// a fragment can see all the packages from the host
+					for (BundleDescription currentHost : bundle.getHost().getHosts()) {
+						IApiComponent apiComponent = component.getBaseline().getApiComponent(currentHost.getName());
+						if (apiComponent != null) {
+							indexPackages(apiComponent, providers);
+						}
+					}
+				}
+				for (String packageName : component.getPackageNames()) {
+					providers.computeIfAbsent(packageName, p -> new ArrayList<>(1)).add(component);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Resolves the listing of {@link IApiComponent}s that export the given
 	 * package name. The collection of {@link IApiComponent}s is written into
@@ -920,6 +1028,8 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	public void clearPackage(String packageName) {
 		fComponentsProvidingPackageCache.remove(packageName);
+		fPackageIndexGeneration.incrementAndGet();
+		fPackageIndex.values().removeIf(index -> index.containsKey(packageName));
 	}
 
 	@Override
@@ -960,7 +1070,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private void rebindVM() {
 		final IVMInstall originalVm = fVMBinding;
-		Job.getJobManager().cancel(ApiAnalysisJob.class);
+		ApiAnalysisScheduler.getDefault().cancelAll();
 		Job job = new Job("Rebinding JVM") { //$NON-NLS-1$
 
 			@Override
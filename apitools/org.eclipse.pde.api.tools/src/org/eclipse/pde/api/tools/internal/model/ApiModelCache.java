@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -25,46 +33,130 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 
 /**
  * Manages the caches of {@link IApiElement}s
+ * <p>
+ * Types are cached per baseline and component, grouped by their top level
+ * type name so that a root type and its member types are stored and evicted
+ * together. Lookups do not lock, updates only lock the bin of the component
+ * they apply to. The cache is bounded by the estimated retained size of the
+ * cached types rather than by their number, see
+ * {@link ApiType#getEstimatedSize()}; once the bound is exceeded the least
+ * recently used entries are evicted. As the size of a type whose members are
+ * built on demand grows after it was cached, the sizes are estimated again
+ * before evicting.
+ * </p>
+ * <p>
+ * Hits, misses and evictions are reported with the
+ * <code>org.eclipse.pde.api.tools/debug/modelcache</code> tracing option.
+ * </p>
  *
  * @since 1.0.2
  */
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * Default bound of the estimated size of all cached types, in bytes
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	static final long DEFAULT_MAX_WEIGHT = 64L * 1024 * 1024;
 
-		/**
-		 * Constructor
-		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
+	/**
+	 * Bound of the estimated size of all cached types, in bytes
+	 */
+	static final long MAX_WEIGHT = Long.getLong("org.eclipse.pde.api.tools.maxModelCacheWeight", DEFAULT_MAX_WEIGHT); //$NON-NLS-1$
+
+	static ApiModelCache fInstance = null;
+
+	/**
+	 * Key of the types cached for one component of one baseline
+	 */
+	private record ComponentKey(String baseline, String component) {
+	}
+
+	/**
+	 * A cached type and its estimated retained size. The size is only updated
+	 * while holding the bin lock of its component in
+	 * {@link ApiModelCache#fComponents}.
+	 */
+	private static final class WeightedType {
+		final ApiType type;
+		int weight;
+
+		WeightedType(ApiType type) {
+			this.type = type;
+			this.weight = type.getEstimatedSize();
 		}
+	}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
+	/**
+	 * The cached root type and member types sharing one top level type name.
+	 * Only modified while holding the bin lock of its component in
+	 * {@link ApiModelCache#fComponents}.
+	 */
+	private static final class TypeEntry {
+		volatile WeightedType root;
+		volatile Map<String, WeightedType> members;
+		volatile long lastAccess = System.nanoTime();
+		int weight;
+
+		IApiElement get(String identifier, boolean member) {
+			WeightedType type;
+			if (member) {
+				Map<String, WeightedType> types = members;
+				type = types == null ? null : types.get(identifier);
+			} else {
+				type = root;
+			}
+			if (type == null) {
+				return null;
+			}
+			lastAccess = System.nanoTime();
+			return type.type;
 		}
 
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+		boolean isEmpty() {
+			return root == null && (members == null || members.isEmpty());
 		}
 
+		void forEach(Consumer<WeightedType> action) {
+			WeightedType type = root;
+			if (type != null) {
+				action.accept(type);
+			}
+			Map<String, WeightedType> types = members;
+			if (types != null) {
+				types.values().forEach(action);
+			}
+		}
 	}
 
-	static final int DEFAULT_CACHE_SIZE = 1000;
-	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
-	static ApiModelCache fInstance = null;
+	/**
+	 * Type entries keyed by top level type name, per baseline and component
+	 */
+	private final ConcurrentHashMap<ComponentKey, ConcurrentHashMap<String, TypeEntry>> fComponents = new ConcurrentHashMap<>();
+	private final AtomicLong fWeight = new AtomicLong();
+	private final ReentrantLock fEvictionLock = new ReentrantLock();
+	private final long fMaxWeight;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
 
 	/**
 	 * Constructor - no instantiation
 	 */
 	private ApiModelCache() {
+		this(MAX_WEIGHT);
+	}
+
+	/**
+	 * Creates a cache of its own, the shared cache is returned by
+	 * {@link #getCache()}
+	 *
+	 * @param maxWeight bound of the estimated size of all cached types, in
+	 *            bytes
+	 * @since 1.3.400
+	 */
+	public ApiModelCache(long maxWeight) {
+		fMaxWeight = maxWeight;
 	}
 
 	/**
@@ -79,18 +171,6 @@ public final class ApiModelCache {
 		return fInstance;
 	}
 
-	/**
-	 * Returns the key to use in a cache. The key is of the form:
-	 * <code>[baselineid].[componentid].[typename]</code><br>
-	 *
-	 * @return the member type cache key to use
-	 */
-	private String getCacheKey(String baseline, String component, String typename) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(baseline).append('.').append(component).append('.').append(typename);
-		return buffer.toString();
-	}
-
 	/**
 	 * Caches the given {@link IApiElement} in the correct cache based on its
 	 * type.
@@ -103,9 +183,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,45 +190,35 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
 					ApiType type = (ApiType) element;
-					if (type.isMemberType() || isMemberType(type.getName()) /*
-																			 * cache
-																			 * even
-																			 * a
-																			 * root
-																			 * type
-																			 * with
-																			 * a
-																			 * '$'
-																			 * in
-																			 * its
-																			 * name
-																			 * here
-																			 * as
-																			 * well
-																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
+					String typename = type.getName();
+					// cache even a root type with a '$' in its name as a member
+					// type
+					boolean member = type.isMemberType() || isMemberType(typename);
+					WeightedType weighted = new WeightedType(type);
+					fComponents.compute(new ComponentKey(baseline.getName(), id), (key, types) -> {
+						if (types == null) {
+							types = new ConcurrentHashMap<>();
 						}
-						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
+						TypeEntry entry = types.computeIfAbsent(getRootName(typename), name -> new TypeEntry());
+						WeightedType previous;
+						if (member) {
+							if (entry.members == null) {
+								entry.members = new ConcurrentHashMap<>();
+							}
+							previous = entry.members.put(typename, weighted);
+						} else {
+							previous = entry.root;
+							entry.root = weighted;
 						}
-						mcache.put(type.getName(), type);
-					} else {
-						typecache.put(element.getName(), element);
+						int delta = weighted.weight - (previous == null ? 0 : previous.weight);
+						entry.weight += delta;
+						entry.lastAccess = System.nanoTime();
+						fWeight.addAndGet(delta);
+						return types;
+					});
+					if (fWeight.get() > fMaxWeight) {
+						evict();
 					}
 				}
 				break;
@@ -161,6 +228,87 @@ public final class ApiModelCache {
 		}
 	}
 
+	/**
+	 * Evicts the least recently used type entries until the cache is back
+	 * under 90% of its bound. Only one thread evicts at a time, other threads
+	 * go on caching rather than waiting for it.
+	 */
+	private void evict() {
+		if (!fEvictionLock.tryLock()) {
+			return;
+		}
+		try {
+			reweigh();
+			long target = fMaxWeight / 10 * 9;
+			if (fWeight.get() <= target) {
+				return;
+			}
+			record Candidate(ComponentKey key, String name, TypeEntry entry, long lastAccess) {
+			}
+			List<Candidate> candidates = new ArrayList<>();
+			for (Entry<ComponentKey, ConcurrentHashMap<String, TypeEntry>> component : fComponents.entrySet()) {
+				for (Entry<String, TypeEntry> type : component.getValue().entrySet()) {
+					TypeEntry entry = type.getValue();
+					candidates.add(new Candidate(component.getKey(), type.getKey(), entry, entry.lastAccess));
+				}
+			}
+			candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+			int count = 0;
+			boolean[] removed = new boolean[1];
+			for (Candidate candidate : candidates) {
+				if (fWeight.get() <= target) {
+					break;
+				}
+				removed[0] = false;
+				fComponents.computeIfPresent(candidate.key(), (key, types) -> {
+					// the entry may have been replaced or removed meanwhile
+					if (types.remove(candidate.name(), candidate.entry())) {
+						fWeight.addAndGet(-candidate.entry().weight);
+						removed[0] = true;
+					}
+					return types.isEmpty() ? null : types;
+				});
+				if (removed[0]) {
+					count++;
+				}
+			}
+			fEvictions.add(count);
+			if (ApiPlugin.DEBUG_MODEL_CACHE) {
+				System.out.println("ApiModelCache - evicted " + count + " type entries: " + getStatistics()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		} finally {
+			fEvictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Estimates the sizes of the cached types again. The sizes are estimated
+	 * outside of the bin locks and only applied to the types that are still
+	 * cached.
+	 */
+	private void reweigh() {
+		for (Entry<ComponentKey, ConcurrentHashMap<String, TypeEntry>> component : fComponents.entrySet()) {
+			Map<WeightedType, Integer> sizes = new IdentityHashMap<>();
+			for (TypeEntry entry : component.getValue().values()) {
+				entry.forEach(type -> sizes.put(type, Integer.valueOf(type.type.getEstimatedSize())));
+			}
+			fComponents.computeIfPresent(component.getKey(), (key, types) -> {
+				for (TypeEntry entry : types.values()) {
+					entry.forEach(type -> {
+						Integer size = sizes.get(type);
+						if (size != null && size.intValue() != type.weight) {
+							int delta = size.intValue() - type.weight;
+							type.weight = size.intValue();
+							entry.weight += delta;
+							fWeight.addAndGet(delta);
+						}
+					});
+				}
+				return types;
+			});
+		}
+	}
+
 	/**
 	 * Returns the root type name assuming that the '$' char is a member type
 	 * boundary
@@ -203,68 +351,48 @@ public final class ApiModelCache {
 		if (baselineid == null || componentid == null) {
 			return null;
 		}
-		switch (type) {
-			case IApiElement.TYPE: {
-				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
-					}
-				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
-							}
-						}
-					}
-				}
-				break;
+		IApiElement element = null;
+		if (type == IApiElement.TYPE && identifier != null) {
+			element = getType(baselineid, componentid, identifier);
+			if (element == null && componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
+				// for system component, retrieve element from any baseline
+				// instead of recreating the structure and caching the
+				// equivalent element info
+				element = getTypeFromAnyBaseline(baselineid, componentid, identifier);
 			}
-			default:
-				break;
-			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
-			// for system component, retrieve element from any baseline instead
-			// of recreating the structure and caching the equivalent element info
-			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
-			if (element != null) {
-				return element;
+			if (element == null) {
+				fMisses.increment();
+			} else {
+				fHits.increment();
 			}
 		}
-		return null;
+		return element;
 	}
 
-	private IApiElement getElementInfoFromAnyBaseline(String baselineid, String componentid, String updatedIdentifier) {
-		List<String> elements = fRootCache.keysSnapshot();
-		for (String otherBaselines : elements) {
-				if (otherBaselines.equals(baselineid)) {
-					continue;
-				}
-				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(otherBaselines);
-				if (compcache != null) {
-					Cache<String, IApiElement> typecache = compcache.get(componentid);
-					if (typecache != null && updatedIdentifier != null) {
-						IApiElement ele = typecache.get(updatedIdentifier);
-						if (ele != null) {
-							return ele;
-						}
-					}
+	private IApiElement getType(String baselineid, String componentid, String identifier) {
+		Map<String, TypeEntry> types = fComponents.get(new ComponentKey(baselineid, componentid));
+		if (types == null) {
+			return null;
+		}
+		TypeEntry entry = types.get(getRootName(identifier));
+		if (entry == null) {
+			return null;
+		}
+		return entry.get(identifier, isMemberType(identifier));
+	}
+
+	private IApiElement getTypeFromAnyBaseline(String baselineid, String componentid, String identifier) {
+		for (ComponentKey key : fComponents.keySet()) {
+			if (key.component().equals(componentid) && !key.baseline().equals(baselineid)) {
+				IApiElement element = getType(key.baseline(), componentid, identifier);
+				if (element != null) {
+					return element;
 				}
 			}
+		}
 		return null;
 	}
 
-
 	/**
 	 * Removes the {@link IApiElement} from the given component (given its id)
 	 * with the given identifier and of the given type.
@@ -282,60 +410,18 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (componentid != null && identifier != null) {
-					boolean removed = true;
-					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						}
-					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
-							}
-
-						}
-					} else {
-						return false;
-					}
+					return removeType(new ComponentKey(baselineid, componentid), identifier);
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
-				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-					if (compcache != null) {
-						boolean removed = compcache.remove(componentid) != null;
-						if (compcache.isEmpty()) {
-							removed &= fRootCache.remove(baselineid) != null;
-						}
-						return removed;
-					}
+				if (componentid != null) {
+					return removeComponent(new ComponentKey(baselineid, componentid));
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				return removeBaseline(baselineid);
 			}
 			default:
 				break;
@@ -343,6 +429,73 @@ public final class ApiModelCache {
 		return false;
 	}
 
+	/**
+	 * Removes the given type. Removing a root type also removes all of its
+	 * member types.
+	 *
+	 * @return true if the type was cached, false otherwise
+	 */
+	private boolean removeType(ComponentKey componentKey, String identifier) {
+		boolean member = isMemberType(identifier);
+		boolean[] removed = new boolean[1];
+		fComponents.computeIfPresent(componentKey, (key, types) -> {
+			String rootName = getRootName(identifier);
+			TypeEntry entry = types.get(rootName);
+			if (entry == null) {
+				return types;
+			}
+			if (member) {
+				WeightedType previous = entry.members == null ? null : entry.members.remove(identifier);
+				if (previous != null) {
+					removed[0] = true;
+					entry.weight -= previous.weight;
+					fWeight.addAndGet(-previous.weight);
+				}
+				if (entry.isEmpty()) {
+					types.remove(rootName);
+				}
+			} else {
+				removed[0] = entry.root != null;
+				types.remove(rootName);
+				fWeight.addAndGet(-entry.weight);
+			}
+			return types.isEmpty() ? null : types;
+		});
+		return removed[0];
+	}
+
+	/**
+	 * Removes all types of the given component
+	 *
+	 * @return true if types of the component were cached, false otherwise
+	 */
+	private boolean removeComponent(ComponentKey componentKey) {
+		boolean[] removed = new boolean[1];
+		fComponents.computeIfPresent(componentKey, (key, types) -> {
+			for (TypeEntry entry : types.values()) {
+				fWeight.addAndGet(-entry.weight);
+			}
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+
+	/**
+	 * Removes all types of all components of the given baseline
+	 *
+	 * @return true if types of the baseline were cached, false otherwise
+	 */
+	private boolean removeBaseline(String baselineid) {
+		boolean removed = false;
+		for (ComponentKey key : fComponents.keySet()) {
+			if (key.baseline().equals(baselineid)) {
+				removed |= removeComponent(key);
+			}
+		}
+		return removed;
+	}
+
 	/**
 	 * Removes the given {@link IApiElement} info from the cache and returns it
 	 * if present
@@ -356,26 +509,20 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return removeBaseline(baseline.getName());
 			}
 			default:
 				break;
@@ -387,18 +534,11 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
+		if (ApiPlugin.DEBUG_MODEL_CACHE) {
+			System.out.println("ApiModelCache - flushing caches: " + getStatistics()); //$NON-NLS-1$
 		}
-		flushMemberCache();
-	}
-
-	/**
-	 * Flushes the cache of member types
-	 */
-	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
+		for (ComponentKey key : fComponents.keySet()) {
+			removeComponent(key);
 		}
 	}
 
@@ -408,13 +548,36 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
+		return fComponents.isEmpty();
+	}
+
+	/**
+	 * Returns the estimated size of all cached types
+	 *
+	 * @return the estimated size in bytes
+	 * @since 1.3.400
+	 */
+	public long getWeight() {
+		return fWeight.get();
+	}
+
+	/**
+	 * Returns a summary of the hits, misses and evictions of this cache and of
+	 * its current weight, used for tracing
+	 *
+	 * @return the statistics of this cache
+	 */
+	String getStatistics() {
+		long hits = fHits.sum();
+		long lookups = hits + fMisses.sum();
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("hits: ").append(hits).append('/').append(lookups); //$NON-NLS-1$
+		if (lookups > 0) {
+			buffer.append(" (").append(hits * 100 / lookups).append("%)"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
-		return empty;
+		buffer.append(", evictions: ").append(fEvictions.sum()); //$NON-NLS-1$
+		buffer.append(", components: ").append(fComponents.size()); //$NON-NLS-1$
+		buffer.append(", estimated size: ").append(fWeight.get() / 1024).append("/").append(fMaxWeight / 1024).append(" KB"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return buffer.toString();
 	}
 }
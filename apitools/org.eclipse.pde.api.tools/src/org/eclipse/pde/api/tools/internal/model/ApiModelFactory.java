@@ -18,6 +18,7 @@ import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -88,7 +89,25 @@ public class ApiModelFactory {
 	 * @exception CoreException if unable to create the component
 	 */
 	public static IApiComponent newApiComponent(IApiBaseline baseline, String location) throws CoreException {
-		BundleComponent component = new BundleComponent(baseline, location, getBundleID());
+		return newApiComponent(baseline, location, null);
+	}
+
+	/**
+	 * Creates and returns a new API component for this baseline at the
+	 * specified location or <code>null</code> if the location specified does
+	 * not contain a valid API component. The component is not added to the
+	 * baseline.
+	 *
+	 * @param location absolute path in the local file system to the API
+	 *            component
+	 * @param manifest the already known manifest headers of the component or
+	 *            <code>null</code> to read them from the given location
+	 * @return API component or <code>null</code> if the location specified does
+	 *         not contain a valid API component
+	 * @exception CoreException if unable to create the component
+	 */
+	public static IApiComponent newApiComponent(IApiBaseline baseline, String location, Map<String, String> manifest) throws CoreException {
+		BundleComponent component = new BundleComponent(baseline, location, getBundleID(), manifest);
 		if (component.isValidBundle()) {
 			return component;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -158,7 +158,7 @@ public class ApiType extends ApiMember implements IApiType {
 		HashSet<Reference> references = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(this, references, referenceMask);
 		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getContents());
-		reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		reader.accept(extractor, ReferenceExtractor.getParsingOptions(referenceMask));
 		return new LinkedList<>(references);
 	}
 
@@ -521,6 +521,19 @@ public class ApiType extends ApiMember implements IApiType {
 		fMemberTypes.put(simpleName, null);
 	}
 
+	/**
+	 * Returns the simple names of the member types of this type without
+	 * resolving them.
+	 *
+	 * @return the member type simple names, possibly empty
+	 */
+	public String[] getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return new String[0];
+		}
+		return fMemberTypes.keySet().toArray(new String[fMemberTypes.size()]);
+	}
+
 	@Override
 	public IApiType getMemberType(String simpleName) throws CoreException {
 		if (fMemberTypes == null) {
@@ -643,4 +656,41 @@ public class ApiType extends ApiMember implements IApiType {
 		}
 		return fEnclosingTypeName;
 	}
+
+	/**
+	 * Returns a rough estimate of the number of bytes retained by this type
+	 * structure, including its fields, methods and member type names. Used to
+	 * weigh the type in the {@link ApiModelCache}.
+	 *
+	 * @return the estimated retained size in bytes
+	 */
+	int getEstimatedSize() {
+		int size = 160 + estimateSize(getName()) + estimateSize(getSignature()) + estimateSize(getGenericSignature());
+		if (fFields != null) {
+			for (ApiField field : fFields.values()) {
+				size += 96 + estimateSize(field.getName()) + estimateSize(field.getSignature()) + estimateSize(field.getGenericSignature());
+			}
+		}
+		if (fMethods != null) {
+			for (ApiMethod method : fMethods.values()) {
+				// the method key holds the same strings
+				size += 160 + estimateSize(method.getName()) + estimateSize(method.getSignature()) + estimateSize(method.getGenericSignature());
+			}
+		}
+		if (fMemberTypes != null) {
+			for (String name : fMemberTypes.keySet()) {
+				size += 48 + estimateSize(name);
+			}
+		}
+		if (fSuperInterfaceNames != null) {
+			for (String name : fSuperInterfaceNames) {
+				size += estimateSize(name);
+			}
+		}
+		return size;
+	}
+
+	static int estimateSize(String value) {
+		return value == null ? 0 : 40 + value.length();
+	}
 }
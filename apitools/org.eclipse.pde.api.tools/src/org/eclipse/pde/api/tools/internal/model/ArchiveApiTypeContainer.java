@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.net.URI;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -99,9 +100,20 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				MappedArchive mapped = archive.getMappedArchive();
+				if (mapped != null) {
+					// the contents of a type root and the class readers are
+					// arrays, a copy also keeps the mapping from being
+					// referenced by cached type roots
+					fContents = mapped.getBytes(getName());
+					if (fContents == null) {
+						abort("Class file: " + getTypeName() + " not found in archive: " + archive.fLocation, null); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				} else {
+					Path location = archive.getLocation();
+					Path classLocation = location.resolve(getName());
+					fContents = Files.readAllBytes(classLocation);
+				}
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
 			}
@@ -130,6 +142,18 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Whether the archive does not change while it is used and can be memory
+	 * mapped
+	 */
+	private final boolean fImmutable;
+
+	/**
+	 * The archive the class files are read from, or <code>null</code> if they
+	 * are read from a zip file system or the cache is not initialized
+	 */
+	private MappedArchive fMappedArchive;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -138,8 +162,26 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 * @param path   location of the file in the local file system
 	 */
 	public ArchiveApiTypeContainer(IApiElement parent, String path) {
+		this(parent, path, false);
+	}
+
+	/**
+	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
+	 * file at the specified location.
+	 *
+	 * @param parent    the parent {@link IApiElement} or <code>null</code> if
+	 *                  none
+	 * @param path      location of the file in the local file system
+	 * @param immutable whether the archive does not change while it is used,
+	 *                  as the archives of baselines and target platforms. Such
+	 *                  archives are memory mapped, which locks them on some
+	 *                  platforms.
+	 * @since 1.3.400
+	 */
+	public ArchiveApiTypeContainer(IApiElement parent, String path, boolean immutable) {
 		super(parent, IApiElement.API_TYPE_CONTAINER, path);
 		this.fLocation = path;
+		this.fImmutable = immutable;
 	}
 
 	/**
@@ -208,7 +250,24 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		if (fMappedArchive != null) {
+			MappedArchive.release(fMappedArchive);
+			fMappedArchive = null;
+			// the archive is mapped again when it is used after being closed
+			fPackages = null;
+			fPackageNames = null;
+		}
+	}
+
+	/**
+	 * Returns the memory mapped archive the class files are read from
+	 *
+	 * @return the archive or <code>null</code> if the class files are read from
+	 *         a zip file system
+	 */
+	synchronized MappedArchive getMappedArchive() throws CoreException {
+		init();
+		return fMappedArchive;
 	}
 
 	/**
@@ -248,6 +307,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
 			fPackages = new TreeMap<>();
+			if (initMapped()) {
+				return;
+			}
 			try {
 				Path location = getLocation();
 				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
@@ -271,6 +333,34 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		}
 	}
 
+	/**
+	 * Initializes the cache of packages and types from the central directory of
+	 * a memory mapped archive.
+	 *
+	 * @return <code>false</code> if the archive cannot be mapped and must be
+	 *         read through a zip file system
+	 */
+	private boolean initMapped() {
+		if (!fImmutable || fLocation.endsWith("jrt-fs.jar")) { //$NON-NLS-1$
+			return false;
+		}
+		try {
+			MappedArchive archive = MappedArchive.acquire(Path.of(fLocation));
+			for (String name : archive.getClassFileNames()) {
+				String className = name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+				String pkg = Signatures.getPackageName(className);
+				Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
+				fileNames.put(className, name);
+			}
+			fMappedArchive = archive;
+			return true;
+		} catch (IOException | InvalidPathException e) {
+			// not a plain zip archive, fall back to the zip file system
+			fPackages.clear();
+			return false;
+		}
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof ArchiveApiTypeContainer) {
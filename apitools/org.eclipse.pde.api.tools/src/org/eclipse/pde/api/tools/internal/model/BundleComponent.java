@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,7 @@ import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.CompositeApiDescription;
 import org.eclipse.pde.api.tools.internal.FilterStore;
+import org.eclipse.pde.api.tools.internal.FrozenApiDescription;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -165,7 +166,24 @@ public class BundleComponent extends Component {
 	 *                specified location
 	 */
 	public BundleComponent(IApiBaseline baseline, String location, long bundleid) throws CoreException {
+		this(baseline, location, bundleid, null);
+	}
+
+	/**
+	 * Constructs a new API component from the specified location in the file
+	 * system in the given baseline, using the given manifest headers instead of
+	 * reading them from the bundle.
+	 *
+	 * @param baseline owning API baseline
+	 * @param location directory or jar file
+	 * @param manifest the already known manifest headers of the bundle or
+	 *            <code>null</code> to read them from the bundle
+	 * @exception CoreException if unable to create a component from the
+	 *                specified location
+	 */
+	public BundleComponent(IApiBaseline baseline, String location, long bundleid, Map<String, String> manifest) throws CoreException {
 		super(baseline);
+		fManifest = manifest;
 		fLocation = location;
 		fBundleId = bundleid;
 		fWorkspaceBinary = isBinary() && ApiBaselineManager.WORKSPACE_API_BASELINE_ID.equals(baseline.getName())
@@ -412,7 +430,7 @@ public class BundleComponent extends Component {
 	 * @throws CoreException if unable to initialize
 	 */
 	protected IApiDescription createLocalApiDescription() throws CoreException {
-		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
+		ApiDescription apiDesc = new ApiDescription(getSymbolicName());
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
@@ -424,7 +442,8 @@ public class BundleComponent extends Component {
 		} catch (IOException e) {
 			abort("Unable to load .api_description file ", e); //$NON-NLS-1$
 		}
-		return apiDesc;
+		// the description of a bundle on disk does not change any more
+		return new FrozenApiDescription(apiDesc);
 	}
 
 	/**
@@ -652,7 +671,7 @@ public class BundleComponent extends Component {
 				File entry = new File(bundle, path);
 				if (entry.exists()) {
 					if (entry.isFile()) {
-						return new ArchiveApiTypeContainer(this, entry.getCanonicalPath());
+						return new ArchiveApiTypeContainer(this, entry.getCanonicalPath(), true);
 					} else {
 						return new DirectoryApiTypeContainer(this, entry.getCanonicalPath());
 					}
@@ -660,7 +679,7 @@ public class BundleComponent extends Component {
 			} else {
 				// bundle is jar'd
 				if (path.equals(".")) { //$NON-NLS-1$
-					return new ArchiveApiTypeContainer(this, fLocation);
+					return new ArchiveApiTypeContainer(this, fLocation, true);
 				} else {
 					// classpath element can be jar or folder
 					// https://bugs.eclipse.org/bugs/show_bug.cgi?id=279729
@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * An {@link ApiType} whose fields and methods are built from the class file
+ * when they are first asked for.
+ * <p>
+ * When the type structure is built only the names of the fields and the names
+ * and descriptors of the methods are read from the class file, together with
+ * the offsets of their entries. Looking up a member builds that member only,
+ * asking for all fields or methods builds the remaining ones in class file
+ * order. The class file is released once all members have been built.
+ * </p>
+ * <p>
+ * Annotation types and the types of <code>java.lang.invoke</code> are built
+ * eagerly by the {@link TypeStructureBuilder}, since their methods need the
+ * annotations of the class file.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+final class LazyApiType extends ApiType {
+
+	private static final String SIGNATURE = "Signature"; //$NON-NLS-1$
+	private static final String EXCEPTIONS = "Exceptions"; //$NON-NLS-1$
+	private static final String CONSTANT_VALUE = "ConstantValue"; //$NON-NLS-1$
+	private static final String DEPRECATED = "Deprecated"; //$NON-NLS-1$
+	private static final String SYNTHETIC = "Synthetic"; //$NON-NLS-1$
+
+	/**
+	 * Offsets and names of the members in a class file, the offset of the
+	 * attributes of the class and the length of the class file
+	 */
+	record MemberIndex(int[] fieldOffsets, String[] fieldNames, int[] methodOffsets, String[] methodNames,
+			String[] methodDescriptors, int attributesOffset, int length) {
+	}
+
+	/**
+	 * The class file, <code>null</code> once all members are built
+	 */
+	private ClassReader fReader;
+
+	private final MemberIndex fIndex;
+
+	private final ApiField[] fFieldCache;
+
+	private final ApiMethod[] fMethodCache;
+
+	private int fUnbuiltMembers;
+
+	LazyApiType(IApiElement parent, String name, String signature, String genericSig, int flags, String enclosingName, IApiTypeRoot storage, ClassReader reader, MemberIndex index) {
+		super(parent, name, signature, genericSig, flags, enclosingName, storage);
+		fReader = reader;
+		fIndex = index;
+		fFieldCache = new ApiField[index.fieldNames().length];
+		fMethodCache = new ApiMethod[index.methodNames().length];
+		fUnbuiltMembers = fFieldCache.length + fMethodCache.length;
+		if (fUnbuiltMembers == 0) {
+			fReader = null;
+		}
+	}
+
+	/**
+	 * Returns whether the members of the given class can be built on demand
+	 */
+	static boolean isSupported(ClassReader reader) {
+		return (reader.getAccess() & Opcodes.ACC_ANNOTATION) == 0 && !reader.getClassName().startsWith("java/lang/invoke/"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Reads the names of the members of the given class file
+	 *
+	 * @throws ArrayIndexOutOfBoundsException if the class file is truncated
+	 */
+	static MemberIndex index(ClassReader reader, int length) {
+		char[] buffer = new char[reader.getMaxStringLength()];
+		int current = reader.header + 6;
+		current += 2 + 2 * reader.readUnsignedShort(current);
+		int count = reader.readUnsignedShort(current);
+		current += 2;
+		int[] fieldOffsets = new int[count];
+		String[] fieldNames = new String[count];
+		for (int i = 0; i < count; i++) {
+			fieldOffsets[i] = current;
+			fieldNames[i] = reader.readUTF8(current + 2, buffer);
+			current = skipAttributes(reader, current + 6);
+		}
+		count = reader.readUnsignedShort(current);
+		current += 2;
+		int[] methodOffsets = new int[count];
+		String[] methodNames = new String[count];
+		String[] methodDescriptors = new String[count];
+		for (int i = 0; i < count; i++) {
+			methodOffsets[i] = current;
+			methodNames[i] = reader.readUTF8(current + 2, buffer);
+			methodDescriptors[i] = reader.readUTF8(current + 4, buffer);
+			current = skipAttributes(reader, current + 6);
+		}
+		return new MemberIndex(fieldOffsets, fieldNames, methodOffsets, methodNames, methodDescriptors, current, length);
+	}
+
+	/**
+	 * Returns the offset after the attributes starting at the given offset
+	 */
+	private static int skipAttributes(ClassReader reader, int offset) {
+		int count = reader.readUnsignedShort(offset);
+		int current = offset + 2;
+		for (int i = 0; i < count; i++) {
+			current += 6 + reader.readInt(current + 2);
+		}
+		return current;
+	}
+
+	@Override
+	public synchronized IApiField getField(String name) {
+		String[] names = fIndex.fieldNames();
+		// the last field of a name wins, as when the fields are added
+		for (int i = names.length - 1; i >= 0; i--) {
+			if (names[i].equals(name)) {
+				return getField(i);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized IApiField[] getFields() {
+		IApiField[] fields = new IApiField[fFieldCache.length];
+		for (int i = 0; i < fields.length; i++) {
+			fields[i] = getField(i);
+		}
+		return fields;
+	}
+
+	@Override
+	public synchronized IApiMethod getMethod(String name, String signature) {
+		String[] names = fIndex.methodNames();
+		String[] descriptors = fIndex.methodDescriptors();
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name) && descriptors[i].equals(signature)) {
+				return getMethod(i);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized IApiMethod[] getMethods() {
+		IApiMethod[] methods = new IApiMethod[fMethodCache.length];
+		for (int i = 0; i < methods.length; i++) {
+			methods[i] = getMethod(i);
+		}
+		return methods;
+	}
+
+	private ApiField getField(int index) {
+		ApiField field = fFieldCache[index];
+		if (field == null) {
+			char[] buffer = new char[fReader.getMaxStringLength()];
+			int offset = fIndex.fieldOffsets()[index];
+			int access = fReader.readUnsignedShort(offset);
+			String genericSig = null;
+			Object value = null;
+			int current = offset + 6;
+			int count = fReader.readUnsignedShort(current);
+			current += 2;
+			for (int i = 0; i < count; i++) {
+				String attribute = fReader.readUTF8(current, buffer);
+				int length = fReader.readInt(current + 2);
+				current += 6;
+				switch (attribute) {
+					case SIGNATURE -> genericSig = fReader.readUTF8(current, buffer);
+					case CONSTANT_VALUE -> value = fReader.readConst(fReader.readUnsignedShort(current), buffer);
+					case DEPRECATED -> access |= Opcodes.ACC_DEPRECATED;
+					case SYNTHETIC -> access |= Opcodes.ACC_SYNTHETIC;
+					default -> { /**/ }
+				}
+				current += length;
+			}
+			field = new ApiField(this, fIndex.fieldNames()[index], fReader.readUTF8(offset + 4, buffer), genericSig, TypeStructureBuilder.getModifiers(access), value);
+			fFieldCache[index] = field;
+			built();
+		}
+		return field;
+	}
+
+	private ApiMethod getMethod(int index) {
+		ApiMethod method = fMethodCache[index];
+		if (method == null) {
+			char[] buffer = new char[fReader.getMaxStringLength()];
+			int offset = fIndex.methodOffsets()[index];
+			int access = fReader.readUnsignedShort(offset);
+			String genericSig = null;
+			String[] exceptions = null;
+			int current = offset + 6;
+			int count = fReader.readUnsignedShort(current);
+			current += 2;
+			for (int i = 0; i < count; i++) {
+				String attribute = fReader.readUTF8(current, buffer);
+				int length = fReader.readInt(current + 2);
+				current += 6;
+				switch (attribute) {
+					case SIGNATURE -> genericSig = fReader.readUTF8(current, buffer);
+					case EXCEPTIONS -> {
+						int size = fReader.readUnsignedShort(current);
+						if (size > 0) {
+							exceptions = new String[size];
+							for (int j = 0; j < size; j++) {
+								exceptions[j] = fReader.readClass(current + 2 + 2 * j, buffer).replace('/', '.');
+							}
+						}
+					}
+					case DEPRECATED -> access |= Opcodes.ACC_DEPRECATED;
+					case SYNTHETIC -> access |= Opcodes.ACC_SYNTHETIC;
+					default -> { /**/ }
+				}
+				current += length;
+			}
+			method = new ApiMethod(this, fIndex.methodNames()[index], fIndex.methodDescriptors()[index], genericSig, TypeStructureBuilder.getModifiers(access), exceptions);
+			fMethodCache[index] = method;
+			built();
+		}
+		return method;
+	}
+
+	/**
+	 * Releases the class file once the last member is built
+	 */
+	private void built() {
+		if (--fUnbuiltMembers == 0) {
+			fReader = null;
+		}
+	}
+
+	@Override
+	synchronized int getEstimatedSize() {
+		int size = super.getEstimatedSize() + 64;
+		for (String name : fIndex.fieldNames()) {
+			size += 8 + estimateSize(name);
+		}
+		for (int i = 0; i < fMethodCache.length; i++) {
+			size += 8 + estimateSize(fIndex.methodNames()[i]) + estimateSize(fIndex.methodDescriptors()[i]);
+		}
+		if (fReader != null) {
+			size += fIndex.length();
+		}
+		for (ApiField field : fFieldCache) {
+			if (field != null) {
+				size += 96 + estimateSize(field.getGenericSignature());
+			}
+		}
+		for (ApiMethod method : fMethodCache) {
+			if (method != null) {
+				size += 128 + estimateSize(method.getGenericSignature());
+			}
+		}
+		return size;
+	}
+}
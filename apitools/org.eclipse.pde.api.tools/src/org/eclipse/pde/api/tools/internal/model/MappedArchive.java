@@ -0,0 +1,358 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * A read-only, memory-mapped view of the class files of a jar or zip archive.
+ * <p>
+ * The central directory of the archive is read once into sorted arrays, class
+ * file contents are then served as slices of the mapping. Only stored and
+ * deflated entries are supported, archives using other features (ZIP64,
+ * encryption, multi disk archives) are rejected with a {@link ZipException} so
+ * callers can fall back to a regular zip file system.
+ * </p>
+ * <p>
+ * Open mappings are shared through a pool, see {@link #acquire(Path)}. Archives
+ * are expected not to change while they are in use, only immutable archives
+ * of baselines and target platforms should be mapped.
+ * </p>
+ * <p>
+ * Java cannot unmap a file explicitly: a mapping, and the file it keeps open,
+ * is only released once it has been garbage collected after its archive left
+ * the pool and its last slice is no longer referenced. Until then the archive
+ * cannot be deleted or replaced on Windows.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+final class MappedArchive {
+
+	/**
+	 * Maximum number of archives no longer in use kept mapped for reuse
+	 */
+	private static final int MAX_OPEN_ARCHIVES = Integer.getInteger("org.eclipse.pde.api.tools.maxMappedArchives", 256); //$NON-NLS-1$
+
+	private static final int END_HEADER_SIGNATURE = 0x06054b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int END_HEADER_SIZE = 22;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	/**
+	 * Pool of open archives in least recently used order, guarded by itself
+	 */
+	private static final Map<Path, MappedArchive> POOL = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Number of archives of the pool that are not in use
+	 */
+	private static int fIdleArchives;
+
+	/**
+	 * Class file entry read from the central directory
+	 */
+	private record CentralEntry(String name, int offset, int compressedSize, int size, byte method) {
+	}
+
+	private final Path fPath;
+	private final ByteBuffer fBuffer;
+	private final long fSize;
+	private final long fLastModified;
+
+	/**
+	 * Sorted names of the class file entries
+	 */
+	private final String[] fNames;
+	private final int[] fLocalHeaderOffsets;
+	private final int[] fCompressedSizes;
+	private final int[] fSizes;
+	private final byte[] fMethods;
+
+	/**
+	 * Number of users that acquired this archive and did not release it yet,
+	 * guarded by the {@link #POOL}
+	 */
+	private int fUsers;
+
+	private MappedArchive(Path path, ByteBuffer buffer, long size, long lastModified, String[] names, int[] offsets, int[] compressedSizes, int[] sizes, byte[] methods) {
+		fPath = path;
+		fBuffer = buffer;
+		fSize = size;
+		fLastModified = lastModified;
+		fNames = names;
+		fLocalHeaderOffsets = offsets;
+		fCompressedSizes = compressedSizes;
+		fSizes = sizes;
+		fMethods = methods;
+	}
+
+	/**
+	 * Returns the mapped archive for the given file from the shared pool,
+	 * mapping it if it is not open yet or if it changed on disk since it was
+	 * mapped. Every call must be paired with a call to
+	 * {@link #release(MappedArchive)} once the archive is no longer used.
+	 *
+	 * @param path the archive file
+	 * @return the mapped archive, never <code>null</code>
+	 * @throws ZipException if the archive cannot be handled by this class
+	 * @throws IOException if the archive cannot be read
+	 */
+	static MappedArchive acquire(Path path) throws IOException {
+		long size = Files.size(path);
+		long lastModified = Files.getLastModifiedTime(path).toMillis();
+		synchronized (POOL) {
+			MappedArchive archive = POOL.get(path);
+			if (archive != null && archive.fSize == size && archive.fLastModified == lastModified) {
+				if (archive.fUsers++ == 0) {
+					fIdleArchives--;
+				}
+				return archive;
+			}
+		}
+		MappedArchive archive = open(path, size, lastModified);
+		synchronized (POOL) {
+			archive.fUsers = 1;
+			MappedArchive previous = POOL.put(path, archive);
+			if (previous != null && previous.fUsers == 0) {
+				// the users of a changed archive keep their mapping
+				fIdleArchives--;
+			}
+		}
+		return archive;
+	}
+
+	/**
+	 * Releases an archive returned by {@link #acquire(Path)}. The archive stays
+	 * in the pool for reuse until too many archives are no longer in use. An
+	 * archive removed from the pool is not unmapped, its mapping is only
+	 * released by the garbage collector.
+	 *
+	 * @param archive the archive no longer used by the caller
+	 */
+	static void release(MappedArchive archive) {
+		synchronized (POOL) {
+			if (archive.fUsers <= 0 || --archive.fUsers > 0) {
+				return;
+			}
+			if (POOL.get(archive.fPath) != archive) {
+				// replaced by a newer mapping of the same file
+				return;
+			}
+			fIdleArchives++;
+			Iterator<MappedArchive> iterator = POOL.values().iterator();
+			while (fIdleArchives > MAX_OPEN_ARCHIVES && iterator.hasNext()) {
+				// evict the least recently used archives not in use
+				if (iterator.next().fUsers == 0) {
+					iterator.remove();
+					fIdleArchives--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the sorted names of all class file entries of this archive
+	 *
+	 * @return the class file entry names, must not be modified
+	 */
+	String[] getClassFileNames() {
+		return fNames;
+	}
+
+	/**
+	 * Returns the contents of the given class file entry. Stored entries are
+	 * returned as a read-only slice of the mapping, deflated entries are
+	 * inflated into a new buffer.
+	 *
+	 * @param name the entry name
+	 * @return the contents or <code>null</code> if there is no such class file
+	 *         entry
+	 * @throws IOException if the entry cannot be read
+	 */
+	ByteBuffer getContents(String name) throws IOException {
+		int index = Arrays.binarySearch(fNames, name);
+		if (index < 0) {
+			return null;
+		}
+		int offset = fLocalHeaderOffsets[index];
+		if (fBuffer.getInt(offset) != LOCAL_HEADER_SIGNATURE) {
+			throw new ZipException("Invalid local header for " + name); //$NON-NLS-1$
+		}
+		int dataOffset = offset + LOCAL_HEADER_SIZE + Short.toUnsignedInt(fBuffer.getShort(offset + 26)) + Short.toUnsignedInt(fBuffer.getShort(offset + 28));
+		ByteBuffer data = fBuffer.slice(dataOffset, fCompressedSizes[index]);
+		if (fMethods[index] == STORED) {
+			return data.asReadOnlyBuffer();
+		}
+		return ByteBuffer.wrap(inflate(data, fSizes[index], name));
+	}
+
+	/**
+	 * Returns the contents of the given class file entry as a new array
+	 *
+	 * @param name the entry name
+	 * @return the contents or <code>null</code> if there is no such class file
+	 *         entry
+	 * @throws IOException if the entry cannot be read
+	 */
+	byte[] getBytes(String name) throws IOException {
+		ByteBuffer contents = getContents(name);
+		if (contents == null) {
+			return null;
+		}
+		if (contents.hasArray()) {
+			return contents.array();
+		}
+		byte[] bytes = new byte[contents.remaining()];
+		contents.get(bytes);
+		return bytes;
+	}
+
+	private static byte[] inflate(ByteBuffer data, int size, String name) throws IOException {
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(data);
+			byte[] bytes = new byte[size];
+			int read = 0;
+			boolean padded = false;
+			while (read < size) {
+				int count = inflater.inflate(bytes, read, size - read);
+				if (count == 0) {
+					if (inflater.finished() || inflater.needsDictionary() || (inflater.needsInput() && padded)) {
+						break;
+					}
+					if (inflater.needsInput()) {
+						// raw inflation may need an extra dummy byte
+						inflater.setInput(new byte[1]);
+						padded = true;
+					}
+				}
+				read += count;
+			}
+			if (read != size) {
+				throw new ZipException("Invalid entry size for " + name); //$NON-NLS-1$
+			}
+			return bytes;
+		} catch (DataFormatException e) {
+			throw new ZipException("Invalid deflated entry " + name + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Maps the given archive and indexes its central directory
+	 */
+	private static MappedArchive open(Path path, long size, long lastModified) throws IOException {
+		if (size > Integer.MAX_VALUE || size < END_HEADER_SIZE) {
+			throw new ZipException("Unsupported archive size: " + path); //$NON-NLS-1$
+		}
+		MappedByteBuffer mapping;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		ByteBuffer buffer = mapping.order(ByteOrder.LITTLE_ENDIAN);
+		int end = findEndHeader(buffer);
+		if (end < 0) {
+			throw new ZipException("No end of central directory found: " + path); //$NON-NLS-1$
+		}
+		int total = Short.toUnsignedInt(buffer.getShort(end + 10));
+		long cdOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+		if (buffer.getShort(end + 4) != 0 || total == 0xFFFF || cdOffset == 0xFFFFFFFFL) {
+			// multi disk or ZIP64 archive
+			throw new ZipException("Unsupported archive format: " + path); //$NON-NLS-1$
+		}
+		List<CentralEntry> entries = new ArrayList<>(total);
+		int position = (int) cdOffset;
+		for (int i = 0; i < total; i++) {
+			if (position + CENTRAL_HEADER_SIZE > end || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid central directory: " + path); //$NON-NLS-1$
+			}
+			int flags = Short.toUnsignedInt(buffer.getShort(position + 8));
+			int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+			long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+			long entrySize = Integer.toUnsignedLong(buffer.getInt(position + 24));
+			int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+			int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+			int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+			long offset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+			byte[] nameBytes = new byte[nameLength];
+			buffer.get(position + CENTRAL_HEADER_SIZE, nameBytes);
+			String name = new String(nameBytes, StandardCharsets.UTF_8);
+			if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+				if ((flags & 1) != 0 || (method != STORED && method != DEFLATED) || compressedSize >= size || offset >= size) {
+					// encrypted, unknown compression or ZIP64 entry
+					throw new ZipException("Unsupported entry " + name + " in " + path); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				entries.add(new CentralEntry(name, (int) offset, (int) compressedSize, (int) entrySize, (byte) method));
+			}
+			position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+		entries.sort(Comparator.comparing(CentralEntry::name));
+		int count = entries.size();
+		String[] names = new String[count];
+		int[] offsets = new int[count];
+		int[] compressedSizes = new int[count];
+		int[] sizes = new int[count];
+		byte[] methods = new byte[count];
+		for (int i = 0; i < count; i++) {
+			CentralEntry entry = entries.get(i);
+			names[i] = entry.name();
+			offsets[i] = entry.offset();
+			compressedSizes[i] = entry.compressedSize();
+			sizes[i] = entry.size();
+			methods[i] = entry.method();
+		}
+		return new MappedArchive(path, buffer, size, lastModified, names, offsets, compressedSizes, sizes, methods);
+	}
+
+	/**
+	 * Searches the end of central directory record, which is followed by an
+	 * archive comment of at most 64k
+	 */
+	private static int findEndHeader(ByteBuffer buffer) {
+		int limit = buffer.limit();
+		int lowest = Math.max(0, limit - END_HEADER_SIZE - 0xFFFF);
+		for (int position = limit - END_HEADER_SIZE; position >= lowest; position--) {
+			if (buffer.getInt(position) == END_HEADER_SIGNATURE && position + END_HEADER_SIZE + Short.toUnsignedInt(buffer.getShort(position + 20)) == limit) {
+				return position;
+			}
+		}
+		return -1;
+	}
+}
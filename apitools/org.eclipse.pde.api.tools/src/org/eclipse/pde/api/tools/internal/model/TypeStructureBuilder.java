@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.model.LazyApiType.MemberIndex;
 import org.eclipse.pde.api.tools.internal.model.StubArchiveApiTypeContainer.ArchiveApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -42,10 +43,24 @@ import org.objectweb.asm.tree.ClassNode;
  * Class adapter used to create an API type structure
  */
 public class TypeStructureBuilder extends ClassVisitor {
+
+	/**
+	 * Whether the fields and methods of type structures are built when the
+	 * class file is read instead of when they are first asked for
+	 */
+	private static final boolean EAGER_MEMBERS = Boolean.getBoolean("org.eclipse.pde.api.tools.eagerTypeStructures"); //$NON-NLS-1$
+
 	ApiType fType;
 	IApiComponent fComponent;
 	IApiTypeRoot fFile;
 
+	/**
+	 * The class file and the index of its members when the members are built
+	 * on demand, <code>null</code> otherwise
+	 */
+	ClassReader fReader;
+	MemberIndex fIndex;
+
 	/**
 	 * Builds a type structure for a class file. Note that if an API component
 	 * is not specified, then some operations on the resulting {@link IApiType}
@@ -72,14 +87,14 @@ public class TypeStructureBuilder extends ClassVisitor {
 		if (index > -1) {
 			enclosingName = name.substring(0, index).replace('/', '.');
 		}
-		int laccess = access;
+		int laccess = getModifiers(access);
 		// TODO: inner types should be have enclosing type as parent instead of
 		// component
-		if ((laccess & Opcodes.ACC_DEPRECATED) != 0) {
-			laccess &= ~Opcodes.ACC_DEPRECATED;
-			laccess |= Flags.AccDeprecated;
+		if (fIndex != null) {
+			fType = new LazyApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile, fReader, fIndex);
+		} else {
+			fType = new ApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile);
 		}
-		fType = new ApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile);
 		if (superName != null) {
 			fType.setSuperclassName(superName.replace('/', '.'));
 		}
@@ -129,23 +144,14 @@ public class TypeStructureBuilder extends ClassVisitor {
 
 	@Override
 	public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
-		int laccess = access;
-		if ((access & Opcodes.ACC_DEPRECATED) != 0) {
-			laccess &= ~Opcodes.ACC_DEPRECATED;
-			laccess |= Flags.AccDeprecated;
-		}
-		fType.addField(name, desc, signature, laccess, value);
+		fType.addField(name, desc, signature, getModifiers(access), value);
 		return null;
 	}
 
 	@Override
 	public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
 		String[] names = null;
-		int laccess = access;
-		if ((laccess & Opcodes.ACC_DEPRECATED) != 0) {
-			laccess &= ~Opcodes.ACC_DEPRECATED;
-			laccess |= Flags.AccDeprecated;
-		}
+		int laccess = getModifiers(access);
 		if (exceptions != null && exceptions.length > 0) {
 			names = new String[exceptions.length];
 			for (int i = 0; i < names.length; i++) {
@@ -170,6 +176,22 @@ public class TypeStructureBuilder extends ClassVisitor {
 		};
 	}
 
+	/**
+	 * Returns the modifiers of an {@link ApiType} or one of its members for the
+	 * given access flags read by ASM
+	 *
+	 * @param access the ASM access flags
+	 * @return the modifiers with the deprecated flag of JDT
+	 */
+	static int getModifiers(int access) {
+		int laccess = access;
+		if ((laccess & Opcodes.ACC_DEPRECATED) != 0) {
+			laccess &= ~Opcodes.ACC_DEPRECATED;
+			laccess |= Flags.AccDeprecated;
+		}
+		return laccess;
+	}
+
 	private static IApiType logAndReturn(IApiTypeRoot file, Exception e) {
 		if (ApiPlugin.DEBUG_BUILDER) {
 			ApiPlugin.log(Status.error(NLS.bind(Messages.TypeStructureBuilder_badClassFileEncountered, file.getTypeName()), e));
@@ -255,10 +277,34 @@ public class TypeStructureBuilder extends ClassVisitor {
 	 * @param file associated class file
 	 */
 	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file) {
-		TypeStructureBuilder visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+		return buildTypeStructure(bytes, component, file, EAGER_MEMBERS);
+	}
+
+	/**
+	 * Builds a type structure with the given .class file bytes in the specified
+	 * API component.
+	 *
+	 * @param bytes class file bytes
+	 * @param component originating API component
+	 * @param file associated class file
+	 * @param eagerMembers whether the fields and methods are built by ASM when
+	 *            the class file is read instead of when they are first asked
+	 *            for
+	 * @since 1.3.400
+	 */
+	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file, boolean eagerMembers) {
+		TypeStructureBuilder visitor;
 		try {
 			ClassReader classReader = new ClassReader(bytes);
-			classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+			if (!eagerMembers && LazyApiType.isSupported(classReader)) {
+				visitor = new TypeStructureBuilder(null, component, file);
+				visitor.fReader = classReader;
+				visitor.fIndex = LazyApiType.index(classReader, bytes.length);
+				visitor.visitClass();
+			} else {
+				visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+				classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+			}
 		} catch (ArrayIndexOutOfBoundsException e) {
 			logAndReturn(file, e);
 			return null;
@@ -269,6 +315,57 @@ public class TypeStructureBuilder extends ClassVisitor {
 		return visitor.fType;
 	}
 
+	/**
+	 * Visits the class attributes of the class file of this builder the way
+	 * {@link ClassReader#accept(ClassVisitor, int)} does, without visiting its
+	 * fields and methods
+	 */
+	private void visitClass() {
+		char[] buffer = new char[fReader.getMaxStringLength()];
+		int access = fReader.getAccess();
+		String signature = null;
+		int enclosingMethodOffset = 0;
+		int innerClassesOffset = 0;
+		int current = fIndex.attributesOffset();
+		int count = fReader.readUnsignedShort(current);
+		current += 2;
+		for (int i = 0; i < count; i++) {
+			String attribute = fReader.readUTF8(current, buffer);
+			int length = fReader.readInt(current + 2);
+			current += 6;
+			switch (attribute) {
+				case "Signature" -> signature = fReader.readUTF8(current, buffer); //$NON-NLS-1$
+				case "Deprecated" -> access |= Opcodes.ACC_DEPRECATED; //$NON-NLS-1$
+				case "Synthetic" -> access |= Opcodes.ACC_SYNTHETIC; //$NON-NLS-1$
+				case "Record" -> access |= Opcodes.ACC_RECORD; //$NON-NLS-1$
+				case "EnclosingMethod" -> enclosingMethodOffset = current; //$NON-NLS-1$
+				case "InnerClasses" -> innerClassesOffset = current; //$NON-NLS-1$
+				default -> { /**/ }
+			}
+			current += length;
+		}
+		visit(fReader.readInt(4), access, fReader.getClassName(), signature, fReader.getSuperName(), fReader.getInterfaces());
+		if (enclosingMethodOffset != 0) {
+			String name = null;
+			String desc = null;
+			int methodIndex = fReader.readUnsignedShort(enclosingMethodOffset + 2);
+			if (methodIndex != 0) {
+				int item = fReader.getItem(methodIndex);
+				name = fReader.readUTF8(item, buffer);
+				desc = fReader.readUTF8(item + 2, buffer);
+			}
+			visitOuterClass(fReader.readClass(enclosingMethodOffset, buffer), name, desc);
+		}
+		if (innerClassesOffset != 0) {
+			count = fReader.readUnsignedShort(innerClassesOffset);
+			current = innerClassesOffset + 2;
+			for (int i = 0; i < count; i++) {
+				visitInnerClass(fReader.readClass(current, buffer), fReader.readClass(current + 2, buffer), fReader.readUTF8(current + 4, buffer), fReader.readUnsignedShort(current + 6));
+				current += 8;
+			}
+		}
+	}
+
 	/**
 	 * Builds a type structure with the given .class file bytes in the specified
 	 * API component.
@@ -13,12 +13,20 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -33,6 +41,7 @@ import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiScope;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
@@ -99,6 +108,36 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 * <p>
+	 * When <code>parallelism</code> is greater than one, the API components of
+	 * the reference baseline are compared concurrently using at most
+	 * <code>parallelism</code> threads. The per-component deltas are merged in
+	 * the order of the reference baseline components, so the resulting delta is
+	 * the same as the one returned by a serial comparison.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the maximum number of API components compared at the
+	 *            same time, values lower than 2 mean a serial comparison
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -108,39 +147,39 @@ public class ApiComparator {
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
-						}
-					}
+		IDelta[][] componentDeltas;
+		if (parallelism > 1 && apiComponents.length > 1) {
+			componentDeltas = new IDelta[apiComponents.length][];
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				List<ForkJoinTask<IDelta[]>> tasks = new ArrayList<>(apiComponents.length);
+				for (IApiComponent apiComponent : apiComponents) {
+					tasks.add(pool.submit(() -> compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, null)));
+				}
+				for (int i = 0; i < apiComponents.length; i++) {
+					apiLoopMonitor.split(1);
+					componentDeltas[i] = tasks.get(i).join();
 				}
+			} finally {
+				pool.shutdownNow();
+			}
+		} else {
+			componentDeltas = new IDelta[apiComponents.length][];
+			for (int i = 0; i < apiComponents.length; i++) {
+				apiLoopMonitor.split(1);
+				componentDeltas[i] = compareComponent(apiComponents[i], referenceBaseline, baseline, visibilityModifiers, force, localmonitor);
+			}
+		}
+		// merge the component deltas in the reference baseline order
+		for (int i = 0; i < apiComponents.length; i++) {
+			IApiComponent apiComponent = apiComponents[i];
+			if (apiComponent.isSystemComponent()) {
+				continue;
+			}
+			if (baseline.getApiComponent(apiComponent.getSymbolicName()) != null) {
+				apiComponentsIds.add(apiComponent.getSymbolicName());
+			}
+			for (IDelta delta : componentDeltas[i]) {
 				if (delta != null && delta != NO_DELTA) {
 					globalDelta.add(delta);
 				}
@@ -162,6 +201,44 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares the given API component of the reference baseline with its
+	 * counterpart in the given baseline.
+	 *
+	 * @return the bundle version delta and the component delta, in that order.
+	 *         Both entries can be <code>null</code>
+	 */
+	private static IDelta[] compareComponent(final IApiComponent apiComponent, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final SubMonitor monitor) {
+		IDelta[] result = new IDelta[2];
+		if (apiComponent.isSystemComponent()) {
+			return result;
+		}
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			result[1] = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT, null,
+					id, id);
+			return result;
+		}
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		result[0] = checkBundleVersionChanges(apiComponentBaseline, id, versionString, versionString2);
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				result[1] = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
+						visibilityModifiers, monitor == null ? null : monitor.split(1));
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -529,19 +606,62 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * baselines. Nested API components with the same versions are not compared.
+	 * <p>
+	 * When <code>parallelism</code> is greater than one, the elements of the
+	 * scope (or the API components of a baseline if the scope only contains a
+	 * baseline) are compared concurrently using at most
+	 * <code>parallelism</code> threads. The resulting delta is the same as the
+	 * one returned by a serial comparison.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the maximum number of elements compared at the same
+	 *            time, values lower than 2 mean a serial comparison
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
 		}
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
-		final Set<IDelta> deltas = new HashSet<>();
-		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
+		// keep the deltas in the order of the elements, whether they are
+		// compared serially or in parallel
+		final Set<IDelta> deltas = new LinkedHashSet<>();
+		IApiElement[] elements = scope.getApiElements();
+		boolean containsError;
+		if (parallelism > 1 && elements.length > 1) {
+			containsError = compareInParallel(elements, deltas, baseline, visibilityModifiers, force, continueOnResolverError, parallelism, localmonitor.split(1));
+		} else {
+			final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
+					continueOnResolverError, parallelism, localmonitor.split(1));
+			scope.accept(visitor);
+			containsError = visitor.containsError();
+		}
 
 		// If set to continue on error, return whatever deltas were
 		// collected
-		if (!continueOnResolverError && visitor.containsError()) {
+		if (!continueOnResolverError && containsError) {
 			return null;
 		}
 		if (deltas.isEmpty()) {
@@ -578,6 +698,48 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares each of the given scope elements on its own on a pool of
+	 * <code>parallelism</code> threads. The collected deltas are added to the
+	 * given set in the order of the elements.
+	 *
+	 * @return <code>true</code> if any of the compared elements contains errors
+	 */
+	private static boolean compareInParallel(final IApiElement[] elements, final Set<IDelta> deltas, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final SubMonitor monitor) throws CoreException {
+		SubMonitor loopMonitor = monitor.setWorkRemaining(elements.length);
+		boolean containsError = false;
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<CompareApiScopeVisitor>> tasks = new ArrayList<>(elements.length);
+			for (IApiElement element : elements) {
+				tasks.add(pool.submit(() -> {
+					ApiScope elementScope = new ApiScope();
+					elementScope.addElement(element);
+					CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(new LinkedHashSet<>(), baseline, force, visibilityModifiers, continueOnResolverError, SubMonitor.convert(null));
+					elementScope.accept(visitor);
+					return visitor;
+				}));
+			}
+			for (ForkJoinTask<CompareApiScopeVisitor> task : tasks) {
+				loopMonitor.split(1);
+				CompareApiScopeVisitor visitor = task.get();
+				deltas.addAll(visitor.deltas);
+				containsError |= visitor.containsError();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CoreException coreException) {
+				throw coreException;
+			}
+			throw new CoreException(Status.error(e.getCause().getMessage(), e.getCause()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			pool.shutdownNow();
+		}
+		return containsError;
+	}
+
 	/**
 	 * Returns true, if the given type descriptor should be skipped, false
 	 * otherwise.
@@ -39,21 +39,33 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean force;
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
+	int parallelism = 1;
 	SubMonitor monitor;
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Creates a new visitor
+	 *
+	 * @param parallelism the maximum number of API components of a visited
+	 *            baseline that are compared at the same time
+	 */
+	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final int parallelism, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
+		this.parallelism = parallelism;
 		this.monitor = monitor;
 	}
 
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.parallelism, null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,13 +16,23 @@ package org.eclipse.pde.api.tools.internal.provisional.search;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -62,6 +72,7 @@ public final class ApiSearchEngine {
 		private IApiSearchReporter reporter = null;
 		IApiElement element = null;
 		private SubMonitor monitor = null;
+		private boolean accepted = false;
 
 		/**
 		 * Constructor
@@ -104,7 +115,15 @@ public final class ApiSearchEngine {
 
 		@Override
 		public boolean visit(IApiComponent component) {
-			return requestor.acceptComponent(component);
+			accepted = requestor.acceptComponent(component);
+			return accepted;
+		}
+
+		@Override
+		public void end(IApiComponent component) {
+			if (accepted) {
+				requestor.endComponent(component);
+			}
 		}
 
 		@Override
@@ -118,6 +137,330 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Searches the elements of a scope with a pipeline of three stages:
+	 * <ol>
+	 * <li>a pool of threads visiting the elements, parsing their class files
+	 * and extracting references,</li>
+	 * <li>a pool of threads resolving the extracted references and passing
+	 * them to the requestor,</li>
+	 * <li>the calling thread, which is the only one using the reporter and the
+	 * progress monitor. Accepted references are reported in batches of up to
+	 * {@link ReferenceExtractor#COLLECTOR_MAX} references per element.</li>
+	 * </ol>
+	 * The stages are connected by bounded queues, a stage blocks when the next
+	 * one falls behind.
+	 */
+	final class SearchPipeline {
+
+		/**
+		 * Number of batches that may wait for the next stage before the
+		 * producing threads block
+		 */
+		static final int CAPACITY = 256;
+
+		/**
+		 * The references extracted from one type
+		 */
+		record TypeReferences(ElementState element, IApiType type, List<IReference> references) {
+		}
+
+		/**
+		 * Accepted references of an element, or the end of an element if
+		 * <code>references</code> is <code>null</code>
+		 */
+		record Report(ElementState element, IReference[] references) {
+		}
+
+		/**
+		 * The search state of one element of the scope
+		 */
+		static final class ElementState {
+			final IApiElement element;
+			/**
+			 * Number of unfinished tasks of the element, the extraction of its
+			 * references counts as one
+			 */
+			final AtomicInteger pending = new AtomicInteger(1);
+			volatile CoreException error;
+			/**
+			 * The component accepted by the requestor for the element, ended
+			 * once all references of the element have been accepted
+			 */
+			volatile IApiComponent component;
+
+			ElementState(IApiElement element) {
+				this.element = element;
+			}
+		}
+
+		private static final TypeReferences NO_MORE_TYPES = new TypeReferences(null, null, null);
+
+		private final IApiSearchRequestor requestor;
+		private final IApiSearchReporter reporter;
+		private final int threads;
+		private final BlockingQueue<TypeReferences> resolveQueue = new ArrayBlockingQueue<>(CAPACITY);
+		private final BlockingQueue<Report> reportQueue = new ArrayBlockingQueue<>(CAPACITY);
+		/**
+		 * Shared by the worker threads, canceled by the reporting thread
+		 */
+		private final NullProgressMonitor workerMonitor = new NullProgressMonitor();
+
+		SearchPipeline(IApiSearchRequestor requestor, IApiSearchReporter reporter, int threads) {
+			this.requestor = requestor;
+			this.reporter = reporter;
+			this.threads = threads;
+		}
+
+		/**
+		 * Runs the search of the given elements and reports the results on the
+		 * calling thread
+		 *
+		 * @return the status of the elements that could not be searched or
+		 *         <code>null</code>
+		 */
+		MultiStatus run(IApiElement[] elements, SubMonitor monitor) {
+			ExecutorService extractors = Executors.newFixedThreadPool(threads);
+			ExecutorService resolvers = Executors.newFixedThreadPool(threads);
+			MultiStatus mstatus = null;
+			boolean completed = false;
+			try {
+				for (int i = 0; i < threads; i++) {
+					resolvers.execute(this::resolve);
+				}
+				for (IApiElement element : elements) {
+					ElementState state = new ElementState(element);
+					extractors.execute(() -> extract(state));
+				}
+				long start = System.currentTimeMillis();
+				Map<ElementState, List<IReference>> collected = new HashMap<>();
+				int ended = 0;
+				while (ended < elements.length) {
+					Report report = reportQueue.poll(100, TimeUnit.MILLISECONDS);
+					if (monitor.isCanceled()) {
+						workerMonitor.setCanceled(true);
+					}
+					if (report == null) {
+						continue;
+					}
+					ElementState state = report.element();
+					if (report.references() != null) {
+						List<IReference> references = collected.computeIfAbsent(state, e -> new ArrayList<>());
+						Collections.addAll(references, report.references());
+						if (references.size() >= ReferenceExtractor.COLLECTOR_MAX) {
+							reportResults(state, collected.remove(state));
+						}
+						continue;
+					}
+					// all references of the element have been accepted
+					ended++;
+					List<IReference> references = collected.remove(state);
+					if (references != null && !workerMonitor.isCanceled()) {
+						reportResults(state, references);
+					}
+					reporter.endResults(state.element);
+					if (state.component != null) {
+						requestor.endComponent(state.component);
+					}
+					if (state.error != null) {
+						if (mstatus == null) {
+							mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+						}
+						mstatus.add(Status.error(state.error.getMessage(), state.error));
+					}
+					monitor.worked(2);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						System.out.println("Searched " + state.element.getApiComponent().getSymbolicName() + ", " //$NON-NLS-1$ //$NON-NLS-2$
+								+ Math.round((((float) ended) / elements.length) * 100) + "% done in " //$NON-NLS-1$
+								+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+					}
+				}
+				for (int i = 0; i < threads; i++) {
+					resolveQueue.put(NO_MORE_TYPES);
+				}
+				completed = true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				if (completed) {
+					extractors.shutdown();
+					resolvers.shutdown();
+				} else {
+					// unblock the workers waiting for the reporter
+					workerMonitor.setCanceled(true);
+					extractors.shutdownNow();
+					resolvers.shutdownNow();
+				}
+				try {
+					extractors.awaitTermination(1, TimeUnit.MINUTES);
+					resolvers.awaitTermination(1, TimeUnit.MINUTES);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				// components are only closed once no other thread resolves
+				// references to them
+				closeComponents(elements);
+			}
+			return mstatus;
+		}
+
+		private void reportResults(ElementState state, List<IReference> references) {
+			reporter.reportResults(state.element, references.toArray(new IReference[references.size()]));
+		}
+
+		/**
+		 * First stage: extracts the references of the types of an element
+		 */
+		private void extract(ElementState state) {
+			try {
+				if (workerMonitor.isCanceled()) {
+					return;
+				}
+				IApiElement element = state.element;
+				switch (element.getType()) {
+					case IApiElement.TYPE:
+						// the component is accepted for the context of the
+						// references, its type is searched in any case
+						accept(state, element.getApiComponent());
+						extract(state, (IApiType) element);
+						break;
+					case IApiElement.COMPONENT:
+						((IApiComponent) element).accept(new ApiTypeContainerVisitor() {
+							@Override
+							public boolean visit(IApiComponent component) {
+								return accept(state, component);
+							}
+
+							@Override
+							public boolean visit(IApiTypeContainer container) {
+								return !workerMonitor.isCanceled() && requestor.acceptContainer(container);
+							}
+
+							@Override
+							public void visit(String packageName, IApiTypeRoot typeroot) {
+								if (workerMonitor.isCanceled()) {
+									return;
+								}
+								try {
+									IApiType type = typeroot.getStructure();
+									if (type != null && requestor.acceptMember(type)) {
+										extract(state, type);
+									}
+								} catch (CoreException ce) {
+									ApiPlugin.log(ce);
+								}
+							}
+						});
+						break;
+					case IApiElement.FIELD:
+					case IApiElement.METHOD:
+						IApiType type = ((IApiMember) element).getEnclosingType();
+						if (type != null) {
+							accept(state, element.getApiComponent());
+							extract(state, type);
+						}
+						break;
+					default:
+						break;
+				}
+			} catch (CoreException ce) {
+				state.error = ce;
+			} catch (OperationCanceledException oce) {
+				// interrupted while waiting for the next stage
+			} catch (RuntimeException e) {
+				state.error = new CoreException(Status.error(e.getMessage(), e));
+			} finally {
+				release(state);
+			}
+		}
+
+		/**
+		 * Asks the requestor to accept the component of an element, an
+		 * accepted component is ended once all references of the element have
+		 * been accepted
+		 */
+		private boolean accept(ElementState state, IApiComponent component) {
+			if (state.component == null && requestor.acceptComponent(component)) {
+				state.component = component;
+				return true;
+			}
+			return false;
+		}
+
+		private void extract(ElementState state, IApiType type) throws CoreException {
+			List<IReference> references = type.extractReferences(requestor.getReferenceKinds(), null);
+			if (references.isEmpty()) {
+				return;
+			}
+			state.pending.incrementAndGet();
+			try {
+				resolveQueue.put(new TypeReferences(state, type, references));
+			} catch (InterruptedException e) {
+				state.pending.decrementAndGet();
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			}
+		}
+
+		/**
+		 * Second stage: resolves and accepts the references of one type at a
+		 * time until there are no more types
+		 */
+		private void resolve() {
+			try {
+				while (true) {
+					TypeReferences batch = resolveQueue.take();
+					if (batch == NO_MORE_TYPES) {
+						return;
+					}
+					try {
+						if (!workerMonitor.isCanceled()) {
+							ReferenceResolver.resolveReferences(batch.references());
+							List<IReference> accepted = acceptReferences(requestor, batch.type(), batch.references(), workerMonitor);
+							if (!accepted.isEmpty()) {
+								reportQueue.put(new Report(batch.element(), accepted.toArray(new IReference[accepted.size()])));
+							}
+						}
+					} catch (CoreException ce) {
+						ApiPlugin.log(ce);
+					} catch (RuntimeException e) {
+						ApiPlugin.log(e);
+					} finally {
+						release(batch.element());
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/**
+		 * Finishes one task of the given element, the last one reports the end
+		 * of the element
+		 */
+		private void release(ElementState state) {
+			if (state.pending.decrementAndGet() == 0) {
+				try {
+					reportQueue.put(new Report(state, null));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void closeComponents(IApiElement[] elements) {
+			for (IApiElement element : elements) {
+				if (element.getType() == IApiElement.COMPONENT) {
+					try {
+						((IApiComponent) element).close();
+					} catch (CoreException ce) {
+						ApiPlugin.log(ce);
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Simple string used for reporting what is being searched
 	 */
@@ -184,8 +527,18 @@ public final class ApiSearchEngine {
 					reporter.reportResults(element, NO_REFERENCES);
 				}
 				IApiType type = (IApiType) element;
-				refs = acceptReferences(requestor, type, getResolvedReferences(requestor, type, localmonitor.split(1)),
-						localmonitor.split(1));
+				IApiComponent comp = type.getApiComponent();
+				// the component is accepted for the context of the references,
+				// its type is searched in any case
+				boolean accepted = requestor.acceptComponent(comp);
+				try {
+					refs = acceptReferences(requestor, type, getResolvedReferences(requestor, type, localmonitor.split(1)),
+							localmonitor.split(1));
+				} finally {
+					if (accepted) {
+						requestor.endComponent(comp);
+					}
+				}
 				reporter.reportResults(element, refs.toArray(new IReference[refs.size()]));
 				break;
 			}
@@ -208,9 +561,17 @@ public final class ApiSearchEngine {
 				}
 				IApiMember member = (IApiMember) element;
 				IApiType type = member.getEnclosingType();
+				IApiComponent comp = member.getApiComponent();
 				if (type != null) {
-					refs = acceptReferences(requestor, type,
-							getResolvedReferences(requestor, type, localmonitor.split(1)), localmonitor.split(1));
+					boolean accepted = requestor.acceptComponent(comp);
+					try {
+						refs = acceptReferences(requestor, type,
+								getResolvedReferences(requestor, type, localmonitor.split(1)), localmonitor.split(1));
+					} finally {
+						if (accepted) {
+							requestor.endComponent(comp);
+						}
+					}
 				}
 				if (refs != null) {
 					reporter.reportResults(element, refs.toArray(new IReference[refs.size()]));
@@ -235,6 +596,34 @@ public final class ApiSearchEngine {
 	 * @throws CoreException if the search fails
 	 */
 	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+		search(baseline, requestor, reporter, 1, monitor);
+	}
+
+	/**
+	 * Searches for all of the use of API or internal code from the given
+	 * {@link IApiComponent} within the given {@link IApiBaseline}
+	 * <p>
+	 * When <code>threads</code> is greater than one, the elements of the scope
+	 * are searched concurrently: class files are parsed and references are
+	 * extracted by <code>threads</code> threads, the references are resolved
+	 * and accepted by another <code>threads</code> threads, and the results
+	 * are reported on the calling thread. The requestor must then accept
+	 * components and references from several threads at the same time,
+	 * the reporter is only used by the calling thread.
+	 * </p>
+	 *
+	 * @param baseline the baseline to search within
+	 * @param requestor the requestor to use for the search
+	 * @param reporter the reporter to use when reporting any search results to
+	 *            the user
+	 * @param threads the number of threads for each concurrent stage of the
+	 *            search, <code>1</code> to search the elements one after the
+	 *            other on the calling thread
+	 * @param monitor the monitor to report progress to
+	 * @throws CoreException if the search fails
+	 * @since 1.3.400
+	 */
+	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, int threads, IProgressMonitor monitor) throws CoreException {
 		if (baseline == null || reporter == null || requestor == null) {
 			return;
 		}
@@ -250,31 +639,44 @@ public final class ApiSearchEngine {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
-		for (int i = 0; i < scopeelements.length; i++) {
-			try {
-				taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
-						scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
-				localmonitor.setTaskName(taskname);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					loopstart = System.currentTimeMillis();
-					System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
-				}
-				searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
-				localmonitor.setTaskName(taskname);
-				if (localmonitor.isCanceled()) {
-					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
-				}
-				localmonitor.worked(1);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
-							+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
-				}
-			} catch (CoreException ce) {
-				if (mstatus == null) {
-					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+		if (threads > 1 && scopeelements.length > 1) {
+			if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+				System.out.println("Searching " + scopeelements.length + " elements with " + threads + " threads per stage..."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			mstatus = new SearchPipeline(requestor, reporter, threads).run(scopeelements, localmonitor);
+		} else {
+			for (int i = 0; i < scopeelements.length; i++) {
+				try {
+					taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+							scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
+					localmonitor.setTaskName(taskname);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						loopstart = System.currentTimeMillis();
+						System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					try {
+						searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
+						if (localmonitor.isCanceled()) {
+							reporter.reportResults(scopeelements[i], NO_REFERENCES);
+						}
+					} finally {
+						reporter.endResults(scopeelements[i]);
+					}
+					localmonitor.setTaskName(taskname);
+					if (localmonitor.isCanceled()) {
+						return;
+					}
+					localmonitor.worked(1);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
+								+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
+					}
+				} catch (CoreException ce) {
+					if (mstatus == null) {
+						mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+					}
+					mstatus.add(Status.error(ce.getMessage(), ce));
 				}
-				mstatus.add(Status.error(ce.getMessage(), ce));
 			}
 		}
 		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2011 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,18 @@ public interface IApiSearchReporter {
 	 */
 	public void reportResults(IApiElement element, final IReference[] references);
 
+	/**
+	 * Notifies this reporter that all results of the given element have been
+	 * passed to {@link #reportResults(IApiElement, IReference[])}, so results
+	 * collected for the element can be written out.
+	 *
+	 * @param element the element that was searched
+	 * @since 1.3.400
+	 */
+	public default void endResults(IApiElement element) {
+		// nothing to do by default
+	}
+
 	/**
 	 * Reports the current listing of objects that were not searched for whatever
 	 * reason.
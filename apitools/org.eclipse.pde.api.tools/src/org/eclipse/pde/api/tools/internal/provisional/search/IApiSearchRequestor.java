@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,21 @@ public interface IApiSearchRequestor {
 	 */
 	public boolean acceptComponent(IApiComponent component);
 
+	/**
+	 * Notifies this requestor that all references from the given accepted
+	 * {@link IApiComponent} have been passed to
+	 * {@link #acceptReference(IReference, IProgressMonitor)}, so any state kept
+	 * for the component can be released. It is called once for every call of
+	 * {@link #acceptComponent(IApiComponent)} that returned <code>true</code>,
+	 * a component may be accepted again for another element of the scope
+	 * before it has been ended.
+	 *
+	 * @param component the component that was searched
+	 * @since 1.3.400
+	 */
+	public default void endComponent(IApiComponent component) {
+	}
+
 	/**
 	 * Returns whether this requestor cares about the given
 	 * {@link IApiTypeContainer} or not. This allows the requestor to direct the
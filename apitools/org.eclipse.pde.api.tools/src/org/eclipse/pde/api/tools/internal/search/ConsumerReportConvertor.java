@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -417,6 +418,23 @@ public class ConsumerReportConvertor extends UseReportConverter {
 		UseScanParser lparser = new UseScanParser();
 		lparser.parse(getXmlLocation(), subMon.split(5), listVisitor);
 		List<Consumer> consumerReports = new ArrayList<>();
+		if (getParallelism() > 1) {
+			// each consumer is collected from a separate pass over the scan
+			List<Callable<Consumer>> tasks = new ArrayList<>(listVisitor.consumers.size());
+			for (IComponentDescriptor consumer : listVisitor.consumers) {
+				tasks.add(() -> {
+					ConsumerReportVisitor visitor = new ConsumerReportVisitor(consumer);
+					new UseScanParser().parse(getXmlLocation(), null, visitor);
+					return visitor.consumer;
+				});
+			}
+			for (Consumer consumer : invokeConcurrently(tasks, subMon.split(15))) {
+				if (consumer.counts.getTotalRefCount() > 0) {
+					consumerReports.add(consumer);
+				}
+			}
+			return consumerReports;
+		}
 
 		ConsumerReportVisitor visitor = null;
 		for (IComponentDescriptor consumer : listVisitor.consumers) {
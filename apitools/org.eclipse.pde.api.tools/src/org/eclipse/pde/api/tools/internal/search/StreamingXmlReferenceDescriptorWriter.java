@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Writes the reference descriptions of one searched element to XML files using
+ * a streaming writer.
+ * <p>
+ * Unlike {@link XmlReferenceDescriptorWriter}, which merges every batch of
+ * references into a DOM of the existing report files, this writer only keeps
+ * the collated references of the element being searched and streams each
+ * report file once when the element is done. The directory layout and the
+ * schema of the files are the same, so they are read by {@link UseScanParser}
+ * and the {@link UseReportConverter} as before. Report files that already
+ * exist when the references are written are merged using the DOM based writer.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+final class StreamingXmlReferenceDescriptorWriter {
+
+	/**
+	 * A report file: referenced component, referencing component, visibility
+	 * and reference type
+	 */
+	private record Group(String referee, String origin, int visibility, int type) {
+	}
+
+	private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+	private static final Integer V_ILLEGAL = Integer.valueOf(VisibilityModifiers.ILLEGAL_API);
+
+	private final String fLocation;
+
+	/**
+	 * Collated references: report file -> referenced member -> references
+	 */
+	private final Map<Group, Map<String, Set<IReferenceDescriptor>>> fGroups = new LinkedHashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the absolute path in the local file system to the folder
+	 *            to write the reports to
+	 */
+	StreamingXmlReferenceDescriptorWriter(String location) {
+		fLocation = location;
+	}
+
+	/**
+	 * Collates the given reference with the references added before. If the
+	 * same reference has already been added it is ignored.
+	 *
+	 * @param reference the reference to add
+	 * @return <code>true</code> if the reference was added,
+	 *         <code>false</code> if it is a duplicate
+	 * @throws CoreException if the referenced member cannot be described
+	 */
+	boolean add(IReferenceDescriptor reference) throws CoreException {
+		int visibility = (reference.getReferenceFlags() & IReference.F_ILLEGAL) > 0 //
+				? V_ILLEGAL.intValue()
+				: reference.getVisibility();
+		Group group = new Group(XmlReferenceDescriptorWriter.getId(reference.getReferencedComponent()), XmlReferenceDescriptorWriter.getId(reference.getComponent()), visibility, reference.getReferenceType());
+		String tname = XmlReferenceDescriptorWriter.getText(reference.getReferencedMember());
+		return fGroups.computeIfAbsent(group, g -> new LinkedHashMap<>()).computeIfAbsent(tname, t -> new LinkedHashSet<>()).add(reference);
+	}
+
+	/**
+	 * Writes out all collated references and forgets about them
+	 */
+	void write() {
+		if (fLocation == null || fGroups.isEmpty()) {
+			return;
+		}
+		try {
+			for (var entry : fGroups.entrySet()) {
+				Group group = entry.getKey();
+				Path file = Path.of(fLocation, group.referee(), group.origin(), VisibilityModifiers.getVisibilityName(group.visibility()), XmlReferenceDescriptorWriter.getRefTypeName(group.type()) + ".xml"); //$NON-NLS-1$
+				if (Files.exists(file)) {
+					// the origin was already reported, merge with the existing
+					// file
+					List<IReferenceDescriptor> references = new ArrayList<>();
+					entry.getValue().values().forEach(references::addAll);
+					new XmlReferenceDescriptorWriter(fLocation).writeReferences(references.toArray(new IReferenceDescriptor[references.size()]));
+					continue;
+				}
+				try {
+					writeGroup(file, group, entry.getValue());
+				} catch (IOException | XMLStreamException | CoreException e) {
+					ApiPlugin.log("Failed to write references into " + file, e); //$NON-NLS-1$
+				}
+			}
+		} finally {
+			fGroups.clear();
+		}
+	}
+
+	/**
+	 * Streams the report file of the given group
+	 */
+	private void writeGroup(Path file, Group group, Map<String, Set<IReferenceDescriptor>> targets) throws IOException, XMLStreamException, CoreException {
+		Files.createDirectories(file.getParent());
+		int count = 0;
+		for (Set<IReferenceDescriptor> references : targets.values()) {
+			count += references.size();
+		}
+		try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file))) {
+			XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(stream, "UTF-8"); //$NON-NLS-1$
+			try {
+				writer.writeStartDocument("UTF-8", "1.0"); //$NON-NLS-1$ //$NON-NLS-2$
+				writer.writeStartElement(IApiXmlConstants.REFERENCES);
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(group.visibility()));
+				writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, group.origin());
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFEREE, group.referee());
+				writer.writeAttribute(IApiXmlConstants.ATTR_NAME, XmlReferenceDescriptorWriter.getFormattedTypeName(XmlReferenceDescriptorWriter.getRefTypeName(group.type())));
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
+				for (var entry : targets.entrySet()) {
+					writeTarget(writer, entry.getKey(), entry.getValue());
+				}
+				writer.writeEndElement();
+				writer.writeEndDocument();
+			} finally {
+				writer.close();
+			}
+		}
+	}
+
+	/**
+	 * Writes the element of a referenced member with its references grouped by
+	 * reference kind
+	 */
+	private void writeTarget(XMLStreamWriter writer, String tname, Set<IReferenceDescriptor> references) throws XMLStreamException, CoreException {
+		Map<Integer, List<IReferenceDescriptor>> kinds = new LinkedHashMap<>();
+		IReferenceDescriptor last = null;
+		for (IReferenceDescriptor reference : references) {
+			kinds.computeIfAbsent(Integer.valueOf(reference.getReferenceKind()), k -> new ArrayList<>()).add(reference);
+			last = reference;
+		}
+		writer.writeStartElement(IApiXmlConstants.ELEMENT_TARGET);
+		writer.writeAttribute(IApiXmlConstants.ATTR_NAME, tname);
+		if (last != null && last.getReferencedMember() != null) {
+			writeMemberDetails(writer, last.getReferencedMember());
+		}
+		for (var entry : kinds.entrySet()) {
+			Integer kind = entry.getKey();
+			List<IReferenceDescriptor> kindReferences = entry.getValue();
+			writer.writeStartElement(IApiXmlConstants.REFERENCE_KIND);
+			writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME, Reference.getReferenceText(kind.intValue()));
+			writer.writeAttribute(IApiXmlConstants.ATTR_KIND, kind.toString());
+			writer.writeAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(kindReferences.get(0).getReferenceFlags()));
+			for (IReferenceDescriptor reference : kindReferences) {
+				if (reference.getReferencedMember() != null) {
+					writeReference(writer, reference);
+				}
+			}
+			writer.writeEndElement();
+		}
+		writer.writeEndElement();
+	}
+
+	/**
+	 * Writes the element of a single reference
+	 */
+	private void writeReference(XMLStreamWriter writer, IReferenceDescriptor reference) throws XMLStreamException, CoreException {
+		IMemberDescriptor member = reference.getMember();
+		writer.writeEmptyElement(IApiXmlConstants.ATTR_REFERENCE);
+		writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, XmlReferenceDescriptorWriter.getText(member));
+		String[] messages = reference.getProblemMessages();
+		if (messages != null) {
+			writer.writeAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, XmlReferenceDescriptorWriter.getText(messages));
+		}
+		writeMemberDetails(writer, member);
+		writer.writeAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(reference.getLineNumber()));
+	}
+
+	/**
+	 * Writes the member descriptor details as attributes of the current
+	 * element
+	 */
+	private void writeMemberDetails(XMLStreamWriter writer, IMemberDescriptor member) throws XMLStreamException {
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> writer.writeAttribute(IApiXmlConstants.ATTR_TYPE,
+					((IReferenceTypeDescriptor) member).getQualifiedName());
+			case IElementDescriptor.FIELD -> {
+				writer.writeAttribute(IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+			}
+			case IElementDescriptor.METHOD -> {
+				writer.writeAttribute(IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature());
+			}
+			default -> { /**/ }
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,11 @@ import java.util.Map.Entry;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.IntStream;
@@ -566,6 +571,7 @@ public class UseReportConverter extends HTMLConvertor {
 	SAXParser parser = null;
 	private UseMetadata metadata = null;
 	private int filteredCount = -1;
+	private int parallelism = 1;
 	Pattern[] topatterns = null;
 	Pattern[] frompatterns = null;
 
@@ -706,12 +712,93 @@ public class UseReportConverter extends HTMLConvertor {
 	}
 
 	protected List<?> parse(IProgressMonitor monitor) throws Exception {
+		if (getParallelism() > 1) {
+			// the pages of each referenced component are written by the
+			// visitor parsing its directory
+			File[] referees = new UseScanParser().getDirectories(getReportsRoot());
+			List<Callable<List<Report>>> tasks = new ArrayList<>(referees.length);
+			for (File referee : referees) {
+				tasks.add(() -> {
+					Visitor convertor = new Visitor();
+					new UseScanParser().parse(new File[] { referee }, null, convertor);
+					return convertor.reports;
+				});
+			}
+			List<Report> reports = new ArrayList<>();
+			for (List<Report> result : invokeConcurrently(tasks, monitor)) {
+				reports.addAll(result);
+			}
+			return reports;
+		}
 		UseScanParser lparser = new UseScanParser();
 		Visitor convertor = new Visitor();
 		lparser.parse(getXmlLocation(), monitor, convertor);
 		return convertor.reports;
 	}
 
+	/**
+	 * Runs the given tasks on a pool of {@link #getParallelism()} threads
+	 *
+	 * @param tasks the tasks to run
+	 * @param monitor progress monitor, one unit of work is reported per
+	 *            finished task
+	 * @return the results of the tasks in the order of the tasks
+	 * @throws Exception the first exception thrown by a task
+	 * @since 1.3.400
+	 */
+	protected <T> List<T> invokeConcurrently(List<Callable<T>> tasks, IProgressMonitor monitor) throws Exception {
+		SubMonitor localmonitor = SubMonitor.convert(monitor, tasks.size());
+		if (tasks.isEmpty()) {
+			return Collections.emptyList();
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(getParallelism(), tasks.size()));
+		try {
+			List<Future<T>> futures = new ArrayList<>(tasks.size());
+			for (Callable<T> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			List<T> results = new ArrayList<>(tasks.size());
+			for (Future<T> future : futures) {
+				try {
+					results.add(future.get());
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof Exception cause) {
+						throw cause;
+					}
+					throw e;
+				}
+				// cancels the remaining tasks if the monitor is canceled
+				localmonitor.split(1);
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Sets the number of threads used to parse the use scan and to write the
+	 * pages of the referenced components. The index pages are written once all
+	 * referenced components are done.
+	 *
+	 * @param parallelism the number of threads, <code>1</code> converts the
+	 *            scan on the calling thread
+	 * @since 1.3.400
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Returns the number of threads used to convert the use scan
+	 *
+	 * @return the number of threads, at least <code>1</code>
+	 * @since 1.3.400
+	 */
+	protected int getParallelism() {
+		return this.parallelism;
+	}
+
 	/**
 	 * Returns the handle to the default parser, caches the handle once it has
 	 * been created
@@ -0,0 +1,527 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Binary form of the references of an API use scan, written next to the XML
+ * reports of the scan.
+ * <p>
+ * The references to each referenced component are stored in a separate block
+ * with its own table of the strings used by the block. An index at the end of
+ * the file maps the referenced components to the offset and length of their
+ * block, so the references to one component are read with a seek and a
+ * bounded read instead of parsing all XML reports of the scan. The length
+ * and the modification time of every XML report are recorded in the header,
+ * so an index is not read once a report was changed, added or removed. As
+ * checking the reports stats every file of the scan, an index that was read
+ * checks them again only every {@link #REPORT_CHECK_INTERVAL} milliseconds.
+ * </p>
+ *
+ * @since 1.3.400
+ */
+public final class UseScanIndex {
+
+	/**
+	 * Name of the index file in the XML report location of a use scan. Value
+	 * is: <code>references.index</code>
+	 */
+	public static final String INDEX_FILE_NAME = "references.index"; //$NON-NLS-1$
+
+	private static final String KIND = "USE_SCAN_INDEX"; //$NON-NLS-1$
+	private static final int VERSION = 2;
+
+	/**
+	 * Minimum time in milliseconds between two checks of the XML reports of an
+	 * index by {@link #isCurrent()}
+	 */
+	private static final long REPORT_CHECK_INTERVAL = 10000;
+
+	/**
+	 * The references to one component
+	 */
+	private record Block(IComponentDescriptor component, long offset, int length) {
+	}
+
+	/**
+	 * The length and the last modification time of an XML report
+	 */
+	private record ReportStamp(long length, long lastModified) {
+	}
+
+	private final Path fLocation;
+	private final Path fFile;
+	private final long fLength;
+	private final long fLastModified;
+
+	/**
+	 * Stamps of the XML reports the index was written from by their path
+	 * relative to the XML report location
+	 */
+	private final Map<String, ReportStamp> fReports;
+
+	/**
+	 * The time the XML reports were last found unchanged
+	 */
+	private volatile long fReportsChecked;
+
+	/**
+	 * Blocks by the id of the referenced component
+	 */
+	private final Map<String, List<Block>> fBlocks;
+
+	private UseScanIndex(Path location, Path file, long length, long lastModified, Map<String, ReportStamp> reports, Map<String, List<Block>> blocks) {
+		fLocation = location;
+		fFile = file;
+		fLength = length;
+		fLastModified = lastModified;
+		fReports = reports;
+		fBlocks = blocks;
+		fReportsChecked = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the index file of the use scan at the given location
+	 *
+	 * @param xmlLocation the XML report location of the use scan
+	 * @return the index file, which may not exist
+	 */
+	public static Path getIndexFile(String xmlLocation) {
+		return Path.of(xmlLocation, INDEX_FILE_NAME);
+	}
+
+	/**
+	 * Returns the length and the last modification time of the XML reports of
+	 * the use scan at the given location by their path relative to the
+	 * location
+	 */
+	private static Map<String, ReportStamp> getReportStamps(Path location) throws IOException {
+		Map<String, ReportStamp> reports = new TreeMap<>();
+		Files.walkFileTree(location, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				if (attributes.isRegularFile() && file.getFileName().toString().endsWith(".xml")) { //$NON-NLS-1$
+					String path = location.relativize(file).toString().replace(File.separatorChar, '/');
+					reports.put(path, new ReportStamp(attributes.size(), attributes.lastModifiedTime().toMillis()));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		return reports;
+	}
+
+	/**
+	 * Returns if the index file did not change since this index was read. The
+	 * XML reports the index was written from are checked as well if they were
+	 * not checked for {@link #REPORT_CHECK_INTERVAL} milliseconds.
+	 *
+	 * @return <code>true</code> if this index is current
+	 */
+	public boolean isCurrent() {
+		try {
+			if (Files.size(fFile) != fLength || Files.getLastModifiedTime(fFile).toMillis() != fLastModified) {
+				return false;
+			}
+		} catch (IOException e) {
+			return false;
+		}
+		if (System.currentTimeMillis() - fReportsChecked < REPORT_CHECK_INTERVAL) {
+			return true;
+		}
+		return hasCurrentReports();
+	}
+
+	/**
+	 * Returns if none of the XML reports the index was written from changed,
+	 * was added or removed. Stats every file of the scan.
+	 *
+	 * @return <code>true</code> if the reports did not change
+	 */
+	public boolean hasCurrentReports() {
+		long now = System.currentTimeMillis();
+		try {
+			if (!fReports.equals(getReportStamps(fLocation))) {
+				return false;
+			}
+		} catch (IOException e) {
+			return false;
+		}
+		fReportsChecked = now;
+		return true;
+	}
+
+	/**
+	 * Visits the references to the component with the given id in the same way
+	 * as {@link UseScanParser#parse(String, IProgressMonitor, UseScanVisitor)}
+	 * visits the XML reports, except that all references from a referencing
+	 * component to the same member are visited together.
+	 *
+	 * @param componentId the symbolic name of the referenced component
+	 * @param visitor the visitor
+	 * @throws IOException if the index cannot be read
+	 */
+	public void accept(String componentId, UseScanVisitor visitor) throws IOException {
+		List<Block> blocks = fBlocks.getOrDefault(componentId, Collections.emptyList());
+		visitor.visitScan();
+		try {
+			if (blocks.isEmpty()) {
+				return;
+			}
+			try (RandomAccessFile file = new RandomAccessFile(fFile.toFile(), "r")) { //$NON-NLS-1$
+				for (Block block : blocks) {
+					byte[] bytes = new byte[block.length()];
+					file.seek(block.offset());
+					file.readFully(bytes);
+					if (visitor.visitComponent(block.component())) {
+						visitBlock(block.component(), new DataInputStream(new ByteArrayInputStream(bytes)), visitor);
+					}
+					visitor.endVisitComponent(block.component());
+				}
+			}
+		} finally {
+			visitor.endVisitScan();
+		}
+	}
+
+	private static void visitBlock(IComponentDescriptor target, DataInputStream in, UseScanVisitor visitor) throws IOException {
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		int origins = in.readInt();
+		for (int i = 0; i < origins; i++) {
+			IComponentDescriptor origin = Factory.componentDescriptor(readString(in, strings), readString(in, strings));
+			boolean visitMembers = visitor.visitReferencingComponent(origin);
+			int members = in.readInt();
+			for (int j = 0; j < members; j++) {
+				IMemberDescriptor member = readMember(in, strings);
+				boolean visitReferences = visitMembers && visitor.visitMember(member);
+				int references = in.readInt();
+				for (int k = 0; k < references; k++) {
+					int visibility = in.readInt();
+					int kind = in.readInt();
+					int flags = in.readInt();
+					int line = in.readInt();
+					IMemberDescriptor originMember = readMember(in, strings);
+					String[] messages = null;
+					int count = in.readInt();
+					if (count >= 0) {
+						messages = new String[count];
+						for (int m = 0; m < count; m++) {
+							messages[m] = readString(in, strings);
+						}
+					}
+					if (visitReferences) {
+						visitor.visitReference(Factory.referenceDescriptor(origin, originMember, line, target, member, kind, flags, visibility, messages));
+					}
+				}
+				if (visitMembers) {
+					visitor.endVisitMember(member);
+				}
+			}
+			visitor.endVisitReferencingComponent(origin);
+		}
+	}
+
+	private static IMemberDescriptor readMember(DataInputStream in, String[] strings) throws IOException {
+		int type = in.readByte();
+		String qName = readString(in, strings);
+		String name = readString(in, strings);
+		String signature = readString(in, strings);
+		return switch (type)
+			{
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(qName, name, signature);
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(qName, name);
+			default -> Factory.typeDescriptor(qName);
+			};
+	}
+
+	private static String readString(DataInputStream in, String[] strings) throws IOException {
+		int index = in.readInt();
+		return index < 0 ? null : strings[index];
+	}
+
+	/**
+	 * Reads the index of the use scan at the given location
+	 *
+	 * @param xmlLocation the XML report location of the use scan
+	 * @return the index or <code>null</code> if the scan has no index, if it
+	 *         cannot be read or if the XML reports changed since it was written
+	 */
+	public static UseScanIndex read(String xmlLocation) {
+		Path location = Path.of(xmlLocation);
+		Path file = getIndexFile(xmlLocation);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (RandomAccessFile in = new RandomAccessFile(file.toFile(), "r")) { //$NON-NLS-1$
+			long lastModified = Files.getLastModifiedTime(file).toMillis();
+			long length = in.length();
+			if (!ApiPlugin.PLUGIN_ID.equals(in.readUTF()) || !KIND.equals(in.readUTF()) || in.readInt() != VERSION) {
+				return null;
+			}
+			Map<String, ReportStamp> reports = new TreeMap<>();
+			int reportCount = in.readInt();
+			for (int i = 0; i < reportCount; i++) {
+				reports.put(in.readUTF(), new ReportStamp(in.readLong(), in.readLong()));
+			}
+			if (!reports.equals(getReportStamps(location))) {
+				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+					System.out.println("Use scan index " + file + " is out of date"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return null;
+			}
+			in.seek(length - Long.BYTES);
+			in.seek(in.readLong());
+			Map<String, List<Block>> blocks = new HashMap<>();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String id = in.readUTF();
+				String version = in.readBoolean() ? in.readUTF() : null;
+				Block block = new Block(Factory.componentDescriptor(id, version), in.readLong(), in.readInt());
+				blocks.computeIfAbsent(id, k -> new ArrayList<>(1)).add(block);
+			}
+			return new UseScanIndex(location, file, length, lastModified, reports, blocks);
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+				System.out.println("Unable to read use scan index " + file + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the index of the use scan at the given location, replacing an
+	 * existing index. The XML reports of the scan are parsed once, their
+	 * stamps are recorded before they are parsed.
+	 *
+	 * @param xmlLocation the XML report location of the use scan
+	 * @param monitor progress monitor or <code>null</code>
+	 * @throws Exception if the reports cannot be parsed or the index cannot be
+	 *             written
+	 */
+	public static void write(String xmlLocation, IProgressMonitor monitor) throws Exception {
+		Path file = getIndexFile(xmlLocation);
+		Files.deleteIfExists(file);
+		Map<String, ReportStamp> reports = getReportStamps(Path.of(xmlLocation));
+		boolean written = false;
+		try (IndexWriter writer = new IndexWriter(new BufferedOutputStream(Files.newOutputStream(file)), reports)) {
+			new UseScanParser().parse(xmlLocation, monitor, writer);
+			writer.finish();
+			written = true;
+		} finally {
+			if (!written) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	/**
+	 * Collects the references to one component at a time from the parser and
+	 * writes them as a block
+	 */
+	private static final class IndexWriter extends UseScanVisitor implements AutoCloseable {
+
+		private final DataOutputStream fOut;
+		private final List<Block> fWritten = new ArrayList<>();
+		private final List<IReferenceDescriptor> fReferences = new ArrayList<>();
+		private final Map<String, Integer> fStrings = new LinkedHashMap<>();
+		private long fPosition;
+		private IOException fError;
+
+		IndexWriter(OutputStream out, Map<String, ReportStamp> reports) throws IOException {
+			fOut = new DataOutputStream(out);
+			ByteArrayOutputStream header = new ByteArrayOutputStream();
+			DataOutputStream data = new DataOutputStream(header);
+			data.writeUTF(ApiPlugin.PLUGIN_ID);
+			data.writeUTF(KIND);
+			data.writeInt(VERSION);
+			data.writeInt(reports.size());
+			for (var report : reports.entrySet()) {
+				data.writeUTF(report.getKey());
+				data.writeLong(report.getValue().length());
+				data.writeLong(report.getValue().lastModified());
+			}
+			writeBytes(header.toByteArray());
+		}
+
+		@Override
+		public boolean visitComponent(IComponentDescriptor target) {
+			fReferences.clear();
+			return fError == null;
+		}
+
+		@Override
+		public void visitReference(IReferenceDescriptor reference) {
+			if (reference.getReferencedMember() != null && reference.getMember() != null) {
+				fReferences.add(reference);
+			}
+		}
+
+		@Override
+		public void endVisitComponent(IComponentDescriptor target) {
+			if (fError != null || fReferences.isEmpty()) {
+				return;
+			}
+			try {
+				writeBlock(target);
+			} catch (IOException e) {
+				fError = e;
+			} finally {
+				fReferences.clear();
+				fStrings.clear();
+			}
+		}
+
+		private void writeBlock(IComponentDescriptor target) throws IOException {
+			// referencing component -> referenced member -> references
+			Map<IComponentDescriptor, Map<IMemberDescriptor, List<IReferenceDescriptor>>> origins = new LinkedHashMap<>();
+			for (IReferenceDescriptor reference : fReferences) {
+				origins.computeIfAbsent(reference.getComponent(), c -> new LinkedHashMap<>()).computeIfAbsent(reference.getReferencedMember(), m -> new ArrayList<>()).add(reference);
+			}
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(body);
+			out.writeInt(origins.size());
+			for (var origin : origins.entrySet()) {
+				writeString(out, origin.getKey().getId());
+				writeString(out, origin.getKey().getVersion());
+				out.writeInt(origin.getValue().size());
+				for (var member : origin.getValue().entrySet()) {
+					writeMember(out, member.getKey());
+					out.writeInt(member.getValue().size());
+					for (IReferenceDescriptor reference : member.getValue()) {
+						out.writeInt(reference.getVisibility());
+						out.writeInt(reference.getReferenceKind());
+						out.writeInt(reference.getReferenceFlags());
+						out.writeInt(reference.getLineNumber());
+						writeMember(out, reference.getMember());
+						String[] messages = reference.getProblemMessages();
+						if (messages == null) {
+							out.writeInt(-1);
+						} else {
+							out.writeInt(messages.length);
+							for (String message : messages) {
+								writeString(out, message);
+							}
+						}
+					}
+				}
+			}
+			out.flush();
+			ByteArrayOutputStream block = new ByteArrayOutputStream(body.size() + fStrings.size() * 16);
+			DataOutputStream data = new DataOutputStream(block);
+			data.writeInt(fStrings.size());
+			for (String value : fStrings.keySet()) {
+				data.writeUTF(value);
+			}
+			body.writeTo(data);
+			data.flush();
+			long offset = fPosition;
+			writeBytes(block.toByteArray());
+			fWritten.add(new Block(target, offset, block.size()));
+		}
+
+		private void writeMember(DataOutputStream out, IMemberDescriptor member) throws IOException {
+			out.writeByte(member.getElementType());
+			switch (member.getElementType()) {
+				case IElementDescriptor.METHOD -> {
+					writeString(out, member.getEnclosingType().getQualifiedName());
+					writeString(out, member.getName());
+					writeString(out, ((IMethodDescriptor) member).getSignature());
+				}
+				case IElementDescriptor.FIELD -> {
+					writeString(out, member.getEnclosingType().getQualifiedName());
+					writeString(out, member.getName());
+					writeString(out, null);
+				}
+				default -> {
+					writeString(out, ((IReferenceTypeDescriptor) member).getQualifiedName());
+					writeString(out, null);
+					writeString(out, null);
+				}
+			}
+		}
+
+		private void writeString(DataOutputStream out, String value) throws IOException {
+			if (value == null) {
+				out.writeInt(-1);
+				return;
+			}
+			out.writeInt(fStrings.computeIfAbsent(value, v -> Integer.valueOf(fStrings.size())).intValue());
+		}
+
+		private void writeBytes(byte[] bytes) throws IOException {
+			fOut.write(bytes);
+			fPosition += bytes.length;
+		}
+
+		/**
+		 * Writes the index of the blocks, fails if a block could not be
+		 * written
+		 */
+		void finish() throws IOException {
+			if (fError != null) {
+				throw fError;
+			}
+			long offset = fPosition;
+			fOut.writeInt(fWritten.size());
+			for (Block block : fWritten) {
+				IComponentDescriptor component = block.component();
+				fOut.writeUTF(component.getId());
+				fOut.writeBoolean(component.getVersion() != null);
+				if (component.getVersion() != null) {
+					fOut.writeUTF(component.getVersion());
+				}
+				fOut.writeLong(block.offset());
+				fOut.writeInt(block.length());
+			}
+			fOut.writeLong(offset);
+		}
+
+		@Override
+		public void close() throws IOException {
+			fOut.close();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -89,6 +91,11 @@ public class UseScanManager {
 
 	private String[] fLocations = null;
 
+	/**
+	 * Binary indexes of the use scans by location
+	 */
+	private final Map<String, UseScanIndex> fIndexes = new HashMap<>();
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -211,7 +218,12 @@ public class UseScanManager {
 							}
 							throw new Exception(message);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
+						UseScanIndex index = getIndex(locations[i]);
+						if (index != null) {
+							index.accept(apiComponent.getSymbolicName(), visitor);
+						} else {
+							parser.parse(locations[i], iterationMonitor, visitor);
+						}
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
@@ -229,6 +241,30 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the binary index of the use scan at the given location or
+	 * <code>null</code> if the scan has to be parsed. The index is read and
+	 * checked outside of the lock of the cached indexes.
+	 */
+	private UseScanIndex getIndex(String location) {
+		UseScanIndex index;
+		synchronized (fIndexes) {
+			index = fIndexes.get(location);
+		}
+		if (index != null && index.isCurrent()) {
+			return index;
+		}
+		index = UseScanIndex.read(location);
+		synchronized (fIndexes) {
+			if (index == null) {
+				fIndexes.remove(location);
+			} else {
+				fIndexes.put(location, index);
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * Returns the scan
 	 */
@@ -384,5 +420,8 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		synchronized (fIndexes) {
+			fIndexes.clear();
+		}
 	}
 }
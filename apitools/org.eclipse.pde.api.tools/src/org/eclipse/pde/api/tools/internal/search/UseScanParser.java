@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -234,9 +234,25 @@ public class UseScanParser {
 		localmonitor.subTask(SearchMessages.UseReportConverter_collecting_dir_info);
 		File[] referees = getDirectories(reportsRoot);
 		localmonitor.split(1);
+		parse(referees, localmonitor.split(7), usv);
+	}
+
+	/**
+	 * Resolves references from the given directories of referenced components
+	 * of an API use scan. Separate parsers can be used to visit disjoint sets
+	 * of directories of the same scan at the same time.
+	 *
+	 * @param referees directories of referenced components, i.e. the top level
+	 *            directories of the XML directory of the scan
+	 * @param monitor progress monitor
+	 * @param usv the visitor
+	 * @since 1.3.400
+	 */
+	public void parse(File[] referees, IProgressMonitor monitor, UseScanVisitor usv) throws Exception {
+		visitor = usv;
+		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, referees.length);
 		File[] origins = null;
 		File[] xmlfiles = null;
-		localmonitor.setWorkRemaining(referees.length);
 		visitor.visitScan();
 		try {
 			@SuppressWarnings("restriction")
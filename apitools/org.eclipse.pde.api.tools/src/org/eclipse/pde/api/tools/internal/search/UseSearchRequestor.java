@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.search;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -51,6 +53,13 @@ import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor
  * in the ant task via {@link #setFilterRoot(String)}. If filter files are found
  * in both locations, the filters at both will be applied.
  * </p>
+ * <p>
+ * The problem detectors and filter stores are kept per accepted component, so
+ * references from different components can be accepted concurrently. A
+ * context lives until the component has been ended as many times as it was
+ * accepted; references from components that are not accepted are not checked
+ * for illegal use.
+ * </p>
  *
  * @since 1.0.0
  */
@@ -62,18 +71,43 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	private Set<String> fComponentIds = null;
 
 	/**
-	 * The current {@link IApiFilterStore} from the current
-	 * {@link IApiComponent} context we are visiting.
+	 * The state used to accept the references from one {@link IApiComponent}
 	 */
-	private IApiFilterStore currentStore = null;
+	static final class ComponentContext {
+		/**
+		 * The {@link ReferenceAnalyzer} for detecting illegal API use, see
+		 * {@link UseSearchRequestor#includesIllegalUse()}
+		 */
+		final ReferenceAnalyzer analyzer;
+		/**
+		 * The {@link IApiFilterStore} of the component
+		 */
+		final IApiFilterStore store;
+		/**
+		 * The {@link IApiFilterStore} created by finding the component's filter
+		 * file in the root filter location
+		 * {@link UseSearchRequestor#antFilterRoot} or
+		 * <code>null</code>
+		 */
+		final IApiFilterStore antStore;
+		/**
+		 * Number of times the component has been accepted and not ended yet,
+		 * guarded by {@link UseSearchRequestor#fContexts}
+		 */
+		int users = 1;
+
+		ComponentContext(ReferenceAnalyzer analyzer, IApiFilterStore store, IApiFilterStore antStore) {
+			this.analyzer = analyzer;
+			this.store = store;
+			this.antStore = antStore;
+		}
+	}
 
 	/**
-	 * The current {@link IApiFilterStore} for the current {@link IApiComponent}
-	 * context that we are visiting. The filter store will be created by finding
-	 * each component's filter file in the root filter location
-	 * {@link #antFilterRoot}.
+	 * The contexts of the accepted components that have not been ended yet.
+	 * Read concurrently, only modified while holding the lock of the map.
 	 */
-	private IApiFilterStore antStore = null;
+	private final Map<IApiComponent, ComponentContext> fContexts = new ConcurrentHashMap<>();
 
 	/**
 	 * The root directory of the .api_filters files that should be used to
@@ -111,13 +145,6 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 */
 	private String[] jarPatterns = null;
 
-	/**
-	 * The default {@link ReferenceAnalyzer} for detecting illegal API use
-	 *
-	 * @see #includesIllegalUse()
-	 */
-	ReferenceAnalyzer fAnalyzer = null;
-
 	/**
 	 * Constructor
 	 *
@@ -135,7 +162,6 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	public UseSearchRequestor(Set<String> elementnames, IApiElement[] scope, int searchkinds) {
 		fSearchMask = searchkinds;
 		fComponentIds = elementnames;
-		fAnalyzer = new ReferenceAnalyzer();
 		prepareScope(scope);
 	}
 
@@ -143,20 +169,61 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	public boolean acceptComponent(IApiComponent component) {
 		try {
 			if (!component.isSystemComponent() && getScope().encloses(component)) {
-				if (includesIllegalUse()) {
-					fAnalyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
+				synchronized (fContexts) {
+					ComponentContext context = fContexts.get(component);
+					if (context != null) {
+						// the component is searched for another element
+						context.users++;
+						return true;
+					}
+					ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+					if (includesIllegalUse()) {
+						analyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
+					}
+					IApiFilterStore antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
+					fContexts.put(component, new ComponentContext(analyzer, component.getFilterStore(), antStore));
 				}
-				currentStore = component.getFilterStore();
-				antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
 				return true;
 			}
 		} catch (CoreException ce) {
 			// do nothing, return false
 		}
-		currentStore = null;
 		return false;
 	}
 
+	@Override
+	public void endComponent(IApiComponent component) {
+		synchronized (fContexts) {
+			ComponentContext context = fContexts.get(component);
+			if (context != null && --context.users == 0) {
+				fContexts.remove(component);
+			}
+		}
+	}
+
+	/**
+	 * Returns the context of the accepted component the given reference
+	 * originates from, or of its host if the component is a fragment
+	 *
+	 * @return the context or <code>null</code> if the component of the
+	 *         reference has not been accepted or has already been ended
+	 */
+	private ComponentContext getContext(IReference reference) {
+		IApiComponent component = reference.getMember().getApiComponent();
+		try {
+			while (component != null) {
+				ComponentContext context = fContexts.get(component);
+				if (context != null) {
+					return context;
+				}
+				component = component.isFragment() ? component.getHost() : null;
+			}
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		}
+		return null;
+	}
+
 	@Override
 	public boolean acceptContainer(IApiTypeContainer container) {
 		return considerTypeContainer(container);
@@ -233,26 +300,36 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 * @since 1.1
 	 */
 	boolean isIllegalUse(IReference reference, IProgressMonitor monitor) {
-		IApiProblemDetector[] detectors = fAnalyzer.getProblemDetectors(reference.getReferenceKind());
-		for (IApiProblemDetector detector : detectors) {
-			if (monitor.isCanceled()) {
-				break;
-			}
-			if (detector.considerReference(reference, monitor)) {
-				Reference ref = (Reference) reference;
-				ref.setFlags(IReference.F_ILLEGAL);
-				try {
-					IApiProblem pb = ((AbstractProblemDetector) detector).checkAndCreateProblem(reference, monitor);
-					if (pb != null && !isFiltered(pb)) {
-						ref.addProblems(pb);
-					} else {
-						return false;
+		if (!includesIllegalUse()) {
+			return false;
+		}
+		ComponentContext context = getContext(reference);
+		if (context == null) {
+			return false;
+		}
+		// problem detectors collect the references they consider
+		synchronized (context) {
+			IApiProblemDetector[] detectors = context.analyzer.getProblemDetectors(reference.getReferenceKind());
+			for (IApiProblemDetector detector : detectors) {
+				if (monitor.isCanceled()) {
+					break;
+				}
+				if (detector.considerReference(reference, monitor)) {
+					Reference ref = (Reference) reference;
+					ref.setFlags(IReference.F_ILLEGAL);
+					try {
+						IApiProblem pb = ((AbstractProblemDetector) detector).checkAndCreateProblem(reference, monitor);
+						if (pb != null && !isFiltered(context, pb)) {
+							ref.addProblems(pb);
+						} else {
+							return false;
+						}
+					} catch (CoreException e) {
+						ApiPlugin.log(e);
+						AbstractProblemDetector.checkIfDisposed(reference.getMember().getApiComponent(), monitor);
 					}
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-					AbstractProblemDetector.checkIfDisposed(reference.getMember().getApiComponent(), monitor);
+					return true;
 				}
-				return true;
 			}
 		}
 		return false;
@@ -263,8 +340,8 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 *
 	 * @return <code>true</code> is filtered, false otherwise
 	 */
-	boolean isFiltered(IApiProblem problem) {
-		return (currentStore != null && currentStore.isFiltered(problem)) || (antStore != null && antStore.isFiltered(problem));
+	boolean isFiltered(ComponentContext context, IApiProblem problem) {
+		return (context.store != null && context.store.isFiltered(problem)) || (context.antStore != null && context.antStore.isFiltered(problem));
 	}
 
 	@Override
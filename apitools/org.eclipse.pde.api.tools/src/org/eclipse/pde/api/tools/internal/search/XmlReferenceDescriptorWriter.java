@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -155,7 +155,7 @@ public class XmlReferenceDescriptorWriter {
 	 * @return the id to use for the component in the mapping, includes the
 	 *         version information as well
 	 */
-	private String getId(IComponentDescriptor component) {
+	static String getId(IComponentDescriptor component) {
 		return component.getId() + " (" + component.getVersion() + ')'; //$NON-NLS-1$
 	}
 
@@ -165,7 +165,7 @@ public class XmlReferenceDescriptorWriter {
 	 *
 	 * @return a formatted version of the references file name
 	 */
-	private String getFormattedTypeName(String groupname) {
+	static String getFormattedTypeName(String groupname) {
 		if (TYPE_REFERENCES.equals(groupname)) {
 			return "Types"; //$NON-NLS-1$
 		}
@@ -181,7 +181,7 @@ public class XmlReferenceDescriptorWriter {
 	/**
 	 * Returns the name for the file of references base on the given type
 	 */
-	private String getRefTypeName(int type) {
+	static String getRefTypeName(int type) {
 		return switch (type)
 			{
 			case IReference.T_TYPE_REFERENCE -> TYPE_REFERENCES;
@@ -396,7 +396,7 @@ public class XmlReferenceDescriptorWriter {
 	 *         <code>null</code>
 	 * @since 1.1
 	 */
-	String getText(Object[] array) {
+	static String getText(Object[] array) {
 		StringBuilder buffer = new StringBuilder();
 		for (int i = 0; i < array.length; i++) {
 			buffer.append(array[i].toString());
@@ -410,7 +410,7 @@ public class XmlReferenceDescriptorWriter {
 	/**
 	 * Returns the text to set in the attribute for the given {@link IApiMember}
 	 */
-	private String getText(IMemberDescriptor member) throws CoreException {
+	static String getText(IMemberDescriptor member) throws CoreException {
 		return switch (member.getElementType())
 			{
 			case IElementDescriptor.TYPE -> Signatures.getQualifiedTypeSignature((IReferenceTypeDescriptor) member);
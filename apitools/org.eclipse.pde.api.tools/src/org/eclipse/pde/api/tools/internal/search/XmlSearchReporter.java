@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,8 @@ package org.eclipse.pde.api.tools.internal.search;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
@@ -53,6 +52,11 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	private int illegalCount = 0;
 	private int internalCount = 0;
 
+	/**
+	 * Writers collecting the references of the elements being searched
+	 */
+	private final Map<IApiElement, StreamingXmlReferenceDescriptorWriter> fWriters = new LinkedHashMap<>();
+
 	/**
 	 * Constructor
 	 *
@@ -79,19 +83,15 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			// references
 			return;
 		}
-		// Use a hashset for counting to remove any duplicate references that
-		// the writer would remove
-		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
-		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
+		// references are only written once the element is done, the writer
+		// removes duplicate references of the element
+		StreamingXmlReferenceDescriptorWriter writer = fWriters.computeIfAbsent(element, e -> new StreamingXmlReferenceDescriptorWriter(fLocation));
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
 			try {
 				IReferenceDescriptor descriptor = reference.getReferenceDescriptor();
-				descriptors.add(descriptor);
-
 				// Update counters
-				if (!writtenReferences.contains(descriptor)) {
+				if (writer.add(descriptor)) {
 					referenceCount++;
 					if ((referenceInterface.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
 						illegalCount++;
@@ -102,15 +102,29 @@ public class XmlSearchReporter implements IApiSearchReporter {
 					if (descriptor.getVisibility() == VisibilityModifiers.PRIVATE) {
 						internalCount++;
 					}
-					writtenReferences.add(descriptor);
 				}
-
 			} catch (CoreException e) {
 				ApiPlugin.log(e.getStatus());
 			}
 		}
+	}
 
-		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+	@Override
+	public void endResults(IApiElement element) {
+		StreamingXmlReferenceDescriptorWriter writer = fWriters.remove(element);
+		if (writer != null) {
+			writer.write();
+		}
+	}
+
+	/**
+	 * Writes out the references of all elements that have not been ended yet
+	 */
+	private void flushResults() {
+		for (StreamingXmlReferenceDescriptorWriter writer : fWriters.values()) {
+			writer.write();
+		}
+		fWriters.clear();
 	}
 
 	/**
@@ -175,6 +189,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 
 	@Override
 	public void reportCounts() {
+		flushResults();
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
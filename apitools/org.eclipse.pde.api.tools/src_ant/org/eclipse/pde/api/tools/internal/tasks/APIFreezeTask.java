@@ -140,7 +140,7 @@ public class APIFreezeTask extends CommonUtilsTask {
 			time = System.currentTimeMillis();
 		}
 		try {
-			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, null);
+			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, this.parallelism, null);
 		} catch (CoreException e) {
 			// ignore
 		} finally {
@@ -417,4 +417,20 @@ public class APIFreezeTask extends CommonUtilsTask {
 			}
 		}
 	}
+
+	/**
+	 * Set the maximum number of API components that are compared at the same
+	 * time.
+	 * <p>
+	 * The value must be a positive integer. Default is <code>1</code>, which
+	 * means the components are compared one after the other. The generated
+	 * report is the same whatever the value is.
+	 * </p>
+	 *
+	 * @param parallelism the given parallelism level
+	 * @throws BuildException if the given value is not a positive integer
+	 */
+	public void setParallelism(String parallelism) {
+		this.parallelism = parseParallelism(parallelism);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,6 +116,22 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 		this.xsltFileLocation = xsltFileLocation;
 	}
 
+	/**
+	 * Set the number of threads used to parse the XML reports and to write the
+	 * HTML pages of the referenced bundles. The index pages are always written
+	 * once all bundles are converted.
+	 * <p>
+	 * The value must be a positive integer. Default is <code>1</code>, which
+	 * means the bundles are converted one after the other.
+	 * </p>
+	 *
+	 * @param parallelism the given number of threads
+	 * @throws BuildException if the given value is not a positive integer
+	 */
+	public void setParallelism(String parallelism) {
+		this.parallelism = parseParallelism(parallelism);
+	}
+
 	@Override
 	public void execute() throws BuildException {
 		if (this.debug) {
@@ -126,10 +142,12 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 			} else {
 				System.out.println("XSLT file location: " + this.xsltFileLocation); //$NON-NLS-1$}
 			}
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
 		}
 		try {
 			Util.delete(new File(this.htmlReportsLocation));
 			UseReportConverter converter = new UseReportConverter(this.htmlReportsLocation, this.xmlReportsLocation, this.toPatterns, this.filterPatterns);
+			converter.setParallelism(this.parallelism);
 			ApiPlugin.DEBUG_USE_REPORT_CONVERTER = this.debug;
 			converter.convert(this.xsltFileLocation, null);
 			File index = converter.getReportIndex();
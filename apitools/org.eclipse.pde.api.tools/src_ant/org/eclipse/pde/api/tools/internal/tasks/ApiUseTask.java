@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor
 import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.internal.util.FilteredElements;
@@ -269,6 +270,22 @@ public final class ApiUseTask extends CommonUtilsTask {
 		archivePatterns = parsePatterns(patterns);
 	}
 
+	/**
+	 * Set the number of threads used to extract references from the searched
+	 * bundles, and the number of threads used to resolve them. The report is
+	 * always written by a single thread.
+	 * <p>
+	 * The value must be a positive integer. Default is <code>1</code>, which
+	 * means the bundles are searched one after the other.
+	 * </p>
+	 *
+	 * @param parallelism the given number of threads
+	 * @throws BuildException if the given value is not a positive integer
+	 */
+	public void setParallelism(String parallelism) {
+		this.parallelism = parseParallelism(parallelism);
+	}
+
 	/**
 	 * @see org.eclipse.pde.api.tools.internal.tasks.UseTask#assertParameters()
 	 */
@@ -322,7 +339,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
-			engine.search(baseline, requestor, reporter, null);
+			engine.search(baseline, requestor, reporter, this.parallelism, null);
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -333,6 +350,22 @@ public final class ApiUseTask extends CommonUtilsTask {
 			reporter.reportNotSearched(this.notsearched.toArray(new IApiElement[this.notsearched.size()]));
 			reporter.reportMetadata(data);
 			reporter.reportCounts();
+			writeIndex();
+		}
+	}
+
+	/**
+	 * Writes the binary index of the references found by the scan, which is
+	 * used when the scan is consumed by the API tools builder
+	 */
+	private void writeIndex() {
+		if (this.debug) {
+			System.out.println("Writing index of the references..."); //$NON-NLS-1$
+		}
+		try {
+			UseScanIndex.write(this.reportLocation, null);
+		} catch (Exception e) {
+			ApiPlugin.log(e);
 		}
 	}
 
@@ -523,6 +556,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			} else {
 				System.out.println("Baseline pattern : " + this.referencepattern); //$NON-NLS-1$
 			}
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
 			System.out.println("-----------------------------------------------------------------------------------------------------"); //$NON-NLS-1$
 		}
 	}
@@ -56,6 +56,12 @@ public abstract class CommonUtilsTask extends Task {
 
 	protected String reportLocation;
 
+	/**
+	 * Maximum number of threads the task uses to process API components,
+	 * defaults to processing them one after the other
+	 */
+	protected int parallelism = 1;
+
 	/**
 	 * Creates a baseline with the given name and EE file location in the given
 	 * directory. The installLocation will be searched for bundles to add as API
@@ -92,6 +98,24 @@ public abstract class CommonUtilsTask extends Task {
 		}
 	}
 
+	/**
+	 * Parses the given parallelism value
+	 *
+	 * @return the number of threads to use, at least <code>1</code>
+	 * @throws BuildException if the given value is not a positive integer
+	 */
+	protected static int parseParallelism(String value) {
+		try {
+			int result = Integer.parseInt(value.trim());
+			if (result > 0) {
+				return result;
+			}
+		} catch (NumberFormatException e) {
+			// fall through
+		}
+		throw new BuildException(NLS.bind(Messages.invalidParallelism, value));
+	}
+
 	/**
 	 * Deletes an {@link IApiBaseline} from the given folder
 	 */
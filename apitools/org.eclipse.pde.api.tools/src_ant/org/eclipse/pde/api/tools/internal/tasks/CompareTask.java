@@ -65,6 +65,7 @@ public class CompareTask extends CommonUtilsTask {
 			System.out.println("Baseline to compare : " + this.currentBaselineLocation); //$NON-NLS-1$
 			System.out.println("Report location : " + this.reportLocation); //$NON-NLS-1$
 			System.out.println("Component's list : " + this.componentsList); //$NON-NLS-1$
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
 			if (this.excludeListLocation != null) {
 				System.out.println("exclude list location : " + this.excludeListLocation); //$NON-NLS-1$
 			} else {
@@ -142,7 +143,7 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false, this.parallelism, null);
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -369,4 +370,20 @@ public class CompareTask extends CommonUtilsTask {
 	public void setincludeList(String includeListLocation) {
 		this.includeListLocation = includeListLocation;
 	}
+
+	/**
+	 * Set the maximum number of API components that are compared at the same
+	 * time.
+	 * <p>
+	 * The value must be a positive integer. Default is <code>1</code>, which
+	 * means the components are compared one after the other. The generated
+	 * report is the same whatever the value is.
+	 * </p>
+	 *
+	 * @param parallelism the given parallelism level
+	 * @throws BuildException if the given value is not a positive integer
+	 */
+	public void setParallelism(String parallelism) {
+		this.parallelism = parseParallelism(parallelism);
+	}
 }
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.ExternalLibrary;
+
+/**
+ * Computes the entries of the {@link RequiredPluginsClasspathContainer}s of
+ * many projects at once, as when the target or a plug-in that many projects
+ * depend on has changed.
+ * <p>
+ * What only depends on a dependency and not on the project using it is
+ * computed once for all containers of the computation: the libraries of the
+ * external plug-ins. These results are only valid as long as the state is not
+ * resolved again, so they are dropped once the timestamp of the state has
+ * changed.
+ * </p>
+ * <p>
+ * The containers are computed one after the other on the calling thread, as
+ * they call {@link org.eclipse.pde.core.IClasspathContributor}s and extract
+ * nested libraries of external plug-ins, neither of which is required to be
+ * thread safe.
+ * </p>
+ */
+public final class ClasspathComputation {
+
+	private final State fState;
+
+	private final long fTimeStamp;
+
+	private final Map<IPluginModelBase, List<ExternalLibrary>> fExternalLibraries = new ConcurrentHashMap<>();
+
+	/**
+	 * @param state the resolved state the containers are computed from
+	 */
+	public ClasspathComputation(State state) {
+		fState = state;
+		fTimeStamp = state.getTimeStamp();
+	}
+
+	/**
+	 * @return whether the state has not been resolved again since the
+	 *         computation started
+	 */
+	private boolean isCurrent() {
+		if (fState.getTimeStamp() == fTimeStamp) {
+			return true;
+		}
+		fExternalLibraries.clear();
+		return false;
+	}
+
+	/**
+	 * Returns the libraries of the given external plug-in
+	 *
+	 * @param model an external plug-in
+	 * @return the libraries, must not be modified
+	 */
+	List<ExternalLibrary> getExternalLibraries(IPluginModelBase model) {
+		if (!isCurrent()) {
+			return PDEClasspathContainer.getExternalLibraries(model);
+		}
+		return fExternalLibraries.computeIfAbsent(model, PDEClasspathContainer::getExternalLibraries);
+	}
+
+	/**
+	 * Computes the entries of the given containers on the calling thread. The
+	 * containers computed before the monitor was cancelled keep their entries,
+	 * the others compute them when they are first asked for.
+	 *
+	 * @param containers the containers to compute
+	 * @param monitor progress monitor, may be <code>null</code>
+	 * @throws OperationCanceledException if the monitor was cancelled
+	 */
+	public static void computeEntries(IClasspathContainer[] containers, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, containers.length);
+		long start = System.currentTimeMillis();
+		for (IClasspathContainer container : containers) {
+			subMonitor.split(1);
+			container.getClasspathEntries();
+		}
+		if (PDECore.DEBUG_CLASSPATH) {
+			System.out.println("Computed " + containers.length + " classpath containers in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.datalocation.Location;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Cache of the manifest headers of bundle archives, persisted in the
+ * configuration area so it is shared by all workspaces of an installation.
+ * <p>
+ * An entry is keyed by the absolute path of the archive and is only used as
+ * long as the length and the modification time of the archive are the same as
+ * when its manifest was read. An archive modified less than
+ * {@link #MODIFICATION_TIME_RESOLUTION} milliseconds before its manifest is
+ * read is not cached, it could be rewritten with the same length and
+ * modification time. Bundles in directories are not cached, reading their
+ * manifest does not need to open an archive. The auxiliary data of the
+ * {@link PDEAuxiliaryState} of a bundle is computed from its manifest headers,
+ * so it is not stored separately.
+ * </p>
+ * <p>
+ * Saving the cache merges it with the entries saved by other workspaces in
+ * the meantime. Entries that have not been used for {@link #MAX_UNUSED_DAYS}
+ * days are dropped when the cache is saved. Setting the system property
+ * <code>pde.manifestCache</code> to <code>false</code> disables the cache.
+ * </p>
+ */
+public final class ManifestCache {
+
+	private static final String CACHE_FILE = "manifests.cache"; //$NON-NLS-1$
+
+	private static final String LOCK_FILE_SUFFIX = ".lock"; //$NON-NLS-1$
+
+	private static final int CACHE_VERSION = 1;
+
+	private static final long MAX_UNUSED_DAYS = 30;
+
+	/**
+	 * The coarsest resolution of file modification times, in milliseconds
+	 */
+	private static final long MODIFICATION_TIME_RESOLUTION = 2000;
+
+	private static final boolean ENABLED = !"false".equals(System.getProperty("pde.manifestCache")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static ManifestCache fgDefault;
+
+	/**
+	 * Serializes the saves of the caches of this process, the file lock only
+	 * excludes other processes
+	 */
+	private static final Object SAVE_LOCK = new Object();
+
+	/**
+	 * The manifest headers of an archive, as alternating names and values
+	 */
+	private static final class CachedManifest {
+		final long length;
+		final long lastModified;
+		final String[] headers;
+		volatile long lastUsed;
+
+		CachedManifest(long length, long lastModified, String[] headers, long lastUsed) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.headers = headers;
+			this.lastUsed = lastUsed;
+		}
+	}
+
+	private final File fFile;
+
+	private final Map<String, CachedManifest> fEntries = new ConcurrentHashMap<>();
+
+	private volatile boolean fDirty;
+
+	/**
+	 * Creates a cache persisted in the given file and reads the entries saved
+	 * in it
+	 *
+	 * @param file
+	 *            the file of the cache or <code>null</code> to disable the
+	 *            cache
+	 */
+	public ManifestCache(File file) {
+		fFile = file;
+		load();
+	}
+
+	/**
+	 * @return the cache of this installation
+	 */
+	public static synchronized ManifestCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new ManifestCache(getCacheFile());
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the file to persist the cache in, in the configuration area if it
+	 * is writable or in the state location of PDE otherwise, or
+	 * <code>null</code> if the cache is disabled.
+	 */
+	private static File getCacheFile() {
+		if (!ENABLED) {
+			return null;
+		}
+		Location configuration = Platform.getConfigurationLocation();
+		if (configuration != null && !configuration.isReadOnly() && configuration.getURL() != null) {
+			return new File(new File(configuration.getURL().getFile(), PDECore.PLUGIN_ID), CACHE_FILE);
+		}
+		return PDECore.getDefault().getStateLocation().append(CACHE_FILE).toFile();
+	}
+
+	/**
+	 * Returns the headers of the manifest of the given bundle as
+	 * {@link ManifestUtils#loadManifest(File)} does, reading it only if the
+	 * bundle is not an archive or has changed since it was cached. The
+	 * returned map may be modified by the caller.
+	 *
+	 * @param bundleLocation
+	 *            root location of the bundle, may be a archive file or
+	 *            directory
+	 * @return map of bundle manifest properties
+	 * @throws CoreException
+	 *             if the manifest could not be read
+	 */
+	public Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		if (fFile == null || !bundleLocation.isFile()) {
+			return ManifestUtils.loadManifest(bundleLocation);
+		}
+		String key = bundleLocation.getAbsolutePath();
+		long length = bundleLocation.length();
+		long lastModified = bundleLocation.lastModified();
+		CachedManifest cached = fEntries.get(key);
+		if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+			long now = System.currentTimeMillis();
+			if (now - cached.lastUsed > TimeUnit.DAYS.toMillis(1)) {
+				// persist the use so the entry does not expire
+				fDirty = true;
+			}
+			cached.lastUsed = now;
+			Map<String, String> manifest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+			for (int i = 0; i < cached.headers.length; i += 2) {
+				manifest.put(cached.headers[i], cached.headers[i + 1]);
+			}
+			return manifest;
+		}
+		long now = System.currentTimeMillis();
+		Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+		if (lastModified > now - MODIFICATION_TIME_RESOLUTION) {
+			// a rewrite could keep the length and the modification time
+			fEntries.remove(key);
+			return manifest;
+		}
+		String[] headers = new String[2 * manifest.size()];
+		int i = 0;
+		for (Entry<String, String> header : manifest.entrySet()) {
+			headers[i++] = header.getKey();
+			headers[i++] = header.getValue();
+		}
+		fEntries.put(key, new CachedManifest(length, lastModified, headers, now));
+		fDirty = true;
+		return manifest;
+	}
+
+	/**
+	 * Returns whether the manifest of the given bundle is cached and the
+	 * bundle has not changed since it was read
+	 *
+	 * @param bundleLocation
+	 *            root location of the bundle
+	 * @return <code>true</code> if the cached manifest of the bundle is used
+	 */
+	public boolean isCached(File bundleLocation) {
+		CachedManifest cached = fEntries.get(bundleLocation.getAbsolutePath());
+		return cached != null && cached.length == bundleLocation.length() && cached.lastModified == bundleLocation.lastModified();
+	}
+
+	private void load() {
+		fEntries.putAll(read());
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Read " + fEntries.size() + " cached manifests from " + fFile); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Returns the entries saved in the file of this cache
+	 */
+	private Map<String, CachedManifest> read() {
+		Map<String, CachedManifest> entries = new HashMap<>();
+		if (fFile == null || !fFile.isFile()) {
+			return entries;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fFile.toPath())))) {
+			if (in.readInt() != CACHE_VERSION) {
+				return entries;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String path = readString(in);
+				long length = in.readLong();
+				long lastModified = in.readLong();
+				long lastUsed = in.readLong();
+				String[] headers = new String[2 * in.readInt()];
+				for (int j = 0; j < headers.length; j++) {
+					headers[j] = readString(in);
+				}
+				entries.put(path, new CachedManifest(length, lastModified, headers, lastUsed));
+			}
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is dropped and rebuilt
+			entries.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Failed to read manifest cache " + fFile + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Adds the entries saved by other workspaces to this cache. An entry of
+	 * this cache is kept, its last use is updated if both entries are for the
+	 * same archive.
+	 */
+	private void merge(Map<String, CachedManifest> saved) {
+		for (Entry<String, CachedManifest> entry : saved.entrySet()) {
+			fEntries.merge(entry.getKey(), entry.getValue(), (cached, other) -> {
+				if (cached.length == other.length && cached.lastModified == other.lastModified) {
+					cached.lastUsed = Math.max(cached.lastUsed, other.lastUsed);
+				}
+				return cached;
+			});
+		}
+	}
+
+	/**
+	 * Writes the cache to disk if manifests have been read since it was last
+	 * saved, together with the entries saved by other workspaces since it was
+	 * read
+	 */
+	public synchronized void save() {
+		if (fFile == null || !fDirty) {
+			return;
+		}
+		fDirty = false;
+		Path directory = fFile.getParentFile().toPath();
+		synchronized (SAVE_LOCK) {
+			try {
+				Files.createDirectories(directory);
+				// other workspaces of the installation may save the cache at
+				// the same time
+				try (FileChannel channel = FileChannel.open(directory.resolve(CACHE_FILE + LOCK_FILE_SUFFIX), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+						FileLock lock = channel.lock()) {
+					merge(read());
+					long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_UNUSED_DAYS);
+					fEntries.values().removeIf(cached -> cached.lastUsed < oldest);
+					// write to a temporary file first, other workspaces may
+					// read the cache at the same time
+					Path temp = Files.createTempFile(directory, CACHE_FILE, null);
+					try {
+						write(temp);
+						Files.move(temp, fFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					} finally {
+						Files.deleteIfExists(temp);
+					}
+				}
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+		}
+	}
+
+	private void write(Path file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			Map<String, CachedManifest> entries = Map.copyOf(fEntries);
+			out.writeInt(CACHE_VERSION);
+			out.writeInt(entries.size());
+			for (Entry<String, CachedManifest> entry : entries.entrySet()) {
+				CachedManifest cached = entry.getValue();
+				writeString(out, entry.getKey());
+				out.writeLong(cached.length);
+				out.writeLong(cached.lastModified);
+				out.writeLong(cached.lastUsed);
+				out.writeInt(cached.headers.length / 2);
+				for (String header : cached.headers) {
+					writeString(out, header);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the given string as UTF-8, header values such as Export-Package
+	 * may be longer than {@link DataOutputStream#writeUTF(String)} allows
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
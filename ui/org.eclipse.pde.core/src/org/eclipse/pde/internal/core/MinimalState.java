@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -202,7 +202,19 @@ public class MinimalState {
 		return addBundle(bundleLocation, bundleId, manifest);
 	}
 
-	private BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
+	/**
+	 * Adds the bundle with the given manifest, as loaded by
+	 * {@link ManifestUtils#loadManifest(File)}, to this state.
+	 *
+	 * @param bundleLocation
+	 *            the location of the bundle
+	 * @param bundleId
+	 *            the id of the bundle or -1 to assign the next id
+	 * @param manifest
+	 *            the headers of the bundle manifest
+	 * @return the description of the added bundle or <code>null</code>
+	 */
+	protected BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
 			throws CoreException {
 		// update for development mode
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2012 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,13 @@ public class PDEClasspathContainer {
 		}
 	}
 
+	/**
+	 * A library of an external plug-in, the access rules are added by the
+	 * project using it
+	 */
+	static record ExternalLibrary(IPath path, IPath sourcePath, IClasspathAttribute[] attributes) {
+	}
+
 	private static final Map<IPath, IAccessRule> ACCESSIBLE_RULES = new ConcurrentHashMap<>();
 	private static final Map<IPath, IAccessRule> DISCOURAGED_RULES = new ConcurrentHashMap<>();
 
@@ -78,19 +85,38 @@ public class PDEClasspathContainer {
 	}
 
 	protected static void addExternalPlugin(IPluginModelBase model, List<Rule> rules, List<IClasspathEntry> entries) {
+		addExternalLibraries(getExternalLibraries(model), rules, entries);
+	}
+
+	protected static void addExternalLibraries(List<ExternalLibrary> libraries, List<Rule> rules,
+			List<IClasspathEntry> entries) {
+		for (ExternalLibrary library : libraries) {
+			addLibraryEntry(library.path(), library.sourcePath(), rules, library.attributes(), entries);
+		}
+	}
+
+	/**
+	 * Returns the libraries of the given external plug-in, which do not
+	 * depend on the project using the plug-in
+	 *
+	 * @param model an external plug-in
+	 * @return the libraries to add to the classpath for the plug-in
+	 */
+	static List<ExternalLibrary> getExternalLibraries(IPluginModelBase model) {
+		List<ExternalLibrary> result = new ArrayList<>();
 		boolean isJarShape = new File(model.getInstallLocation()).isFile();
 		if (isJarShape) {
 			IPath srcPath = ClasspathUtilCore.getSourceAnnotation(model, ".", isJarShape); //$NON-NLS-1$
 			if (srcPath == null) {
 				srcPath = IPath.fromOSString(model.getInstallLocation());
 			}
-			addLibraryEntry(IPath.fromOSString(model.getInstallLocation()), srcPath, rules, getClasspathAttributes(model), entries);
+			result.add(new ExternalLibrary(IPath.fromOSString(model.getInstallLocation()), srcPath, getClasspathAttributes(model)));
 
 			// If the jarred plugin contains any jarred libraries they must be extracted as the compiler can't handle nested jar files
 			File[] extractedLibraries = PDECore.getDefault().getModelManager().getExternalModelManager().getExtractedLibraries(model);
 			for (File libraryFile : extractedLibraries) {
 				IPath path = IPath.fromOSString(libraryFile.getAbsolutePath());
-				addLibraryEntry(path, path, rules, getClasspathAttributes(model), entries);
+				result.add(new ExternalLibrary(path, path, getClasspathAttributes(model)));
 			}
 		} else {
 			IPluginLibrary[] libraries = model.getPluginBase().getLibraries();
@@ -100,7 +126,7 @@ public class PDEClasspathContainer {
 				if (srcPath == null) {
 					srcPath = IPath.fromOSString(model.getInstallLocation());
 				}
-				addLibraryEntry(IPath.fromOSString(model.getInstallLocation()), srcPath, rules, getClasspathAttributes(model), entries);
+				result.add(new ExternalLibrary(IPath.fromOSString(model.getInstallLocation()), srcPath, getClasspathAttributes(model)));
 			} else {
 				for (IPluginLibrary library : libraries) {
 					if (IPluginLibrary.RESOURCE.equals(library.getType())) {
@@ -117,12 +143,13 @@ public class PDEClasspathContainer {
 						}
 					}
 					if (path != null) {
-						addLibraryEntry(path, ClasspathUtilCore.getSourceAnnotation(model, expandedName, isJarShape),
-								rules, getClasspathAttributes(model), entries);
+						result.add(new ExternalLibrary(path, ClasspathUtilCore.getSourceAnnotation(model, expandedName, isJarShape),
+								getClasspathAttributes(model)));
 					}
 				}
 			}
 		}
+		return result;
 	}
 
 	protected static void addLibraryEntry(IPath path, IPath srcPath, List<Rule> rules, IClasspathAttribute[] attributes,
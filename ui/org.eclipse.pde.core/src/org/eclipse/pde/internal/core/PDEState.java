@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,13 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -48,6 +51,22 @@ public class PDEState extends MinimalState {
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
 
+	/**
+	 * Location of each target bundle to the stamp of its manifest when it was
+	 * added to the state
+	 */
+	private final Map<String, Long> fTargetStamps = new HashMap<>();
+
+	/**
+	 * The target models removed from and added to the state by
+	 * {@link PDEState#updateTargetBundles(URI[], IProgressMonitor)}
+	 *
+	 * @param removed the models of bundles no longer in the target or changed
+	 * @param added the models of bundles new to the target or changed
+	 */
+	public record TargetDelta(IPluginModelBase[] removed, IPluginModelBase[] added) {
+	}
+
 	/**
 	 * Creates a new PDE State containing bundles from the given URLs.
 	 *
@@ -85,23 +104,173 @@ public class PDEState extends MinimalState {
 					.thenComparing(BaseDescription::getSupplier, HIGHER_LOCAL_VERSION_FIRST);
 			fState.getResolver().setSelectionPolicy(policy);
 		}
+		File[] files = Arrays.stream(uris).map(PDEState::toFile).filter(Objects::nonNull).toArray(File[]::new);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
+				2 * files.length);
+		for (LoadedManifest loaded : loadManifests(files, subMonitor.split(files.length))) {
+			subMonitor.subTask(loaded.file().getName());
+			addTargetBundle(loaded);
+			subMonitor.split(1);
+		}
+		ManifestCache.getDefault().save();
+	}
+
+	/**
+	 * Reads the manifests of the given bundles. Reading the manifests is most
+	 * of the work, so it is done in parallel, but the result is in the order
+	 * of the target so the bundles can be added with stable ids.
+	 */
+	private static LoadedManifest[] loadManifests(File[] files, SubMonitor monitor) {
+		monitor.setWorkRemaining(files.length);
+		return Arrays.stream(files).parallel().map(file -> {
+			synchronized (monitor) {
+				monitor.split(1);
 			}
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				return new LoadedManifest(file, ManifestCache.getDefault().loadManifest(file), null);
 			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+				return new LoadedManifest(file, null, e);
+			}
+		}).toArray(LoadedManifest[]::new);
+	}
+
+	/**
+	 * Adds the bundle of the given manifest to the state, logging the errors
+	 * of locations that are not bundles
+	 *
+	 * @return the added bundle or <code>null</code>
+	 */
+	private BundleDescription addTargetBundle(LoadedManifest loaded) {
+		try {
+			if (loaded.error() != null) {
+				throw loaded.error();
+			}
+			return addBundle(loaded.file(), -1, loaded.manifest());
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				PDECore.log(e);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Updates the target bundles of this state to the bundles at the given
+	 * locations. Bundles no longer in the target or whose manifest has changed
+	 * are removed from the state, bundles new to the target are added and the
+	 * descriptions of all other bundles are kept. An added bundle with the
+	 * same symbolic name and version as a target bundle already in the state
+	 * is dropped. The state is not resolved.
+	 * <p>
+	 * Nothing is changed and <code>null</code> is returned if the system
+	 * bundle is removed or added, since it determines the platform properties
+	 * of the state, or if most of the target has changed, in which case
+	 * creating a new state is faster.
+	 * </p>
+	 *
+	 * @param target urls of the new target bundles
+	 * @param monitor progress monitor
+	 * @return the target models that were removed and added or
+	 *         <code>null</code> if a new state has to be created
+	 */
+	public TargetDelta updateTargetBundles(URI[] target, IProgressMonitor monitor) {
+		Map<String, File> newFiles = new LinkedHashMap<>();
+		for (URI uri : target) {
+			File file = toFile(uri);
+			if (file != null) {
+				newFiles.put(file.getAbsolutePath(), file);
+			}
+		}
+		List<IPluginModelBase> removed = new ArrayList<>();
+		for (IPluginModelBase model : fTargetModels) {
+			String location = model.getBundleDescription().getLocation();
+			File file = newFiles.get(location);
+			if (file != null && getStamp(file).equals(fTargetStamps.get(location))) {
+				newFiles.remove(location);
+			} else {
+				removed.add(model);
+			}
+		}
+		// the locations still in the map are new or changed
+		File[] files = newFiles.values().toArray(File[]::new);
+		if (removed.size() + files.length > fTargetModels.size() / 2) {
+			return null;
+		}
+		for (IPluginModelBase model : removed) {
+			if (getSystemBundle().equals(model.getBundleDescription().getSymbolicName())) {
+				return null;
+			}
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
+				2 * files.length);
+		LoadedManifest[] manifests = loadManifests(files, subMonitor.split(files.length));
+		ManifestCache.getDefault().save();
+		for (LoadedManifest loaded : manifests) {
+			if (loaded.manifest() != null && "true".equals(loaded.manifest().get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
+				return null;
+			}
+		}
+
+		for (IPluginModelBase model : removed) {
+			BundleDescription desc = model.getBundleDescription();
+			removeBundleDescription(desc);
+			fAuxiliaryState.removeAuxiliaryData(desc.getBundleId());
+			fTargetStamps.remove(desc.getLocation());
+			fTargetModels.remove(model);
+		}
+		List<IPluginModelBase> added = new ArrayList<>();
+		for (LoadedManifest loaded : manifests) {
+			subMonitor.subTask(loaded.file().getName());
+			BundleDescription desc = addTargetBundle(loaded);
+			if (desc != null) {
+				if (isDuplicateTargetBundle(desc)) {
+					fState.removeBundle(desc);
+					fAuxiliaryState.removeAuxiliaryData(desc.getBundleId());
+				} else {
+					IPluginModelBase model = createExternalModel(desc);
+					fTargetModels.add(model);
+					added.add(model);
 				}
 			}
 			subMonitor.split(1);
 		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target state updated, " + removed.size() + " bundles removed, " + added.size() + " bundles added"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return new TargetDelta(removed.toArray(IPluginModelBase[]::new), added.toArray(IPluginModelBase[]::new));
+	}
+
+	private boolean isDuplicateTargetBundle(BundleDescription desc) {
+		for (IPluginModelBase model : fTargetModels) {
+			BundleDescription other = model.getBundleDescription();
+			if (desc.getSymbolicName() != null && desc.getSymbolicName().equals(other.getSymbolicName())
+					&& desc.getVersion().equals(other.getVersion())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a value that changes when the manifest of the bundle at the given
+	 * location changes
+	 */
+	private static Long getStamp(File location) {
+		if (location.isDirectory()) {
+			long stamp = 1;
+			for (String descriptor : new String[] { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+					ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR }) {
+				stamp = 31 * stamp + new File(location, descriptor).lastModified();
+			}
+			return Long.valueOf(stamp);
+		}
+		return Long.valueOf(31 * location.lastModified() + location.length());
+	}
+
+	/**
+	 * The manifest of a target bundle or the error that occurred reading it
+	 */
+	private record LoadedManifest(File file, Map<String, String> manifest, CoreException error) {
 	}
 
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
@@ -220,6 +389,7 @@ public class PDEState extends MinimalState {
 		model.load(desc, this);
 		model.setBundleDescription(desc);
 		model.setEnabled(true);
+		fTargetStamps.put(desc.getLocation(), getStamp(new File(desc.getLocation())));
 		return model;
 	}
 
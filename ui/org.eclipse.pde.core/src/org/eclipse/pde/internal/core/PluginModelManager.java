@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
@@ -62,17 +63,26 @@ import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.PDEState.TargetDelta;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.osgi.resource.Resource;
 
 public class PluginModelManager implements IModelProviderListener {
 	private static final String fExternalPluginListFile = "SavedExternalPluginList.txt"; //$NON-NLS-1$
+
+	/**
+	 * Whether a reloaded target updates the existing state instead of creating
+	 * a new one, can be disabled with the system property
+	 * <code>pde.incrementalTargetReload</code>
+	 */
+	private static final boolean INCREMENTAL_TARGET_RELOAD = !"false".equals(System.getProperty("pde.incrementalTargetReload")); //$NON-NLS-1$ //$NON-NLS-2$
 	private static PluginModelManager fModelManager;
 
 	/**
 	 * Job to update class path containers asynchronously. Avoids blocking the UI thread
 	 * while saving the manifest editor. The job is given a workspace lock so other jobs can't
-	 * run on a stale classpath.
+	 * run on a stale classpath. The entries of the queued containers are computed
+	 * together before they are set in one operation.
 	 */
 	class UpdateClasspathsJob extends Job {
 
@@ -90,6 +100,8 @@ public class PluginModelManager implements IModelProviderListener {
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
+			SubMonitor subMonitor = SubMonitor.convert(monitor);
+			boolean canceled = false;
 			try {
 				boolean more = false;
 				do {
@@ -101,7 +113,18 @@ public class PluginModelManager implements IModelProviderListener {
 						fProjects.clear();
 						fContainers.clear();
 					}
-					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
+					subMonitor.setWorkRemaining(2);
+					if (!canceled) {
+						try {
+							ClasspathComputation.computeEntries(containers, subMonitor.split(1));
+						} catch (OperationCanceledException e) {
+							canceled = true;
+						}
+					}
+					// the containers are set even when cancelled so no project keeps
+					// a stale classpath, JDT computes the missing entries on demand
+					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers,
+							canceled ? null : subMonitor.newChild(1));
 					synchronized (fProjects) {
 						more = !fProjects.isEmpty();
 					}
@@ -110,7 +133,7 @@ public class PluginModelManager implements IModelProviderListener {
 			} catch (JavaModelException e) {
 				return e.getStatus();
 			}
-			return Status.OK_STATUS;
+			return canceled ? Status.CANCEL_STATUS : Status.OK_STATUS;
 		}
 
 		/**
@@ -317,6 +340,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	private void updateAffectedEntries(StateDelta delta, boolean runAsynch) {
 		Map<IJavaProject, RequiredPluginsClasspathContainer> map = new HashMap<>();
+		// the containers share what they compute for their common dependencies
+		ClasspathComputation computation = new ClasspathComputation(fState.getState());
 		if (delta == null) {
 			// if the delta is null, then the entire target changed.
 			// Therefore, we should update the classpath for all workspace plug-ins.
@@ -325,7 +350,7 @@ public class PluginModelManager implements IModelProviderListener {
 				IProject project = model.getUnderlyingResource().getProject();
 				try {
 					if (project.hasNature(JavaCore.NATURE_ID)) {
-						map.put(JavaCore.create(project), new RequiredPluginsClasspathContainer(model, project));
+						map.put(JavaCore.create(project), new RequiredPluginsClasspathContainer(model, null, project, computation));
 					}
 				} catch (CoreException e) {
 				}
@@ -343,7 +368,7 @@ public class PluginModelManager implements IModelProviderListener {
 						if (project.hasNature(JavaCore.NATURE_ID)) {
 							IJavaProject jProject = JavaCore.create(project);
 							if (!map.containsKey(jProject)) {
-								map.put(jProject, new RequiredPluginsClasspathContainer(model, project));
+								map.put(jProject, new RequiredPluginsClasspathContainer(model, null, project, computation));
 							}
 						}
 					}
@@ -364,7 +389,7 @@ public class PluginModelManager implements IModelProviderListener {
 					}
 					IBuild build = ClasspathUtilCore.getBuild(model);
 					if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null) {
-						map.put(jProject, new RequiredPluginsClasspathContainer(model, build, project));
+						map.put(jProject, new RequiredPluginsClasspathContainer(model, build, project, computation));
 					}
 				} catch (CoreException e) {
 				}
@@ -529,7 +554,9 @@ public class PluginModelManager implements IModelProviderListener {
 	}
 
 	/**
-	 * Clears all existing models and recreates them
+	 * Clears all existing models and recreates them. The state is updated
+	 * with the target bundles that have changed if possible, so only the
+	 * projects affected by the changes get a classpath update.
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
@@ -601,7 +628,16 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		// If the target was reloaded, only update the bundles that have changed
+		// so the classpath of the projects not affected by the changes is kept
+		SubMonitor stateMonitor = subMon.split(15);
+		TargetDelta targetDelta = null;
+		if (oldState != null && !fCancelled && INCREMENTAL_TARGET_RELOAD) {
+			targetDelta = oldState.updateTargetBundles(externalUris, stateMonitor);
+		}
+		if (targetDelta == null) {
+			fState = new PDEState(externalUris, true, true, stateMonitor);
+		}
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -617,10 +653,21 @@ public class PluginModelManager implements IModelProviderListener {
 		IPluginModelBase[] models = fWorkspaceManager.getPluginModels();
 		addToTable(entries, models);
 		long startWorkspaceAdditions = System.currentTimeMillis();
-		// add workspace plug-ins to the state
-		// and remove their target counterparts from the state.
-		for (IPluginModelBase model : models) {
-			addWorkspaceBundleToState(entries, model);
+		if (targetDelta == null) {
+			// add workspace plug-ins to the state
+			// and remove their target counterparts from the state.
+			for (IPluginModelBase model : models) {
+				addWorkspaceBundleToState(entries, model);
+			}
+		} else {
+			// the workspace plug-ins are still in the updated state,
+			// only the added target counterparts have to be handled
+			for (IPluginModelBase model : targetDelta.added()) {
+				LocalModelEntry entry = entries.get(model.getPluginBase().getId());
+				if (entry != null && entry.hasWorkspaceModels()) {
+					updateExternalBundlesInState(new IPluginModelBase[] { model });
+				}
+			}
 		}
 		subMon.split(15);
 
@@ -630,19 +677,41 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		// Resolve the state for all external and workspace models
-		fState.resolveState(true);
+		StateDelta stateDelta = null;
+		if (targetDelta == null) {
+			fState.resolveState(true);
+		} else {
+			// re-resolve the bundles by the names of the changed target bundles
+			Set<String> changedBSNs = new HashSet<>();
+			for (IPluginModelBase model : targetDelta.removed()) {
+				changedBSNs.add(model.getBundleDescription().getSymbolicName());
+			}
+			for (IPluginModelBase model : targetDelta.added()) {
+				changedBSNs.add(model.getBundleDescription().getSymbolicName());
+			}
+			changedBSNs.remove(null);
+			if (changedBSNs.isEmpty()) {
+				stateDelta = fState.resolveState(true);
+			} else {
+				stateDelta = fState.resolveState(changedBSNs.toArray(new String[changedBSNs.size()]));
+			}
+		}
 		subMon.split(5);
 
 		fEntries = entries;
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
-		if (oldState != null) {
+		if (stateDelta != null) {
+			// Only update the classpath entries and touch the projects affected by the changed target bundles
+			updateAffectedEntries(stateDelta, true);
+			fireStateDelta(stateDelta);
+		} else if (oldState != null) {
 			// Need to update classpath entries
 			updateAffectedEntries(null, true);
 		}
 
 		// Fire a state change event to touch all projects if the target content has changed since last model init
-		if (externalPluginsChanged) {
+		if (externalPluginsChanged && stateDelta == null) {
 			fireStateChanged(fState);
 			if (PDECore.DEBUG_MODEL) {
 				System.out.println("Loaded target models differ from saved list, PDE builder will run on all projects."); //$NON-NLS-1$
@@ -745,17 +814,9 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		// update target models by the same ID from the state, if any
-		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
-		boolean preferWorkspaceBundle = prefs.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
 		ModelEntry entry = entries.get(id);
 		if (entry != null) {
-			for (IPluginModelBase externalModel : entry.getExternalModels()) {
-				if (preferWorkspaceBundle) {
-					fState.removeBundleDescription(externalModel.getBundleDescription());
-				} else {
-					fState.updateBundleDescription(externalModel.getBundleDescription());
-				}
-			}
+			updateExternalBundlesInState(entry.getExternalModels());
 		}
 
 		// add new bundle to the state
@@ -780,6 +841,25 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Removes the given target models from the state, or updates them if
+	 * workspace plug-ins do not override target plug-ins, since workspace
+	 * plug-ins by the same ID are in the state
+	 *
+	 * @param externalModels  target models that have workspace counterparts
+	 */
+	private void updateExternalBundlesInState(IPluginModelBase[] externalModels) {
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		boolean preferWorkspaceBundle = prefs.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+		for (IPluginModelBase externalModel : externalModels) {
+			if (preferWorkspaceBundle) {
+				fState.removeBundleDescription(externalModel.getBundleDescription());
+			} else {
+				fState.updateBundleDescription(externalModel.getBundleDescription());
+			}
+		}
+	}
+
 	// Cannot directly call ClasspathUtilCore.isPatchFragment(BundleDescription) since it would cause a loop in our initialization.
 	private boolean isPatchFragment(Map<String, LocalModelEntry> entries, BundleDescription desc) {
 		ModelEntry entry = entries.get(desc.getSymbolicName());
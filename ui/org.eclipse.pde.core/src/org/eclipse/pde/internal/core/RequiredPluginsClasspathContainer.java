@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -95,6 +95,12 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 
 	private final IProject project;
 
+	/**
+	 * The computation this container is part of, may be <code>null</code>.
+	 * Released once the entries are computed as it holds on to the state.
+	 */
+	private ClasspathComputation fComputation;
+
 	/**
 	 * Constructor for RequiredPluginsClasspathContainer.
 	 */
@@ -103,9 +109,19 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	public RequiredPluginsClasspathContainer(IPluginModelBase model, IBuild build, IProject project) {
+		this(model, build, project, null);
+	}
+
+	/**
+	 * Creates a container that shares the results which do not depend on the
+	 * project with the other containers of the given computation.
+	 */
+	public RequiredPluginsClasspathContainer(IPluginModelBase model, IBuild build, IProject project,
+			ClasspathComputation computation) {
 		fModel = model;
 		fBuild = build;
 		this.project = project;
+		fComputation = computation;
 	}
 
 	@Override
@@ -131,6 +147,7 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 			} else {
 				fEntries = computePluginEntriesByModel().toArray(IClasspathEntry[]::new);
 			}
+			fComputation = null;
 			if (PDECore.DEBUG_CLASSPATH) {
 				System.out.println("Dependencies for plugin '" + fModel.getPluginBase().getId() + "':"); //$NON-NLS-1$ //$NON-NLS-2$
 				for (IClasspathEntry entry : fEntries) {
@@ -437,6 +454,8 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 				.forEach(entries::add);
 		if (resource != null) {
 			addProjectEntry(resource.getProject(), rules, model.getPluginBase().exportsExternalAnnotations(), entries);
+		} else if (fComputation != null) {
+			addExternalLibraries(fComputation.getExternalLibraries(model), rules, entries);
 		} else {
 			addExternalPlugin(model, rules, entries);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -302,9 +302,9 @@ public class IUBundleContainer extends AbstractBundleContainer {
 		// query for bundles
 		IFileArtifactRepository artifacts = null;
 		try {
-			if (P2TargetUtils.fgTargetArtifactRepo.containsKey(target)) {
-				artifacts = P2TargetUtils.fgTargetArtifactRepo.get(target);
-			} else {
+			// the map may be cleared by the resolution of another target at any time
+			artifacts = P2TargetUtils.fgTargetArtifactRepo.get(target);
+			if (artifacts == null) {
 				artifacts = P2TargetUtils.getBundlePool();
 				P2TargetUtils.fgTargetArtifactRepo.put(target, artifacts);
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,12 +27,16 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.ParserConfigurationException;
@@ -44,6 +48,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.variables.IStringVariableManager;
@@ -118,7 +123,7 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -126,6 +131,13 @@ public class TargetDefinition implements ITargetDefinition {
 
 	private int fSequenceNumber = -1;
 
+	/**
+	 * Whether independent target locations are resolved concurrently, can be
+	 * disabled with the system property
+	 * <code>pde.concurrentTargetResolution</code>
+	 */
+	private static final boolean CONCURRENT_RESOLUTION = !"false".equals(System.getProperty("pde.concurrentTargetResolution")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/**
 	 * Constructs a target definition based on the given handle.
 	 */
@@ -370,49 +382,55 @@ public class TargetDefinition implements ITargetDefinition {
 			return fResolutionStatus = Status.OK_STATUS;
 		}
 		fResolutionStatus = null;
-		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
+		// the usual target definition locations and the p2 synchronizers that
+		// do not need them are independent and resolved at the same time,
+		// the synchronizers using the planner add the usual locations to the
+		// profile and have to wait for them
+		List<Function<IProgressMonitor, List<IStatus>>> independent = new ArrayList<>();
+		List<Function<IProgressMonitor, List<IStatus>>> dependent = new ArrayList<>();
+		Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
+		for (ITargetLocation location : targetLocations) {
+			P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
+			if (synchronizer == null) {
+				// a usual target definition location
+				independent.add(m -> {
+					IStatus s = location.resolve(this, m);
+					return s.isOK() ? List.of() : List.of(s);
+				});
+			} else {
+				// has to be performed later on in a separate batch
+				synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
+			}
+		}
+		for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
+			Function<IProgressMonitor, List<IStatus>> synchronize = m -> {
+				try {
+					entry.getKey().synchronize(this, m);
+					return entry.getValue().stream().map(loc -> loc.getStatus()).filter(Objects::nonNull)
+							.filter(s -> !s.isOK()).toList();
+				} catch (CoreException e) {
+					PDECore.log(e.getStatus());
+					return List.of(e.getStatus());
+				}
+			};
+			(entry.getKey().getIncludeAllRequired() ? dependent : independent).add(synchronize);
+		}
+		List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream).toList();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1,
+				(independent.size() + dependent.size()) * 100 + delayedLocations.size());
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
-			for (ITargetLocation location : targetLocations) {
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			resolveLocations(independent, subMonitor.split(independent.size() * 100)).forEach(status::add);
+			resolveLocations(dependent, subMonitor.split(dependent.size() * 100)).forEach(status::add);
+			for (ITargetLocation location : delayedLocations) {
 				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
-				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
-				if (synchronizer == null) {
-					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
-				} else {
-					// has to be performed later on in a separate batch
-					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
-				}
-			}
-			if (!synchronizers.isEmpty()) {
-				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
-						.toList();
-				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
-				for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
-					subMonitor.checkCanceled();
-					try {
-						entry.getKey().synchronize(this, subMonitor.split(100));
-						entry.getValue().stream().map(loc -> loc.getStatus()).filter(Objects::nonNull)
-								.filter(s -> !s.isOK()).forEach(status::add);
-					} catch (CoreException e) {
-						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
-					}
-				}
-				for (ITargetLocation location : delayedLocations) {
-					subMonitor.checkCanceled();
-					IStatus s = location.resolve(this, subMonitor.split(1));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+				IStatus s = location.resolve(this, subMonitor.split(1));
+				if (!s.isOK()) {
+					status.add(s);
 				}
 			}
 			if (status.isOK()) {
@@ -428,6 +446,85 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Runs the given resolutions, concurrently unless
+	 * {@link #CONCURRENT_RESOLUTION} is disabled. Each resolution is given
+	 * 100 ticks of the given monitor.
+	 *
+	 * @return the problems reported by the resolutions in the order of the
+	 *         resolutions
+	 * @throws OperationCanceledException if the monitor was cancelled
+	 */
+	private static List<IStatus> resolveLocations(List<Function<IProgressMonitor, List<IStatus>>> resolutions,
+			SubMonitor monitor) {
+		Stream<Function<IProgressMonitor, List<IStatus>>> stream = resolutions.stream();
+		if (CONCURRENT_RESOLUTION && resolutions.size() > 1) {
+			stream = stream.parallel();
+		}
+		return stream.map(resolution -> {
+			monitor.checkCanceled();
+			return resolution.apply(new LocationProgressMonitor(monitor, 100));
+		}).flatMap(List::stream).toList();
+	}
+
+	/**
+	 * Monitor of the resolution of one location, reports the progress of the
+	 * location as a share of the ticks of a monitor that is used by the
+	 * locations resolved at the same time
+	 */
+	private static final class LocationProgressMonitor extends ProgressMonitorWrapper {
+
+		private final int fTicks;
+		private double fTotalWork;
+		private double fReported;
+
+		LocationProgressMonitor(SubMonitor shared, int ticks) {
+			super(shared);
+			fTicks = ticks;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fTotalWork = totalWork;
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			if (fTotalWork <= 0 || fReported >= fTicks) {
+				return;
+			}
+			double ticks = Math.min(work * fTicks / fTotalWork, fTicks - fReported);
+			fReported += ticks;
+			IProgressMonitor shared = getWrappedProgressMonitor();
+			synchronized (shared) {
+				shared.internalWorked(ticks);
+			}
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public void setTaskName(String name) {
+			// the shared monitor keeps the name of the target resolution
+		}
+
+		@Override
+		public void subTask(String name) {
+			IProgressMonitor shared = getWrappedProgressMonitor();
+			synchronized (shared) {
+				shared.subTask(name);
+			}
+		}
+
+		@Override
+		public void done() {
+			internalWorked(fTotalWork);
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.classpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IBundleClasspathEntry;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.core.project.IBundleProjectService;
+import org.eclipse.pde.core.project.IPackageExportDescription;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.ClasspathComputation;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.RequiredPluginsClasspathContainer;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests computing the classpath containers of several projects together with
+ * a {@link ClasspathComputation}
+ */
+public class ClasspathComputationTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static IProject createProject(String name, IPackageExportDescription[] exports,
+			IRequiredBundleDescription[] required) throws CoreException {
+		return ProjectUtils.createPluginProject(name, name, "1.0.0", (description, service) -> {
+			description.setBundleClasspath(new IBundleClasspathEntry[] {
+					service.newBundleClasspathEntry(IPath.fromOSString("src"), null, IPath.fromOSString(".")) });
+			description.setPackageExports(exports);
+			description.setRequiredBundles(required);
+		});
+	}
+
+	/**
+	 * Creates the bundle "a" exporting an API package, an internal package and
+	 * a package for the friend "b", and the bundles "b" and "c" requiring it
+	 */
+	private static IProject[] createProjects() throws CoreException {
+		IBundleProjectService service = ProjectCreationTests.getBundleProjectService();
+		IProject a = createProject("a", new IPackageExportDescription[] { //
+				service.newPackageExport("a.api", null, true, null),
+				service.newPackageExport("a.internal", null, false, null),
+				service.newPackageExport("a.friend", null, false, new String[] { "b" }) }, null);
+		IRequiredBundleDescription[] required = { service.newRequiredBundle("a", null, false, false) };
+		IProject b = createProject("b", null, required);
+		IProject c = createProject("c", null, required);
+		TestUtils.waitForJobs("ClasspathComputationTest.createProjects", 100, 10000);
+		return new IProject[] { a, b, c };
+	}
+
+	private static IAccessRule[] getAccessRules(IClasspathEntry[] entries, IProject project) {
+		for (IClasspathEntry entry : entries) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_PROJECT && entry.getPath().equals(project.getFullPath())) {
+				return entry.getAccessRules();
+			}
+		}
+		fail("Missing classpath entry of " + project.getName());
+		return null;
+	}
+
+	private static int getKind(IAccessRule[] rules, String pattern) {
+		for (IAccessRule rule : rules) {
+			if (rule.getPattern().toString().equals(pattern)) {
+				return rule.getKind();
+			}
+		}
+		fail("Missing access rule " + pattern + " in " + Arrays.toString(rules));
+		return -1;
+	}
+
+	@Test
+	public void testSharedComputation() throws Exception {
+		IProject[] projects = createProjects();
+		ClasspathComputation computation = new ClasspathComputation(
+				PDECore.getDefault().getModelManager().getState().getState());
+		IClasspathEntry[][] entries = new IClasspathEntry[3][];
+		for (int i = 1; i < projects.length; i++) {
+			IProject project = projects[i];
+			IPluginModelBase model = PluginRegistry.findModel(project);
+			assertNotNull("Missing model of " + project.getName(), model);
+			IClasspathEntry[] expected = new RequiredPluginsClasspathContainer(model, project).getClasspathEntries();
+			entries[i] = new RequiredPluginsClasspathContainer(model, null, project, computation)
+					.getClasspathEntries();
+			assertArrayEquals("The shared computation must not change the entries of " + project.getName(), expected,
+					entries[i]);
+		}
+		// the rules of friend packages are not shared
+		IAccessRule[] rulesOfB = getAccessRules(entries[1], projects[0]);
+		IAccessRule[] rulesOfC = getAccessRules(entries[2], projects[0]);
+		assertEquals("Wrong access to the API package", IAccessRule.K_ACCESSIBLE, getKind(rulesOfC, "a/api/*"));
+		assertEquals("Wrong access to the internal package", IAccessRule.K_DISCOURAGED,
+				getKind(rulesOfB, "a/internal/*"));
+		assertEquals("Wrong access of a friend", IAccessRule.K_ACCESSIBLE, getKind(rulesOfB, "a/friend/*"));
+		assertEquals("Wrong access of a non-friend", IAccessRule.K_DISCOURAGED, getKind(rulesOfC, "a/friend/*"));
+	}
+
+	@Test
+	public void testUpdateDependentProjects() throws Exception {
+		IProject[] projects = createProjects();
+		IBundleProjectService service = ProjectCreationTests.getBundleProjectService();
+		IBundleProjectDescription description = service.getDescription(projects[0]);
+		List<IPackageExportDescription> exports = new ArrayList<>(Arrays.asList(description.getPackageExports()));
+		exports.add(service.newPackageExport("a.added", null, true, null));
+		description.setPackageExports(exports.toArray(IPackageExportDescription[]::new));
+		description.apply(null);
+		TestUtils.waitForJobs("ClasspathComputationTest.testUpdateDependentProjects", 100, 10000);
+
+		// the containers of all dependent projects are updated together
+		for (int i = 1; i < projects.length; i++) {
+			IClasspathContainer container = JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+					JavaCore.create(projects[i]));
+			assertNotNull("Missing classpath container of " + projects[i].getName(), container);
+			IAccessRule[] rules = getAccessRules(container.getClasspathEntries(), projects[0]);
+			assertEquals("The new export must be accessible to " + projects[i].getName(), IAccessRule.K_ACCESSIBLE,
+					getKind(rules, "a/added/*"));
+		}
+	}
+
+	/**
+	 * A container counting how often its entries are computed
+	 */
+	private static class TestContainer implements IClasspathContainer {
+		final List<Thread> computed = new ArrayList<>();
+		private final Runnable onCompute;
+
+		TestContainer(Runnable onCompute) {
+			this.onCompute = onCompute;
+		}
+
+		@Override
+		public IClasspathEntry[] getClasspathEntries() {
+			computed.add(Thread.currentThread());
+			onCompute.run();
+			return new IClasspathEntry[0];
+		}
+
+		@Override
+		public String getDescription() {
+			return "test";
+		}
+
+		@Override
+		public int getKind() {
+			return K_APPLICATION;
+		}
+
+		@Override
+		public IPath getPath() {
+			return PDECore.REQUIRED_PLUGINS_CONTAINER_PATH;
+		}
+	}
+
+	@Test
+	public void testComputeEntries() {
+		TestContainer[] containers = new TestContainer[10];
+		for (int i = 0; i < containers.length; i++) {
+			containers[i] = new TestContainer(() -> {
+			});
+		}
+		ClasspathComputation.computeEntries(containers, new NullProgressMonitor());
+		for (TestContainer container : containers) {
+			assertEquals("The entries must be computed once on the calling thread", List.of(Thread.currentThread()),
+					container.computed);
+		}
+	}
+
+	@Test
+	public void testComputeEntriesCanceled() {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		TestContainer first = new TestContainer(() -> monitor.setCanceled(true));
+		TestContainer second = new TestContainer(() -> {
+		});
+		try {
+			ClasspathComputation.computeEntries(new IClasspathContainer[] { first, second }, monitor);
+			fail("The computation must be cancelled");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		assertEquals("The first container must be computed", 1, first.computed.size());
+		assertEquals("The containers after the cancellation must not be computed", 0, second.computed.size());
+	}
+}
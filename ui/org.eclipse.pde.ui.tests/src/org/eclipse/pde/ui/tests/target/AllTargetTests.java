@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ TargetEnvironmentTestCase.class, //
 		TargetPlatformHelperTests.class, //
+		ManifestCacheTests.class, //
+		PDEStateTests.class, //
 		LocalTargetDefinitionTests.class, //
 		WorkspaceTargetDefinitionTests.class, //
 		TargetDefinitionPersistenceTests.class, //
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.pde.internal.core.ManifestCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests the {@link ManifestCache}
+ */
+public class ManifestCacheTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File cacheFile;
+
+	@Before
+	public void setUp() {
+		cacheFile = new File(folder.getRoot(), "manifests.cache");
+	}
+
+	/**
+	 * Writes a bundle with the given symbolic name and version. An old bundle
+	 * was modified long enough ago for its manifest to be cached.
+	 */
+	private static void writeBundle(File file, String symbolicName, String version, boolean old) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		try (OutputStream out = Files.newOutputStream(file.toPath()); JarOutputStream jar = new JarOutputStream(out, manifest)) {
+			// the manifest is all that is needed
+		}
+		if (old) {
+			assertTrue("Failed to set the modification time of " + file,
+					file.setLastModified(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1)));
+		}
+	}
+
+	@Test
+	public void testCachedManifestIsACopy() throws Exception {
+		ManifestCache cache = new ManifestCache(cacheFile);
+		File bundle = new File(folder.getRoot(), "a.jar");
+		writeBundle(bundle, "a", "1.0.0", true);
+		Map<String, String> manifest = cache.loadManifest(bundle);
+		assertEquals("Wrong symbolic name", "a", manifest.get(Constants.BUNDLE_SYMBOLICNAME));
+		manifest.put("X-Added", "true");
+		assertTrue("The manifest of an unchanged archive must be cached", cache.isCached(bundle));
+
+		Map<String, String> cached = cache.loadManifest(bundle);
+		assertEquals("Wrong cached symbolic name", "a", cached.get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals("The cached headers must be case insensitive", "1.0.0", cached.get("bundle-version"));
+		assertNull("A header added to a returned manifest must not be cached", cached.get("X-Added"));
+	}
+
+	@Test
+	public void testChangedBundleIsRead() throws Exception {
+		ManifestCache cache = new ManifestCache(cacheFile);
+		File bundle = new File(folder.getRoot(), "b.jar");
+		writeBundle(bundle, "b", "1.0.0", true);
+		assertEquals("Wrong version", "1.0.0", cache.loadManifest(bundle).get(Constants.BUNDLE_VERSION));
+
+		writeBundle(bundle, "b", "2.0.0.qualifier", false);
+		assertFalse("A changed archive must not use the cached manifest", cache.isCached(bundle));
+		assertEquals("The manifest of a changed archive must be read", "2.0.0.qualifier",
+				cache.loadManifest(bundle).get(Constants.BUNDLE_VERSION));
+	}
+
+	/**
+	 * Tests that an archive that was just modified is not cached, as it could
+	 * be rewritten with the same length within the resolution of the
+	 * modification time
+	 */
+	@Test
+	public void testRecentlyModifiedBundleIsNotCached() throws Exception {
+		ManifestCache cache = new ManifestCache(cacheFile);
+		File bundle = new File(folder.getRoot(), "c.jar");
+		writeBundle(bundle, "c", "1.0.0", false);
+		long lastModified = bundle.lastModified();
+		assertEquals("Wrong version", "1.0.0", cache.loadManifest(bundle).get(Constants.BUNDLE_VERSION));
+		assertFalse("A recently modified archive must not be cached", cache.isCached(bundle));
+
+		long length = bundle.length();
+		writeBundle(bundle, "c", "1.0.1", false);
+		assertTrue("Failed to restore the modification time of " + bundle, bundle.setLastModified(lastModified));
+		assertEquals("The rewritten archive must have the same length", length, bundle.length());
+		assertEquals("The manifest of the rewritten archive must be read", "1.0.1",
+				cache.loadManifest(bundle).get(Constants.BUNDLE_VERSION));
+	}
+
+	@Test
+	public void testSavedCacheIsRead() throws Exception {
+		ManifestCache cache = new ManifestCache(cacheFile);
+		File bundle = new File(folder.getRoot(), "d.jar");
+		writeBundle(bundle, "d", "1.0.0", true);
+		cache.loadManifest(bundle);
+		cache.save();
+		assertTrue("The cache must be saved", cacheFile.isFile());
+
+		ManifestCache restored = new ManifestCache(cacheFile);
+		assertTrue("The saved manifest must be cached", restored.isCached(bundle));
+		assertEquals("Wrong restored symbolic name", "d", restored.loadManifest(bundle).get(Constants.BUNDLE_SYMBOLICNAME));
+	}
+
+	/**
+	 * Tests that saving a cache keeps the entries saved by another workspace
+	 * since the cache was read
+	 */
+	@Test
+	public void testConcurrentSavesAreMerged() throws Exception {
+		ManifestCache first = new ManifestCache(cacheFile);
+		ManifestCache second = new ManifestCache(cacheFile);
+		File bundleE = new File(folder.getRoot(), "e.jar");
+		writeBundle(bundleE, "e", "1.0.0", true);
+		File bundleF = new File(folder.getRoot(), "f.jar");
+		writeBundle(bundleF, "f", "1.0.0", true);
+
+		first.loadManifest(bundleE);
+		first.save();
+		second.loadManifest(bundleF);
+		second.save();
+
+		ManifestCache restored = new ManifestCache(cacheFile);
+		assertTrue("The entry saved by the first cache must be kept", restored.isCached(bundleE));
+		assertTrue("The entry saved by the second cache must be saved", restored.isCached(bundleF));
+		assertTrue("The entries saved by the first cache must be merged", second.isCached(bundleE));
+	}
+
+	@Test
+	public void testDisabledCache() throws Exception {
+		ManifestCache cache = new ManifestCache(null);
+		File bundle = new File(folder.getRoot(), "g.jar");
+		writeBundle(bundle, "g", "1.0.0", true);
+		assertEquals("Wrong symbolic name", "g", cache.loadManifest(bundle).get(Constants.BUNDLE_SYMBOLICNAME));
+		assertFalse("A disabled cache must not cache manifests", cache.isCached(bundle));
+	}
+}
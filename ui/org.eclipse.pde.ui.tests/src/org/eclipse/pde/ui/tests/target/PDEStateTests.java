@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.PDEState.TargetDelta;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests updating the target bundles of a {@link PDEState}
+ */
+public class PDEStateTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private URI createBundle(String symbolicName, String version) throws IOException {
+		File file = new File(folder.getRoot(), symbolicName + "_" + version + ".jar");
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		try (OutputStream out = Files.newOutputStream(file.toPath()); JarOutputStream jar = new JarOutputStream(out, manifest)) {
+			// the manifest is all that is needed
+		}
+		return file.toURI();
+	}
+
+	private static String[] getIds(IPluginModelBase[] models) {
+		return Arrays.stream(models).map(model -> model.getPluginBase().getId()).sorted().toArray(String[]::new);
+	}
+
+	@Test
+	public void testUpdateTargetBundles() throws Exception {
+		URI a = createBundle("a", "1.0.0");
+		URI b = createBundle("b", "1.0.0");
+		URI c = createBundle("c", "1.0.0");
+		URI d = createBundle("d", "1.0.0");
+		PDEState state = new PDEState(new URI[] { a, b, c, d }, true, true, new NullProgressMonitor());
+		long idOfA = state.getState().getBundle("a", null).getBundleId();
+
+		URI e = createBundle("e", "1.0.0");
+		TargetDelta delta = state.updateTargetBundles(new URI[] { a, b, c, e }, new NullProgressMonitor());
+		assertNotNull(delta);
+		assertArrayEquals(new String[] { "d" }, getIds(delta.removed()));
+		assertArrayEquals(new String[] { "e" }, getIds(delta.added()));
+		assertArrayEquals(new String[] { "a", "b", "c", "e" }, getIds(state.getTargetModels()));
+		assertNull(state.getState().getBundle("d", null));
+		assertNotNull(state.getState().getBundle("e", null));
+		// unchanged bundles are kept
+		assertEquals(idOfA, state.getState().getBundle("a", null).getBundleId());
+	}
+
+	@Test
+	public void testUpdateDuplicateTargetBundle() throws Exception {
+		URI a = createBundle("a", "1.0.0");
+		URI b = createBundle("b", "1.0.0");
+		URI c = createBundle("c", "1.0.0");
+		PDEState state = new PDEState(new URI[] { a, b, c }, true, true, new NullProgressMonitor());
+
+		File copy = folder.newFolder("copy");
+		File duplicate = new File(copy, "a.jar");
+		Files.copy(new File(a), duplicate.toPath());
+		TargetDelta delta = state.updateTargetBundles(new URI[] { a, b, c, duplicate.toURI() }, new NullProgressMonitor());
+		assertNotNull(delta);
+		assertEquals(0, delta.added().length);
+		assertEquals(1, state.getState().getBundles("a").length);
+	}
+
+	@Test
+	public void testUpdateChangedTarget() throws Exception {
+		URI a = createBundle("a", "1.0.0");
+		URI b = createBundle("b", "1.0.0");
+		PDEState state = new PDEState(new URI[] { a, b }, true, true, new NullProgressMonitor());
+
+		// most of the target has changed, a new state has to be created
+		URI c = createBundle("c", "1.0.0");
+		assertNull(state.updateTargetBundles(new URI[] { c }, new NullProgressMonitor()));
+		assertArrayEquals(new String[] { "a", "b" }, getIds(state.getTargetModels()));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,33 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 		}
 	}
 
+	/**
+	 * Tests that the problems of locations that are resolved at the same time
+	 * are reported in the order of the locations.
+	 */
+	@Test
+	public void testResolutionStatusOrder() throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation[] locations = new ITargetLocation[6];
+		for (int i = 0; i < locations.length; i++) {
+			if (i % 2 == 0) {
+				locations[i] = getTargetService().newDirectoryLocation("***SHOULD NOT EXIST " + i + "***");
+			} else {
+				locations[i] = getTargetService().newDirectoryLocation(TargetPlatform.getDefaultLocation() + "/plugins");
+			}
+		}
+		definition.setTargetLocations(locations);
+		IStatus status = definition.resolve(null);
+		IStatus[] children = status.getChildren();
+		assertEquals("Wrong number of children", 3, children.length);
+		for (int i = 0; i < children.length; i++) {
+			assertTrue("Wrong order of problems", children[i].getMessage().contains("SHOULD NOT EXIST " + 2 * i));
+		}
+		for (ITargetLocation location : locations) {
+			assertTrue(location.isResolved());
+		}
+	}
+
 	/**
 	 * Tests that if we find a bundle with a bad or missing manifest when
 	 * resolving we create the correct status.